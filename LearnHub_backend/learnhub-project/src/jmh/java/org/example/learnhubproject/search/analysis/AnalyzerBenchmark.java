@@ -0,0 +1,56 @@
+package org.example.learnhubproject.search.analysis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석기 처리량 벤치마크 (색인 시 문서 한 건, 검색 시 질의 한 건 기준)
+ * 실행: ./gradlew jmh (-prof gc 옵션으로 할당량 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnalyzerBenchmark {
+
+    private static final String DOCUMENT = "Spring Boot 3.x에서 JPA N+1 문제를 해결하는 방법 - fetch join과 "
+            + "@EntityGraph, 배치 사이즈 설정을 비교하고 실무에서 자주 쓰이는 패턴을 정리했습니다. "
+            + "https://docs.spring.io/spring-data/jpa/reference";
+
+    private static final String QUERY = "스프링부트 JPA 성능";
+
+    private static final String FULLWIDTH = "Ｓｐｒｉｎｇ　Ｂｏｏｔ　입문";
+
+    @Benchmark
+    public void analyzeDocument(Blackhole blackhole) {
+        Analyzers.KOREAN.analyze(DOCUMENT, token -> blackhole.consume(token.length()));
+    }
+
+    @Benchmark
+    public void analyzeQuery(Blackhole blackhole) {
+        Analyzers.KOREAN.analyze(QUERY, token -> blackhole.consume(token.length()));
+    }
+
+    @Benchmark
+    public void analyzeNonNormalized(Blackhole blackhole) {
+        Analyzers.KOREAN.analyze(FULLWIDTH, token -> blackhole.consume(token.length()));
+    }
+
+    @Benchmark
+    public Object termsDocument() {
+        return Analyzers.KOREAN.terms(DOCUMENT);
+    }
+
+    @Benchmark
+    public void whitespaceSplitBaseline(Blackhole blackhole) {
+        for (String token : DOCUMENT.toLowerCase().split("\\s+")) {
+            blackhole.consume(token);
+        }
+    }
+}
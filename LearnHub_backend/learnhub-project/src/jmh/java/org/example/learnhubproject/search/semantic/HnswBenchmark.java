@@ -0,0 +1,114 @@
+package org.example.learnhubproject.search.semantic;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 의미 검색 벤치마크: 임베딩 생성, 그래프 구축, HNSW 질의 vs 전수 비교
+ * 실행: ./gradlew jmh -Pjmh.includes=HnswBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HnswBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private float[][] data;
+    private float[][] queries;
+    private VectorStore store;
+    private HnswGraph graph;
+    private HashingEmbedder embedder;
+    private SearchDocument document;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        int dimension = HashingEmbedder.DEFAULT_DIMENSION;
+        float[][] centers = new float[50][];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = unit(random, new float[dimension], 1);
+        }
+        data = new float[size][];
+        for (int i = 0; i < size; i++) {
+            data[i] = unit(random, centers[i % centers.length], 0.05f);
+        }
+        queries = new float[256][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = unit(random, centers[random.nextInt(centers.length)], 0.05f);
+        }
+        store = new VectorStore(dimension, size);
+        graph = build(store);
+
+        embedder = HashingEmbedder.withGlossary(dimension, Map.of("Hibernate", "Java ORM 프레임워크"));
+        document = new SearchDocument(1L, null, null, "Spring Boot에서 Hibernate 2차 캐시 설정하기", null,
+                "Hibernate second-level cache", "JPA 성능 튜닝 가이드", null, List.of("JPA", "Spring"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HnswGraph buildGraph() {
+        return build(new VectorStore(HashingEmbedder.DEFAULT_DIMENSION, size));
+    }
+
+    @Benchmark
+    public HnswGraph.Result queryHnsw() {
+        return graph.search(nextQuery(), 10, UserVectorIndex.EF_SEARCH, node -> true);
+    }
+
+    @Benchmark
+    public int queryBruteForce() {
+        float[] query = nextQuery();
+        NeighborQueue top = new NeighborQueue(10, false);
+        for (int node = 0; node < store.size(); node++) {
+            top.insertWithOverflow(node, store.dot(node, query), 10);
+        }
+        return top.topNode();
+    }
+
+    @Benchmark
+    public float[] embedDocument() {
+        return embedder.embed(document);
+    }
+
+    private HnswGraph build(VectorStore target) {
+        HnswGraph built = new HnswGraph(target, HnswGraph.DEFAULT_M, HnswGraph.DEFAULT_EF_CONSTRUCTION, 42);
+        for (float[] vector : data) {
+            built.add(target.add(vector));
+        }
+        return built;
+    }
+
+    private float[] nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+
+    private static float[] unit(Random random, float[] center, float noise) {
+        float[] vector = new float[center.length];
+        double norm = 0;
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = center[i] + (float) random.nextGaussian() * noise;
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.learnhubproject.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 블로킹 I/O(Jsoup 스크래핑, Gemini API 호출) 전용 Executor 설정
+ *
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상이면 가상 스레드를 사용하고,
+ * 그 외에는 크기가 제한된 플랫폼 스레드 풀을 사용합니다.
+ * 이 외의 백그라운드 실행은 @Scheduled 작업뿐이며, 같은 속성으로 Spring Boot가 스케줄러를 가상 스레드로 바꾸므로 따로 정의하지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${learnhub.executor.blocking-io.max-concurrency:32}")
+    private int maxConcurrency;
+
+    @Bean(name = "blockingIoExecutor")
+    public AsyncTaskExecutor blockingIoExecutor() {
+        if (virtualThreadsEnabled && Runtime.version().feature() >= 21) {
+            log.info("blockingIoExecutor: 가상 스레드 모드 (최대 동시 실행 {})", maxConcurrency);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-io-");
+            executor.setVirtualThreads(true);
+            // 가상 스레드는 개수 제한이 없으므로 외부 API 보호를 위해 동시 실행 수를 제한
+            executor.setConcurrencyLimit(maxConcurrency);
+            return executor;
+        }
+
+        if (virtualThreadsEnabled) {
+            log.warn("가상 스레드는 Java 21 이상에서만 지원됩니다. 플랫폼 스레드 풀을 사용합니다 (현재: Java {})",
+                    Runtime.version().feature());
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("blocking-io-");
+        executor.setCorePoolSize(Math.min(8, maxConcurrency));
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(100);
+        return executor;
+    }
+}
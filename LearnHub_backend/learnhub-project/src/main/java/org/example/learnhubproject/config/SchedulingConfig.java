@@ -0,0 +1,13 @@
+package org.example.learnhubproject.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * 현재 작업: 검색 색인 스냅샷 저장과 북마크 변경 로그 정리 ({@code learnhub.search.snapshot.*})
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
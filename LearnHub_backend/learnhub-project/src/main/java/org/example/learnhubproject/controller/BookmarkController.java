@@ -6,6 +6,12 @@ import jakarta.validation.Valid;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.example.learnhubproject.dto.*;
+import org.example.learnhubproject.dto.response.BookmarkResponse;
+import org.example.learnhubproject.dto.response.BulkBookmarkResponse;
+import org.example.learnhubproject.dto.response.BulkTagResponse;
+import org.example.learnhubproject.dto.response.CursorPageResponse;
+import org.example.learnhubproject.dto.response.FacetResponse;
+import org.example.learnhubproject.dto.response.RankedSearchResponse;
 import org.example.learnhubproject.entity.Bookmark;
 import org.example.learnhubproject.entity.User;
 import org.example.learnhubproject.service.AIAnalysisService;
@@ -126,54 +132,143 @@ public class BookmarkController {
 
     @GetMapping
     @Operation(summary = "내 북마크 조회", description = "현재 로그인한 사용자의 모든 북마크를 조회합니다. sort 파라미터로 정렬 가능 (latest: 최신순, oldest: 오래된순, title: 제목순)")
-    public ResponseEntity<List<Bookmark>> getMyBookmarks(
+    public ResponseEntity<List<BookmarkResponse>> getMyBookmarks(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false, defaultValue = "latest") String sort) {
         // JWT에서 추출한 email(username)로 User 조회
         User user = userService.findByEmail(userDetails.getUsername());
-        List<Bookmark> bookmarks = bookmarkService.findByUserIdSorted(user.getId(), sort);
+        List<BookmarkResponse> bookmarks = bookmarkService.findByUserIdSorted(user.getId(), sort);
         return ResponseEntity.ok(bookmarks);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "내 북마크 페이지 조회", description = "커서 기반으로 북마크를 size개씩 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다")
+    public ResponseEntity<CursorPageResponse<BookmarkResponse>> getMyBookmarkPage(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.findPageByUserId(user.getId(), sort, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "북마크 조회", description = "ID로 북마크를 조회합니다")
-    public ResponseEntity<Bookmark> getBookmark(
+    public ResponseEntity<BookmarkResponse> getBookmark(
             @AuthenticationPrincipal UserDetails userDetails,
             @PathVariable Long id) {
         User user = userService.findByEmail(userDetails.getUsername());
-        Bookmark bookmark = bookmarkService.findByIdWithAuth(id, user.getId());
+        BookmarkResponse bookmark = bookmarkService.findDetail(id, user.getId());
         return ResponseEntity.ok(bookmark);
     }
 
+    @GetMapping("/{id}/related")
+    @Operation(summary = "관련 북마크 조회", description = "태그와 제목 단어가 많이 겹치는 내 북마크를 유사도순으로 조회합니다")
+    public ResponseEntity<List<BookmarkResponse>> getRelatedBookmarks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "5") Integer limit) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.findRelated(id, user.getId(), limit));
+    }
+
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "카테고리별 북마크 조회", description = "특정 카테고리의 모든 북마크를 조회합니다")
-    public ResponseEntity<List<Bookmark>> getBookmarksByCategory(
+    public ResponseEntity<List<BookmarkResponse>> getBookmarksByCategory(
             @AuthenticationPrincipal UserDetails userDetails,
             @PathVariable Long categoryId) {
         User user = userService.findByEmail(userDetails.getUsername());
-        List<Bookmark> bookmarks = bookmarkService.findByUserIdAndCategoryId(user.getId(), categoryId);
+        List<BookmarkResponse> bookmarks = bookmarkService.findByUserIdAndCategoryId(user.getId(), categoryId);
         return ResponseEntity.ok(bookmarks);
     }
 
+    @GetMapping("/category/{categoryId}/page")
+    @Operation(summary = "카테고리별 북마크 페이지 조회", description = "특정 카테고리의 북마크를 커서 기반으로 조회합니다")
+    public ResponseEntity<CursorPageResponse<BookmarkResponse>> getBookmarkPageByCategory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long categoryId,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.findPageByUserIdAndCategoryId(
+                user.getId(), categoryId, sort, cursor, size));
+    }
+
     @GetMapping("/search")
     @Operation(summary = "북마크 검색", description = "제목 또는 설명으로 북마크를 검색합니다")
-    public ResponseEntity<List<Bookmark>> searchBookmarks(
+    public ResponseEntity<List<BookmarkResponse>> searchBookmarks(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam String keyword) {
         // JWT에서 추출한 email(username)로 User 조회
         User user = userService.findByEmail(userDetails.getUsername());
-        List<Bookmark> bookmarks = bookmarkService.searchByKeyword(user.getId(), keyword);
+        List<BookmarkResponse> bookmarks = bookmarkService.searchByKeyword(user.getId(), keyword);
         return ResponseEntity.ok(bookmarks);
     }
 
+    @GetMapping("/search/ranked")
+    @Operation(summary = "북마크 관련도순 검색", description = "검색 결과를 관련도(필드 가중치 + 최신 가산점)순으로 페이지 조회합니다")
+    public ResponseEntity<RankedSearchResponse> searchBookmarksRanked(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false, defaultValue = "false") boolean includeFacets,
+            @RequestParam(required = false, defaultValue = "false") boolean highlight) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.searchRanked(
+                user.getId(), keyword, page, size, includeFacets, highlight));
+    }
+
+    @GetMapping("/search/semantic")
+    @Operation(summary = "북마크 의미 검색", description = "표현이 달라도 뜻이 가까운 북마크를 유사도순으로 조회합니다 (로컬 임베딩, 외부 호출 없음)")
+    public ResponseEntity<RankedSearchResponse> searchBookmarksSemantic(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "10") Integer size) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.searchSemantic(user.getId(), keyword, size));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "북마크 패싯 집계", description = "검색 결과(검색어가 없으면 전체 북마크)의 태그/카테고리/생성 월별 개수를 조회합니다")
+    public ResponseEntity<FacetResponse> getFacets(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String keyword) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.findFacets(user.getId(), keyword));
+    }
+
+    @GetMapping("/search/page")
+    @Operation(summary = "북마크 검색 페이지 조회", description = "검색 결과를 최신순으로 커서 기반 조회합니다")
+    public ResponseEntity<CursorPageResponse<BookmarkResponse>> searchBookmarkPage(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.searchPage(user.getId(), keyword, cursor, size));
+    }
+
     @GetMapping("/tag/{tagId}")
     @Operation(summary = "태그별 북마크 조회", description = "특정 태그가 달린 북마크를 조회합니다")
-    public ResponseEntity<List<Bookmark>> getBookmarksByTag(
+    public ResponseEntity<List<BookmarkResponse>> getBookmarksByTag(
             @AuthenticationPrincipal UserDetails userDetails,
             @PathVariable Long tagId) {
         // JWT에서 추출한 email(username)로 User 조회
         User user = userService.findByEmail(userDetails.getUsername());
-        List<Bookmark> bookmarks = bookmarkService.findByTagId(user.getId(), tagId);
+        List<BookmarkResponse> bookmarks = bookmarkService.findByTagId(user.getId(), tagId);
+        return ResponseEntity.ok(bookmarks);
+    }
+
+    @GetMapping("/tags")
+    @Operation(summary = "다중 태그 필터 조회", description = "여러 태그로 북마크를 필터링합니다 (tags=a,b,c). match=all이면 모든 태그를, any면 하나 이상의 태그를 가진 북마크를 조회합니다")
+    public ResponseEntity<List<BookmarkResponse>> getBookmarksByTags(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam List<String> tags,
+            @RequestParam(required = false, defaultValue = "all") String match) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        List<BookmarkResponse> bookmarks = bookmarkService.findByTagNames(user.getId(), tags, match);
         return ResponseEntity.ok(bookmarks);
     }
 
@@ -276,6 +371,70 @@ public class BookmarkController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk/tags")
+    @Operation(summary = "태그 일괄 추가",
+            description = "여러 북마크(bookmarkIds 또는 categoryId)에 태그를 추가합니다. 이미 붙은 태그는 건너뜁니다")
+    public ResponseEntity<BulkTagResponse> addTags(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkTagRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.addTags(
+                user.getId(), request.getBookmarkIds(), request.getCategoryId(), request.getTags()));
+    }
+
+    @PostMapping("/bulk/tags/remove")
+    @Operation(summary = "태그 일괄 제거", description = "여러 북마크(bookmarkIds 또는 categoryId)에서 태그를 제거합니다")
+    public ResponseEntity<BulkTagResponse> removeTags(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkTagRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.removeTags(
+                user.getId(), request.getBookmarkIds(), request.getCategoryId(), request.getTags()));
+    }
+
+    @PutMapping("/bulk/tags")
+    @Operation(summary = "태그 일괄 교체",
+            description = "여러 북마크(bookmarkIds 또는 categoryId)의 태그를 지정한 목록으로 교체합니다 (빈 목록이면 모두 제거)")
+    public ResponseEntity<BulkTagResponse> replaceTags(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkTagRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.replaceTags(
+                user.getId(), request.getBookmarkIds(), request.getCategoryId(), request.getTags()));
+    }
+
+    @PostMapping("/bulk/move")
+    @Operation(summary = "북마크 일괄 이동",
+            description = "여러 북마크(bookmarkIds 또는 categoryId)를 targetCategoryId로 이동합니다. 북마크별 결과를 반환합니다")
+    public ResponseEntity<BulkBookmarkResponse> moveBookmarks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkBookmarkRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.moveBulk(
+                user.getId(), request.getBookmarkIds(), request.getCategoryId(), request.getTargetCategoryId()));
+    }
+
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "북마크 일괄 삭제",
+            description = "여러 북마크(bookmarkIds 또는 categoryId)를 태그 연결/복습 기록과 함께 삭제합니다. 북마크별 결과를 반환합니다")
+    public ResponseEntity<BulkBookmarkResponse> deleteBookmarks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkBookmarkRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.deleteBulk(
+                user.getId(), request.getBookmarkIds(), request.getCategoryId()));
+    }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "북마크 일괄 수정",
+            description = "여러 북마크의 제목/설명/썸네일을 수정합니다 (지정하지 않은 필드는 유지). 북마크별 결과를 반환합니다")
+    public ResponseEntity<BulkBookmarkResponse> updateBookmarks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody BulkBookmarkUpdateRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(bookmarkService.updateBulk(user.getId(), request.getItems()));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "북마크 삭제", description = "북마크를 삭제합니다")
     public ResponseEntity<Void> deleteBookmark(
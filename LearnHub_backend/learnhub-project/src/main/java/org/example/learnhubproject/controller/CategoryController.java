@@ -6,6 +6,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.example.learnhubproject.dto.CategoryRequest;
+import org.example.learnhubproject.dto.response.CategoryCountResponse;
 import org.example.learnhubproject.entity.Category;
 import org.example.learnhubproject.entity.User;
 import org.example.learnhubproject.service.CategoryService;
@@ -93,12 +94,13 @@ public class CategoryController {
     }
 
     @GetMapping
-    @Operation(summary = "내 카테고리 조회", description = "현재 로그인한 사용자의 모든 카테고리를 조회합니다")
-    public ResponseEntity<List<Category>> getMyCategories(
+    @Operation(summary = "내 카테고리 조회",
+            description = "현재 로그인한 사용자의 모든 카테고리를 카테고리별 북마크 수, 최근 북마크 시각과 함께 조회합니다")
+    public ResponseEntity<List<CategoryCountResponse>> getMyCategories(
             @AuthenticationPrincipal UserDetails userDetails) {
         // JWT에서 추출한 email(username)로 User 조회
         User user = userService.findByEmail(userDetails.getUsername());
-        List<Category> categories = categoryService.findByUserId(user.getId());
+        List<CategoryCountResponse> categories = categoryService.findWithCountsByUserId(user.getId());
         return ResponseEntity.ok(categories);
     }
 
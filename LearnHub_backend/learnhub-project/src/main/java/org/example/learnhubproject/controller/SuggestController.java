@@ -0,0 +1,38 @@
+package org.example.learnhubproject.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.learnhubproject.entity.User;
+import org.example.learnhubproject.search.suggest.Suggestion;
+import org.example.learnhubproject.search.suggest.SuggestIndex;
+import org.example.learnhubproject.service.UserService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+@Tag(name = "Suggest", description = "검색어 자동완성 API")
+public class SuggestController {
+
+    private final SuggestIndex suggestIndex;
+    private final UserService userService;
+
+    @GetMapping
+    @Operation(summary = "검색어 자동완성", description = "내 북마크 제목/태그와 전체 태그/기술 용어에서 접두어가 일치하는 후보를 인기도순으로 조회합니다 (최대 10개)")
+    public ResponseEntity<List<Suggestion>> suggest(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(suggestIndex.suggest(user.getId(), q, limit));
+    }
+}
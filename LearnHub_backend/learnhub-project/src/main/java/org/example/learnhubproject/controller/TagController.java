@@ -2,9 +2,18 @@ package org.example.learnhubproject.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.learnhubproject.dto.TagMergeRequest;
+import org.example.learnhubproject.dto.TagRequest;
+import org.example.learnhubproject.dto.response.TagCountResponse;
+import org.example.learnhubproject.dto.response.TagResponse;
+import org.example.learnhubproject.entity.User;
 import org.example.learnhubproject.service.TagService;
+import org.example.learnhubproject.service.UserService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,6 +25,7 @@ import java.util.List;
 public class TagController {
 
     private final TagService tagService;
+    private final UserService userService;
 
     @PostMapping
     @Operation(summary = "태그 생성", description = "새로운 태그를 생성합니다")
@@ -32,13 +42,19 @@ public class TagController {
     }
 
     @GetMapping("/popular")
-    @Operation(summary = "인기 태그 조회", description = "사용 빈도가 높은 태그를 조회합니다 (최대 20개)")
-    public ResponseEntity<List<org.example.learnhubproject.entity.Tag>> getPopularTags(
-            @RequestParam(defaultValue = "20") int limit) {
-        List<org.example.learnhubproject.entity.Tag> tags = tagService.findTopPopularTags(limit);
+    @Operation(summary = "인기 태그 조회", description = "사용 빈도가 높은 태그를 조회합니다 (기본 20개, 최대 100개)")
+    public ResponseEntity<List<TagResponse>> getPopularTags(@RequestParam(defaultValue = "20") int limit) {
+        List<TagResponse> tags = tagService.findTopPopularTags(limit);
         return ResponseEntity.ok(tags);
     }
 
+    @GetMapping("/mine")
+    @Operation(summary = "내 태그 통계", description = "내 북마크에 사용한 태그별 북마크 수를 많은 순으로 조회합니다 (태그 클라우드/사이드바용)")
+    public ResponseEntity<List<TagCountResponse>> getMyTags(@AuthenticationPrincipal UserDetails userDetails) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(tagService.findMine(user.getId()));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "태그 조회", description = "ID로 태그를 조회합니다")
     public ResponseEntity<org.example.learnhubproject.entity.Tag> getTag(@PathVariable Long id) {
@@ -53,6 +69,26 @@ public class TagController {
         return ResponseEntity.ok(tag);
     }
 
+    @PutMapping("/{id}")
+    @Operation(summary = "내 태그 이름 변경", description = "내 북마크에 달린 태그를 새 이름의 태그로 바꿉니다 (없으면 생성, 다른 사용자의 북마크는 그대로)")
+    public ResponseEntity<TagResponse> renameTag(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id,
+            @Valid @RequestBody TagRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(tagService.rename(user.getId(), id, request.getTagName()));
+    }
+
+    @PostMapping("/{id}/merge")
+    @Operation(summary = "내 태그 병합", description = "내 북마크에 달린 sourceIds 태그를 이 태그로 옮깁니다 (이미 두 태그가 모두 달린 북마크는 하나로 합침, 원본 태그는 유지)")
+    public ResponseEntity<TagResponse> mergeTags(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id,
+            @Valid @RequestBody TagMergeRequest request) {
+        User user = userService.findByEmail(userDetails.getUsername());
+        return ResponseEntity.ok(tagService.merge(user.getId(), request.getSourceIds(), id));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "태그 삭제", description = "태그를 삭제합니다")
     public ResponseEntity<Void> deleteTag(@PathVariable Long id) {
@@ -0,0 +1,26 @@
+package org.example.learnhubproject.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 여러 북마크 일괄 이동/삭제 요청
+ * 대상은 bookmarkIds 또는 categoryId(카테고리의 모든 북마크) 중 하나로 지정
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkBookmarkRequest {
+
+    @Size(max = 1000, message = "북마크는 한 번에 최대 1000개까지 지정할 수 있습니다")
+    private List<@NotNull Long> bookmarkIds;
+
+    private Long categoryId;
+
+    // 이동할 카테고리 (이동 요청에서만 사용)
+    private Long targetCategoryId;
+}
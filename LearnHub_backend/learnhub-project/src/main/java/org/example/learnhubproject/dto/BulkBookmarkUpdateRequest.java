@@ -0,0 +1,46 @@
+package org.example.learnhubproject.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 여러 북마크 일괄 수정 요청 (항목마다 바꿀 필드만 지정, null은 유지)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkBookmarkUpdateRequest {
+
+    @NotEmpty(message = "수정할 북마크를 하나 이상 지정해주세요")
+    @Size(max = 1000, message = "북마크는 한 번에 최대 1000개까지 수정할 수 있습니다")
+    private List<@Valid @NotNull Item> items;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        @NotNull(message = "북마크 ID는 필수입니다")
+        private Long id;
+
+        @Size(max = 200, message = "제목은 200자 이하여야 합니다")
+        private String title;
+
+        @Size(max = 1000, message = "설명은 1000자 이하여야 합니다")
+        private String description;
+
+        @Pattern(
+            regexp = "^(https?://)[a-zA-Z0-9\\-._~:/?#\\[\\]@!$&'()*+,;=%]+$",
+            message = "유효한 URL 형식이어야 합니다"
+        )
+        @Size(max = 2048, message = "썸네일 URL은 2048자 이하여야 합니다")
+        private String thumbnailUrl;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.learnhubproject.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 여러 북마크 일괄 태그 작업 요청
+ * 대상은 bookmarkIds 또는 categoryId(카테고리의 모든 북마크) 중 하나로 지정
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTagRequest {
+
+    @Size(max = 1000, message = "북마크는 한 번에 최대 1000개까지 지정할 수 있습니다")
+    private List<@NotNull Long> bookmarkIds;
+
+    private Long categoryId;
+
+    @NotNull(message = "태그 목록은 필수입니다")
+    @Size(max = 10, message = "태그는 최대 10개까지 지정할 수 있습니다")
+    private List<@NotBlank @Size(max = 30, message = "태그는 30자 이하여야 합니다") String> tags;
+}
@@ -0,0 +1,21 @@
+package org.example.learnhubproject.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 태그 병합 요청 (내 북마크에 달린 sourceIds 태그를 대상 태그로 옮김)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagMergeRequest {
+
+    @NotEmpty(message = "병합할 태그를 하나 이상 지정해주세요")
+    @Size(max = 100, message = "태그는 한 번에 최대 100개까지 병합할 수 있습니다")
+    private List<@NotNull Long> sourceIds;
+}
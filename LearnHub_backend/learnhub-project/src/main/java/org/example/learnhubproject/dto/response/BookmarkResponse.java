@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.learnhubproject.entity.Bookmark;
 import org.example.learnhubproject.entity.BookmarkTag;
+import org.example.learnhubproject.repository.projection.BookmarkRow;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,4 +47,26 @@ public class BookmarkResponse {
                 .createdAt(bookmark.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 프로젝션 행으로부터 생성 (엔티티/지연 로딩 없이 매핑)
+     */
+    public static BookmarkResponse from(BookmarkRow row, List<TagResponse> tags) {
+        return BookmarkResponse.builder()
+                .id(row.id())
+                .url(row.url())
+                .title(row.title())
+                .description(row.description())
+                .thumbnailUrl(row.s3ThumbnailUrl())
+                .imageUrl(row.imageUrl())
+                .metaTitle(row.metaTitle())
+                .metaDescription(row.metaDescription())
+                .category(CategoryResponse.builder()
+                        .id(row.categoryId())
+                        .name(row.categoryName())
+                        .build())
+                .tags(tags)
+                .createdAt(row.createdAt())
+                .build();
+    }
 }
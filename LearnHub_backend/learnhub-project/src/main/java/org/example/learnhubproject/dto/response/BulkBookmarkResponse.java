@@ -0,0 +1,35 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 이동/삭제/수정 결과 (요청한 북마크마다 처리 결과)
+ * 없거나 다른 사용자의 북마크는 존재 여부를 드러내지 않도록 모두 NOT_FOUND로 응답합니다
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookmarkResponse {
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    public enum Status {
+        MOVED, DELETED, UPDATED, NOT_FOUND
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long id;
+        private Status status;
+    }
+}
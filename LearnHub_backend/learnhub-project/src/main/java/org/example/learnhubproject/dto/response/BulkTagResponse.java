@@ -0,0 +1,19 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 태그 작업 결과 (대상 북마크 수, 실제로 추가/제거된 연결 수)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTagResponse {
+    private int bookmarkCount;
+    private long added;
+    private long removed;
+}
@@ -0,0 +1,36 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.learnhubproject.repository.projection.CategoryCountRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리와 북마크 수 (카테고리 목록/사이드바)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryCountResponse {
+    private Long id;
+    private String name;
+    private Boolean isDefault;
+    private LocalDateTime createdAt;
+    private long bookmarkCount;
+    private LocalDateTime latestBookmarkAt;
+
+    public static CategoryCountResponse from(CategoryCountRow row) {
+        return CategoryCountResponse.builder()
+                .id(row.id())
+                .name(row.name())
+                .isDefault(row.isDefault())
+                .createdAt(row.createdAt())
+                .bookmarkCount(row.bookmarkCount())
+                .latestBookmarkAt(row.latestBookmarkAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달하면 이어서 조회됩니다 (마지막 페이지면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
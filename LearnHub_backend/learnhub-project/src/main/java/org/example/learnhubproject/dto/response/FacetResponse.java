@@ -0,0 +1,97 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.learnhubproject.repository.projection.FacetRow;
+import org.example.learnhubproject.search.FacetCounts;
+import org.example.learnhubproject.util.NameNormalizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색/목록 결과의 패싯 집계 응답
+ * 태그와 카테고리는 개수 내림차순, 생성 월은 최신 월부터 정렬합니다
+ * (월 항목의 id는 yyyyMM, name은 "yyyy-MM" / 태그는 이름으로 필터하므로 id 없음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetResponse {
+    private List<FacetCount> tags;
+    private List<FacetCount> categories;
+    private List<FacetCount> months;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private Long id;
+        private String name;
+        private long count;
+    }
+
+    private static final Comparator<FacetCount> BY_COUNT = Comparator.comparingLong(FacetCount::getCount).reversed()
+            .thenComparing(FacetCount::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<FacetCount> BY_MONTH_DESC = Comparator.comparing(FacetCount::getId).reversed();
+
+    public static FacetResponse empty() {
+        return new FacetResponse(List.of(), List.of(), List.of());
+    }
+
+    /**
+     * 검색 색인 집계 결과로 생성
+     * @param categoryNames 카테고리 ID → 이름
+     */
+    public static FacetResponse from(FacetCounts counts, Map<Long, String> categoryNames) {
+        List<FacetCount> tags = new ArrayList<>();
+        counts.tags().forEach((name, count) -> tags.add(new FacetCount(null, name, count)));
+        List<FacetCount> categories = new ArrayList<>();
+        counts.categories().forEach((id, count) -> categories.add(new FacetCount(id, categoryNames.get(id), count)));
+        List<FacetCount> months = new ArrayList<>();
+        counts.months().forEach((month, count) -> months.add(month(month, count)));
+        return sorted(tags, categories, months);
+    }
+
+    /**
+     * DB 집계 행으로 생성
+     */
+    public static FacetResponse from(List<FacetRow> rows) {
+        // 색인과 같이 대소문자/전각 차이만 있는 태그는 하나로 합산 (tag: 필터와 같은 기준)
+        Map<String, FacetCount> tagsByName = new LinkedHashMap<>();
+        List<FacetCount> categories = new ArrayList<>();
+        List<FacetCount> months = new ArrayList<>();
+        for (FacetRow row : rows) {
+            long kind = row.getKind();
+            if (kind == FacetRow.KIND_TAG) {
+                FacetCount tag = tagsByName.computeIfAbsent(NameNormalizer.normalize(row.getName()),
+                        name -> new FacetCount(null, row.getName(), 0));
+                tag.setCount(tag.getCount() + row.getCnt());
+            } else if (kind == FacetRow.KIND_CATEGORY) {
+                categories.add(new FacetCount(row.getId(), row.getName(), row.getCnt()));
+            } else if (kind == FacetRow.KIND_MONTH) {
+                months.add(month(row.getId().intValue(), row.getCnt()));
+            }
+        }
+        return sorted(new ArrayList<>(tagsByName.values()), categories, months);
+    }
+
+    private static FacetCount month(int yearMonth, long count) {
+        String name = String.format("%04d-%02d", yearMonth / 100, yearMonth % 100);
+        return new FacetCount((long) yearMonth, name, count);
+    }
+
+    private static FacetResponse sorted(List<FacetCount> tags, List<FacetCount> categories, List<FacetCount> months) {
+        tags.sort(BY_COUNT);
+        categories.sort(BY_COUNT);
+        months.sort(BY_MONTH_DESC);
+        return new FacetResponse(tags, categories, months);
+    }
+}
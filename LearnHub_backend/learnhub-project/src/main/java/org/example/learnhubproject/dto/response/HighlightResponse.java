@@ -0,0 +1,37 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.learnhubproject.search.Highlight;
+import org.example.learnhubproject.search.Highlighter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 건의 하이라이트 응답
+ * 구간은 [start, end) 쌍 배열이며, title은 제목 기준, snippetHighlights는 snippet 기준 위치입니다
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HighlightResponse {
+    private List<int[]> title;
+    private String snippet;
+    private List<int[]> snippetHighlights;
+
+    public static HighlightResponse of(Highlight highlight, String description) {
+        Highlighter.Snippet snippet = Highlighter.snippet(description, highlight.description());
+        return HighlightResponse.builder()
+                .title(pairs(highlight.title()))
+                .snippet(snippet == null ? null : snippet.text())
+                .snippetHighlights(snippet == null ? List.of() : pairs(snippet.highlights()))
+                .build();
+    }
+
+    private static List<int[]> pairs(List<Highlight.Span> spans) {
+        return spans.stream().map(span -> new int[]{span.start(), span.end()}).toList();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관련도순 검색 페이지 응답 (page는 0부터 시작)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedSearchResponse {
+    private List<BookmarkResponse> items;
+    private int totalHits;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    // includeFacets=true일 때만 포함
+    private FacetResponse facets;
+    // highlight=true일 때만 포함 (북마크 ID → 하이라이트, 이때 items의 description은 생략)
+    private Map<Long, HighlightResponse> highlights;
+}
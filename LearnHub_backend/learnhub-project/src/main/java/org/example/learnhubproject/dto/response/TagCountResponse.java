@@ -0,0 +1,28 @@
+package org.example.learnhubproject.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.learnhubproject.repository.projection.TagCountRow;
+
+/**
+ * 태그와 사용 횟수 (내 태그 통계/태그 클라우드)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCountResponse {
+    private Long id;
+    private String name;
+    private long count;
+
+    public static TagCountResponse from(TagCountRow row) {
+        return TagCountResponse.builder()
+                .id(row.id())
+                .name(row.name())
+                .count(row.count())
+                .build();
+    }
+}
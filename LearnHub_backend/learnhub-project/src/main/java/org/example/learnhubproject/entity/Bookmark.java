@@ -11,7 +11,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "bookmarks")
+@Table(name = "bookmarks", indexes = {
+    @Index(name = "idx_bookmarks_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_bookmarks_user_title", columnList = "user_id, title"),
+    @Index(name = "idx_bookmarks_category_created", columnList = "category_id, created_at")
+})
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,32 @@
+package org.example.learnhubproject.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 변경 기록 (검색 색인 스냅샷 이후 바뀐 북마크를 재시작 시 다시 읽기 위한 로그)
+ * 삭제된 북마크도 남도록 북마크/사용자와 FK를 두지 않습니다
+ */
+@Entity
+@Table(name = "bookmark_changes")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BookmarkChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "bookmark_id", nullable = false)
+    private Long bookmarkId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
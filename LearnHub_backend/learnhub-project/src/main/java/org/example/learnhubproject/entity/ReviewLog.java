@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review_logs")
+@Table(name = "review_logs", indexes = {
+    @Index(name = "idx_review_logs_user_next_review", columnList = "user_id, next_review_at"),
+    @Index(name = "idx_review_logs_user_last_reviewed", columnList = "user_id, last_reviewed_at")
+})
 @Getter
 @Setter
 @Builder
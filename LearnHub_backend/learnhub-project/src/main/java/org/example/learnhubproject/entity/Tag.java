@@ -3,6 +3,7 @@ package org.example.learnhubproject.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.learnhubproject.util.NameNormalizer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,8 +24,29 @@ public class Tag {
     @Column(nullable = false, unique = true)
     private String name;
 
+    /**
+     * 대소문자/유니코드 표기 차이를 없앤 이름 (조회와 중복 판단 기준)
+     */
+    @JsonIgnore
+    @Column(name = "canonical_name", unique = true)
+    private String canonicalName;
+
     @JsonIgnore
     @OneToMany(mappedBy = "tag", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<BookmarkTag> bookmarkTags = new ArrayList<>();
+
+    /**
+     * 태그 정규화 이름 ({@link NameNormalizer#normalize}, NFKC + 소문자)
+     * V6__tag_canonical_name.sql 주석의 SearchQuery.normalizeName은 NameNormalizer로 옮겨졌음 (적용된 마이그레이션은 수정하지 않음)
+     */
+    public static String canonicalize(String name) {
+        return NameNormalizer.normalize(name);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateCanonicalName() {
+        canonicalName = canonicalize(name);
+    }
 }
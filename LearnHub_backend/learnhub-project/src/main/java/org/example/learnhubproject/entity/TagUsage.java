@@ -0,0 +1,23 @@
+package org.example.learnhubproject.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 태그별 사용 횟수 (bookmark_tags 행 수를 미리 집계한 카운터)
+ * 증감은 {@link org.example.learnhubproject.repository.TagUsageRepository}의 원자적 UPDATE로만 수행합니다
+ */
+@Entity
+@Table(name = "tag_usage")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TagUsage {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "usage_count", nullable = false)
+    private Long usageCount;
+}
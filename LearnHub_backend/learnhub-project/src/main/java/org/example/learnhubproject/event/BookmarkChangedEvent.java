@@ -0,0 +1,22 @@
+package org.example.learnhubproject.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 북마크(본문, 카테고리, 태그)가 생성/수정/삭제되었음을 알리는 이벤트
+ * 커밋 이후 검색 인덱스 등 메모리 구조가 해당 북마크를 DB에서 다시 읽어 반영합니다
+ *
+ * @param userId      북마크 소유자 ID
+ * @param bookmarkIds 변경된 북마크 ID (삭제된 북마크 포함)
+ */
+public record BookmarkChangedEvent(Long userId, Set<Long> bookmarkIds) {
+
+    public static BookmarkChangedEvent of(Long userId, Long bookmarkId) {
+        return new BookmarkChangedEvent(userId, Set.of(bookmarkId));
+    }
+
+    public static BookmarkChangedEvent of(Long userId, Collection<Long> bookmarkIds) {
+        return new BookmarkChangedEvent(userId, Set.copyOf(bookmarkIds));
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.learnhubproject.event;
+
+/**
+ * 카테고리가 생성/수정/삭제되었음을 알리는 이벤트
+ * 커밋 이후 사용자별 카테고리 목록 캐시를 버립니다
+ *
+ * @param userId 카테고리 소유자 ID
+ */
+public record CategoryChangedEvent(Long userId) {
+}
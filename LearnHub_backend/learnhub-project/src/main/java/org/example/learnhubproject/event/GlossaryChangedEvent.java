@@ -0,0 +1,7 @@
+package org.example.learnhubproject.event;
+
+/**
+ * 기술 용어 사전에 용어가 추가/삭제되었음을 알리는 이벤트 (커밋 이후 자동완성 사전 갱신)
+ */
+public record GlossaryChangedEvent() {
+}
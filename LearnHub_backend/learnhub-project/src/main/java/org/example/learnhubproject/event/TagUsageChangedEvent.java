@@ -0,0 +1,12 @@
+package org.example.learnhubproject.event;
+
+import java.util.Map;
+
+/**
+ * 태그 사용 횟수가 바뀌었음을 알리는 이벤트
+ * 커밋 이후 인메모리 인기 태그 순위에 같은 증감을 반영합니다
+ *
+ * @param deltas 태그 ID → 사용 횟수 증감
+ */
+public record TagUsageChangedEvent(Map<Long, Long> deltas) {
+}
@@ -0,0 +1,26 @@
+package org.example.learnhubproject.repository;
+
+import org.example.learnhubproject.entity.BookmarkChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Repository
+public interface BookmarkChangeRepository extends JpaRepository<BookmarkChange, Long> {
+
+    /**
+     * 기준 시각 이후 변경된 사용자 북마크 ID (삭제된 북마크 포함)
+     */
+    @Query("SELECT DISTINCT c.bookmarkId FROM BookmarkChange c " +
+           "WHERE c.userId = :userId AND c.changedAt >= :since")
+    Set<Long> findBookmarkIdsChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM BookmarkChange c WHERE c.changedAt < :before")
+    int deleteByChangedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,39 +1,213 @@
 package org.example.learnhubproject.repository;
 
 import org.example.learnhubproject.entity.Bookmark;
+import org.example.learnhubproject.repository.projection.BookmarkRow;
+import org.example.learnhubproject.repository.projection.BookmarkTagRow;
+import org.example.learnhubproject.repository.projection.FacetRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
-    @Query("SELECT DISTINCT b FROM Bookmark b " +
-           "LEFT JOIN FETCH b.bookmarkTags bt " +
-           "LEFT JOIN FETCH bt.tag " +
-           "LEFT JOIN FETCH b.category " +
+    /**
+     * 목록 조회용 프로젝션 SELECT 절 (카테고리는 id/name만 조회)
+     */
+    String BOOKMARK_ROW_SELECT = "SELECT new org.example.learnhubproject.repository.projection.BookmarkRow(" +
+            "b.id, b.user.id, b.url, b.title, b.description, b.s3ThumbnailUrl, b.imageUrl, " +
+            "b.metaTitle, b.metaDescription, b.createdAt, c.id, c.name) " +
+            "FROM Bookmark b JOIN b.category c ";
+
+    String BOOKMARK_TAG_ROW_SELECT = "SELECT new org.example.learnhubproject.repository.projection.BookmarkTagRow(" +
+            "bt.bookmark.id, t.id, t.name) " +
+            "FROM BookmarkTag bt JOIN bt.tag t ";
+
+    // ===== 정렬별 전용 쿼리 =====
+    // ORDER BY가 고정 컬럼이어야 (user_id, created_at) / (user_id, title) 인덱스 순서로 읽을 수 있음
+    // (CASE WHEN 정렬은 인덱스를 쓸 수 없어 사용자 전체 행을 filesort)
+
+    @Query(BOOKMARK_ROW_SELECT +
+           "WHERE b.user.id = :userId " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookmarkRow> findRowsByUserIdOrderByLatest(@Param("userId") Long userId);
+
+    @Query(BOOKMARK_ROW_SELECT +
+           "WHERE b.user.id = :userId " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<BookmarkRow> findRowsByUserIdOrderByOldest(@Param("userId") Long userId);
+
+    @Query(BOOKMARK_ROW_SELECT +
            "WHERE b.user.id = :userId " +
-           "ORDER BY b.createdAt DESC")
-    List<Bookmark> findByUserIdWithTags(@Param("userId") Long userId);
+           "ORDER BY b.title ASC, b.id ASC")
+    List<BookmarkRow> findRowsByUserIdOrderByTitle(@Param("userId") Long userId);
+
+    @Query(BOOKMARK_ROW_SELECT +
+           "WHERE b.user.id = :userId AND c.id = :categoryId " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookmarkRow> findRowsByUserIdAndCategoryId(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    @Query(BOOKMARK_ROW_SELECT + "WHERE b.id = :id")
+    Optional<BookmarkRow> findRowById(@Param("id") Long id);
 
     /**
-     * 사용자의 북마크 조회 (정렬 옵션 포함)
-     * sort: latest(최신순), oldest(오래된순), title(제목순)
+     * ID 목록에 해당하는 행 조회 (순서는 호출 측에서 복원)
      */
-    @Query("SELECT DISTINCT b FROM Bookmark b " +
-           "LEFT JOIN FETCH b.bookmarkTags bt " +
-           "LEFT JOIN FETCH bt.tag " +
-           "LEFT JOIN FETCH b.category " +
-           "WHERE b.user.id = :userId " +
-           "ORDER BY " +
-           "CASE WHEN :sort = 'latest' THEN b.createdAt END DESC, " +
-           "CASE WHEN :sort = 'oldest' THEN b.createdAt END ASC, " +
-           "CASE WHEN :sort = 'title' THEN b.title END ASC")
-    List<Bookmark> findByUserIdWithTagsSorted(@Param("userId") Long userId, @Param("sort") String sort);
+    @Query(BOOKMARK_ROW_SELECT + "WHERE b.id IN :ids")
+    List<BookmarkRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ===== FULLTEXT 검색 후보 (검증/정렬은 search.FulltextSearchBackend에서 수행) =====
+
+    /**
+     * MySQL FULLTEXT(ngram) 후보 조회
+     * 본문 컬럼은 MATCH ... AGAINST (boolean mode 구문 검색), 태그는 tags → bookmark_tags 인덱스 조인으로 찾음
+     * @param phrase boolean mode 질의 (예: "\"spring\"")
+     * @param token  태그 매칭용 토큰 (소문자, 문자/숫자만)
+     */
+    @Query(value = "SELECT b.id FROM bookmarks b " +
+           "WHERE b.user_id = :userId " +
+           "AND MATCH (b.title, b.description, b.meta_title, b.meta_description, b.url) " +
+           "AGAINST (:phrase IN BOOLEAN MODE) " +
+           "UNION " +
+           "SELECT bt.bookmark_id FROM tags t " +
+           "JOIN bookmark_tags bt ON bt.tag_id = t.id " +
+           "JOIN bookmarks b ON b.id = bt.bookmark_id " +
+           "WHERE b.user_id = :userId AND LOWER(t.name) LIKE CONCAT('%', :token, '%')",
+           nativeQuery = true)
+    List<Long> findFulltextCandidateIds(@Param("userId") Long userId, @Param("phrase") String phrase,
+                                        @Param("token") String token);
+
+    /**
+     * FULLTEXT를 지원하지 않는 DB(H2 등)용 후보 조회 - 같은 컬럼을 부분 문자열로 검사
+     */
+    @Query(value = "SELECT b.id FROM bookmarks b " +
+           "WHERE b.user_id = :userId AND (" +
+           "LOWER(b.title) LIKE CONCAT('%', :token, '%') OR " +
+           "LOWER(b.description) LIKE CONCAT('%', :token, '%') OR " +
+           "LOWER(b.meta_title) LIKE CONCAT('%', :token, '%') OR " +
+           "LOWER(b.meta_description) LIKE CONCAT('%', :token, '%') OR " +
+           "LOWER(b.url) LIKE CONCAT('%', :token, '%')) " +
+           "UNION " +
+           "SELECT bt.bookmark_id FROM tags t " +
+           "JOIN bookmark_tags bt ON bt.tag_id = t.id " +
+           "JOIN bookmarks b ON b.id = bt.bookmark_id " +
+           "WHERE b.user_id = :userId AND LOWER(t.name) LIKE CONCAT('%', :token, '%')",
+           nativeQuery = true)
+    List<Long> findTextCandidateIds(@Param("userId") Long userId, @Param("token") String token);
+
+    // ===== 패싯 집계 =====
+    // 태그/카테고리/생성 월 집계를 UNION ALL 한 번으로 조회 (엔티티를 읽지 않고 인덱스 조인 + GROUP BY만 수행)
+
+    String FACET_TAG_SELECT = "SELECT 1 AS kind, t.id AS id, t.name AS name, COUNT(*) AS cnt " +
+            "FROM bookmark_tags bt JOIN tags t ON t.id = bt.tag_id JOIN bookmarks b ON b.id = bt.bookmark_id ";
+    String FACET_CATEGORY_SELECT = "SELECT 2, c.id, c.name, COUNT(*) " +
+            "FROM bookmarks b JOIN categories c ON c.id = b.category_id ";
+    String FACET_MONTH_SELECT = "SELECT 3, YEAR(b.created_at) * 100 + MONTH(b.created_at), NULL, COUNT(*) " +
+            "FROM bookmarks b ";
+    String FACET_MONTH_GROUP = "GROUP BY YEAR(b.created_at) * 100 + MONTH(b.created_at)";
+
+    @Query(value = FACET_TAG_SELECT + "WHERE b.user_id = :userId GROUP BY t.id, t.name " +
+           "UNION ALL " +
+           FACET_CATEGORY_SELECT + "WHERE b.user_id = :userId GROUP BY c.id, c.name " +
+           "UNION ALL " +
+           FACET_MONTH_SELECT + "WHERE b.user_id = :userId AND b.created_at IS NOT NULL " + FACET_MONTH_GROUP,
+           nativeQuery = true)
+    List<FacetRow> findFacetsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 검색 결과 북마크의 패싯 집계 (ID는 호출 측에서 사용자 소유로 한정된 검색 결과)
+     */
+    @Query(value = FACET_TAG_SELECT + "WHERE b.id IN :ids GROUP BY t.id, t.name " +
+           "UNION ALL " +
+           FACET_CATEGORY_SELECT + "WHERE b.id IN :ids GROUP BY c.id, c.name " +
+           "UNION ALL " +
+           FACET_MONTH_SELECT + "WHERE b.id IN :ids AND b.created_at IS NOT NULL " + FACET_MONTH_GROUP,
+           nativeQuery = true)
+    List<FacetRow> findFacetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.id FROM Bookmark b WHERE b.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    // ===== 구조화 검색 필터 후보 (검색어 없이 필터만 있는 질의) =====
+
+    @Query("SELECT DISTINCT bt.bookmark.id FROM BookmarkTag bt " +
+           "WHERE bt.bookmark.user.id = :userId AND bt.tag.canonicalName = :canonicalName")
+    List<Long> findIdsByUserIdAndCanonicalTagName(@Param("userId") Long userId,
+                                                  @Param("canonicalName") String canonicalName);
+
+    /**
+     * ID 목록 중 사용자 소유인 북마크 ID (일괄 작업의 소유권 검증)
+     */
+    @Query("SELECT b.id FROM Bookmark b WHERE b.user.id = :userId AND b.id IN :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.id FROM Bookmark b WHERE b.user.id = :userId AND b.category.id IN :categoryIds")
+    List<Long> findIdsByUserIdAndCategoryIdIn(@Param("userId") Long userId,
+                                              @Param("categoryIds") Collection<Long> categoryIds);
+
+    /**
+     * 카테고리의 북마크를 다른 카테고리로 한 문장에 이동 (엔티티를 읽지 않고, 실행 후 영속성 컨텍스트를 비움)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE bookmarks SET category_id = :targetId WHERE category_id = :categoryId", nativeQuery = true)
+    int moveToCategory(@Param("categoryId") Long categoryId, @Param("targetId") Long targetId);
+
+    /**
+     * 사용자 소유 북마크만 다른 카테고리로 이동 (소유권은 WHERE 절에서 검사)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE bookmarks SET category_id = :targetId WHERE user_id = :userId AND id IN :ids",
+           nativeQuery = true)
+    int moveByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                            @Param("targetId") Long targetId);
+
+    /**
+     * 사용자 소유 북마크들에 같은 제목/설명/썸네일 적용 (null인 값은 유지)
+     * 영속성 컨텍스트는 비우지 않으므로 호출 측에서 모든 UPDATE 후 한 번 clear 해야 함
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Bookmark b SET b.title = COALESCE(:title, b.title), " +
+           "b.description = COALESCE(:description, b.description), " +
+           "b.s3ThumbnailUrl = COALESCE(:thumbnailUrl, b.s3ThumbnailUrl) " +
+           "WHERE b.user.id = :userId AND b.id IN :ids")
+    int updateByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                              @Param("title") String title, @Param("description") String description,
+                              @Param("thumbnailUrl") String thumbnailUrl);
+
+    /**
+     * 사용자 소유 북마크 일괄 삭제 (bookmark_tags/review_logs는 먼저 지워야 함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Bookmark b WHERE b.user.id = :userId AND b.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // idx_bookmarks_user_created 범위 조회
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId AND b.createdAt >= :from AND b.createdAt < :before")
+    List<Long> findIdsByUserIdAndCreatedAtRange(@Param("userId") Long userId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("before") LocalDateTime before);
+
+    // ===== 태그 프로젝션 (북마크 행과 한 번에 매핑) =====
+
+    @Query(BOOKMARK_TAG_ROW_SELECT + "WHERE bt.bookmark.user.id = :userId ORDER BY bt.id")
+    List<BookmarkTagRow> findTagRowsByUserId(@Param("userId") Long userId);
+
+    @Query(BOOKMARK_TAG_ROW_SELECT +
+           "WHERE bt.bookmark.user.id = :userId AND bt.bookmark.category.id = :categoryId ORDER BY bt.id")
+    List<BookmarkTagRow> findTagRowsByUserIdAndCategoryId(@Param("userId") Long userId,
+                                                          @Param("categoryId") Long categoryId);
+
+    @Query(BOOKMARK_TAG_ROW_SELECT + "WHERE bt.bookmark.id IN :bookmarkIds ORDER BY bt.id")
+    List<BookmarkTagRow> findTagRowsByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
 
     @Query("SELECT DISTINCT b FROM Bookmark b " +
            "LEFT JOIN FETCH b.bookmarkTags bt " +
@@ -42,26 +216,29 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
            "WHERE b.id = :id")
     Optional<Bookmark> findByIdWithTags(@Param("id") Long id);
 
-    @Query("SELECT DISTINCT b FROM Bookmark b " +
-           "LEFT JOIN FETCH b.bookmarkTags bt " +
-           "LEFT JOIN FETCH bt.tag " +
-           "LEFT JOIN FETCH b.category " +
-           "WHERE b.user.id = :userId AND b.category.id = :categoryId")
-    List<Bookmark> findByUserIdAndCategoryIdWithTags(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+    /**
+     * 태그가 달린 사용자 북마크 ID (최신순, 응답은 findRowsByIdIn/findTagRowsByBookmarkIdIn 프로젝션으로 조립)
+     */
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND EXISTS (SELECT 1 FROM BookmarkTag f WHERE f.bookmark = b AND f.tag.id = :tagId) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByUserIdAndTagId(@Param("userId") Long userId, @Param("tagId") Long tagId);
 
     /**
-     * 통합 검색: 제목, 설명, URL, 태그명을 모두 검색
+     * 다중 태그 필터 조회 (최신순 ID)
+     * 지정한 태그 중 minMatches개 이상을 가진 북마크만 GROUP BY/HAVING으로 걸러냄
+     * (AND: minMatches = 태그 수, OR: minMatches = 1)
      */
-    @Query("SELECT DISTINCT b FROM Bookmark b " +
-           "LEFT JOIN FETCH b.bookmarkTags bt " +
-           "LEFT JOIN FETCH bt.tag t " +
-           "LEFT JOIN FETCH b.category " +
-           "WHERE b.user.id = :userId AND (" +
-           "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(b.url) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Bookmark> searchByKeywordWithTags(@Param("userId") Long userId, @Param("keyword") String keyword);
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND b.id IN (SELECT f.bookmark.id FROM BookmarkTag f " +
+           "WHERE f.bookmark.user.id = :userId AND f.tag.canonicalName IN :canonicalNames " +
+           "GROUP BY f.bookmark.id HAVING COUNT(DISTINCT f.tag.id) >= :minMatches) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByUserIdAndCanonicalTagNames(@Param("userId") Long userId,
+                                                   @Param("canonicalNames") Collection<String> canonicalNames,
+                                                   @Param("minMatches") long minMatches);
 
     List<Bookmark> findByUserId(Long userId);
 
@@ -71,4 +248,86 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     @Query("SELECT b FROM Bookmark b WHERE b.user.id = :userId AND (b.title LIKE %:keyword% ESCAPE '\\' OR b.description LIKE %:keyword% ESCAPE '\\')")
     List<Bookmark> searchByKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
-}
\ No newline at end of file
+
+    // ===== Keyset 페이지네이션 (1단계: 정렬 키 기준 ID 페이지 조회) =====
+    // 컬렉션 fetch join이 없으므로 LIMIT이 SQL에 그대로 적용됨
+    // 첫 페이지는 서비스에서 경계값(최대/최소 일시, id 0)을 넘겨 같은 쿼리를 사용
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsLatestAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id)) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<Long> findIdsOldestAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id, Limit limit);
+
+    /**
+     * 제목순 (제목이 NULL인 북마크가 먼저 정렬됨 - MySQL/H2 기본 동작)
+     */
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.title > :title OR (b.title = :title AND b.id > :id)) " +
+           "ORDER BY b.title ASC, b.id ASC")
+    List<Long> findIdsTitleAfter(@Param("userId") Long userId, @Param("title") String title,
+                                 @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND ((b.title IS NULL AND b.id > :id) OR b.title IS NOT NULL) " +
+           "ORDER BY b.title ASC, b.id ASC")
+    List<Long> findIdsTitleAfterNull(@Param("userId") Long userId, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId AND b.category.id = :categoryId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByCategoryLatestAfter(@Param("userId") Long userId, @Param("categoryId") Long categoryId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId AND b.category.id = :categoryId " +
+           "AND (b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id)) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<Long> findIdsByCategoryOldestAfter(@Param("userId") Long userId, @Param("categoryId") Long categoryId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId AND b.category.id = :categoryId " +
+           "AND (b.title > :title OR (b.title = :title AND b.id > :id)) " +
+           "ORDER BY b.title ASC, b.id ASC")
+    List<Long> findIdsByCategoryTitleAfter(@Param("userId") Long userId, @Param("categoryId") Long categoryId,
+                                           @Param("title") String title, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId AND b.category.id = :categoryId " +
+           "AND ((b.title IS NULL AND b.id > :id) OR b.title IS NOT NULL) " +
+           "ORDER BY b.title ASC, b.id ASC")
+    List<Long> findIdsByCategoryTitleAfterNull(@Param("userId") Long userId, @Param("categoryId") Long categoryId,
+                                               @Param("id") Long id, Limit limit);
+
+    /**
+     * 통합 검색 ID 페이지 (최신순)
+     * 태그 조건을 EXISTS로 분리해 태그 수만큼 행이 늘어나지 않으므로 DISTINCT 없이 LIMIT 적용 가능
+     */
+    @Query("SELECT b.id FROM Bookmark b " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "AND (" +
+           "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(b.url) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "EXISTS (SELECT 1 FROM BookmarkTag bt WHERE bt.bookmark = b " +
+           "AND LOWER(bt.tag.name) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> searchIdsLatestAfter(@Param("userId") Long userId, @Param("keyword") String keyword,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Limit limit);
+}
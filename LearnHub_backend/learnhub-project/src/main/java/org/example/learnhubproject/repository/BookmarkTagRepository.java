@@ -1,12 +1,15 @@
 package org.example.learnhubproject.repository;
 
 import org.example.learnhubproject.entity.BookmarkTag;
+import org.example.learnhubproject.repository.projection.TagUsageRow;
+import org.example.learnhubproject.repository.projection.UserBookmarkRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,12 +19,101 @@ public interface BookmarkTagRepository extends JpaRepository<BookmarkTag, Long>
 
     List<BookmarkTag> findByTagId(Long tagId);
 
-    @Query("SELECT bt FROM BookmarkTag bt WHERE bt.bookmark.user.id = :userId AND bt.tag.id = :tagId")
-    List<BookmarkTag> findByUserIdAndTagId(@Param("userId") Long userId, @Param("tagId") Long tagId);
-
     boolean existsByBookmarkIdAndTagId(Long bookmarkId, Long tagId);
 
     @Modifying
     @Query("DELETE FROM BookmarkTag bt WHERE bt.bookmark.id = :bookmarkId AND bt.tag.id = :tagId")
-    void deleteByBookmarkIdAndTagId(@Param("bookmarkId") Long bookmarkId, @Param("tagId") Long tagId);
+    int deleteByBookmarkIdAndTagId(@Param("bookmarkId") Long bookmarkId, @Param("tagId") Long tagId);
+
+    /**
+     * 여러 북마크에 태그를 한 번에 연결 (이미 연결된 북마크는 건너뜀)
+     * @return 실제로 추가된 연결 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO bookmark_tags (bookmark_id, tag_id) " +
+                   "SELECT b.id, :tagId FROM bookmarks b " +
+                   "WHERE b.id IN :bookmarkIds AND NOT EXISTS (" +
+                   "SELECT 1 FROM bookmark_tags bt WHERE bt.bookmark_id = b.id AND bt.tag_id = :tagId)",
+           nativeQuery = true)
+    int insertMissing(@Param("bookmarkIds") Collection<Long> bookmarkIds, @Param("tagId") Long tagId);
+
+    @Modifying
+    @Query("DELETE FROM BookmarkTag bt WHERE bt.bookmark.id IN :bookmarkIds AND bt.tag.id = :tagId")
+    int deleteByBookmarkIdInAndTagId(@Param("bookmarkIds") Collection<Long> bookmarkIds, @Param("tagId") Long tagId);
+
+    @Query("SELECT DISTINCT bt.tag.id FROM BookmarkTag bt WHERE bt.bookmark.id IN :bookmarkIds")
+    List<Long> findTagIdsByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+    /**
+     * 북마크들에 달린 태그별 연결 수 (일괄 삭제 시 사용 횟수 감소량)
+     */
+    @Query(value = "SELECT bt.tag_id AS tagId, COUNT(*) AS cnt FROM bookmark_tags bt " +
+                   "WHERE bt.bookmark_id IN :bookmarkIds GROUP BY bt.tag_id",
+           nativeQuery = true)
+    List<TagUsageRow> countByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+    @Modifying
+    @Query("DELETE FROM BookmarkTag bt WHERE bt.bookmark.id IN :bookmarkIds")
+    int deleteByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+    /**
+     * 태그가 달린 북마크와 소유자 (엔티티를 읽지 않고 변경 이벤트 대상만 조회)
+     */
+    @Query("SELECT new org.example.learnhubproject.repository.projection.UserBookmarkRow(b.user.id, b.id) " +
+           "FROM BookmarkTag bt JOIN bt.bookmark b WHERE bt.tag.id = :tagId")
+    List<UserBookmarkRow> findUserBookmarksByTagId(@Param("tagId") Long tagId);
+
+    @Modifying
+    @Query("DELETE FROM BookmarkTag bt WHERE bt.tag.id = :tagId")
+    int deleteByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * 사용자의 북마크 중 태그들 중 하나라도 달린 북마크 ID (병합 후 변경 이벤트 대상)
+     */
+    @Query("SELECT DISTINCT bt.bookmark.id FROM BookmarkTag bt " +
+           "WHERE bt.bookmark.user.id = :userId AND bt.tag.id IN :tagIds")
+    List<Long> findBookmarkIdsByUserIdAndTagIdIn(@Param("userId") Long userId,
+                                                 @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 대상 태그가 이미 달린 모든 북마크에서 원본 태그 연결 삭제 (중복 태그 정리용 전역 병합)
+     * MySQL은 같은 테이블을 서브쿼리로 읽는 DELETE를 막으므로, DISTINCT 파생 테이블로 먼저 구체화
+     */
+    @Modifying
+    @Query(value = "DELETE FROM bookmark_tags WHERE tag_id = :sourceId AND bookmark_id IN (" +
+                   "SELECT bookmark_id FROM (SELECT DISTINCT bookmark_id FROM bookmark_tags " +
+                   "WHERE tag_id = :targetId) target_links)",
+           nativeQuery = true)
+    int deleteDuplicateLinks(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
+
+    /**
+     * 남은 원본 태그 연결을 모두 대상 태그로 옮김 (deleteDuplicateLinks 이후 실행)
+     */
+    @Modifying
+    @Query(value = "UPDATE bookmark_tags SET tag_id = :targetId WHERE tag_id = :sourceId", nativeQuery = true)
+    int moveLinks(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
+
+    /**
+     * 대상 태그가 이미 달린 사용자 북마크에서 원본 태그 연결 삭제 ((bookmark_id, tag_id) 유니크 충돌 방지)
+     * 대상 연결이 있는 북마크는 모두 사용자 소유이므로 다른 사용자의 연결은 지워지지 않음
+     * MySQL은 같은 테이블을 서브쿼리로 읽는 DELETE를 막으므로, DISTINCT 파생 테이블로 먼저 구체화
+     */
+    @Modifying
+    @Query(value = "DELETE FROM bookmark_tags WHERE tag_id = :sourceId AND bookmark_id IN (" +
+                   "SELECT bookmark_id FROM (SELECT DISTINCT bt.bookmark_id FROM bookmark_tags bt " +
+                   "JOIN bookmarks b ON b.id = bt.bookmark_id " +
+                   "WHERE bt.tag_id = :targetId AND b.user_id = :userId) target_links)",
+           nativeQuery = true)
+    int deleteDuplicateUserLinks(@Param("userId") Long userId, @Param("sourceId") Long sourceId,
+                                 @Param("targetId") Long targetId);
+
+    /**
+     * 사용자 북마크에 남은 원본 태그 연결을 대상 태그로 옮김 (deleteDuplicateUserLinks 이후 실행)
+     */
+    @Modifying
+    @Query(value = "UPDATE bookmark_tags SET tag_id = :targetId WHERE tag_id = :sourceId " +
+                   "AND bookmark_id IN (SELECT id FROM bookmarks WHERE user_id = :userId)",
+           nativeQuery = true)
+    int moveUserLinks(@Param("userId") Long userId, @Param("sourceId") Long sourceId,
+                      @Param("targetId") Long targetId);
 }
@@ -1,7 +1,11 @@
 package org.example.learnhubproject.repository;
 
 import org.example.learnhubproject.entity.Category;
+import org.example.learnhubproject.repository.projection.CategoryCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +19,23 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByUserIdAndName(Long userId, String name);
 
     Optional<Category> findByUserIdAndIsDefault(Long userId, Boolean isDefault);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 카테고리별 북마크 수와 최근 북마크 생성 시각 (북마크 없는 카테고리 포함)
+     * bookmarks(category_id, created_at) 인덱스만으로 COUNT/MAX를 계산
+     */
+    @Query("SELECT new org.example.learnhubproject.repository.projection.CategoryCountRow(" +
+           "c.id, c.name, c.isDefault, c.createdAt, COUNT(b.id), MAX(b.createdAt)) " +
+           "FROM Category c LEFT JOIN Bookmark b ON b.category = c " +
+           "WHERE c.user.id = :userId " +
+           "GROUP BY c.id, c.name, c.isDefault, c.createdAt " +
+           "ORDER BY c.id")
+    List<CategoryCountRow> findCountsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 북마크를 옮긴 뒤 카테고리만 삭제 (cascade로 북마크 컬렉션을 읽지 않음)
+     */
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.id = :id")
+    int deleteCategoryById(@Param("id") Long id);
+}
@@ -2,11 +2,13 @@ package org.example.learnhubproject.repository;
 
 import org.example.learnhubproject.entity.ReviewLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +32,8 @@ public interface ReviewLogRepository extends JpaRepository<ReviewLog, Long> {
     Long countReviewedBetween(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
     boolean existsByBookmarkIdAndUserId(Long bookmarkId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM ReviewLog rl WHERE rl.bookmark.id IN :bookmarkIds")
+    int deleteByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
 }
@@ -1,11 +1,15 @@
 package org.example.learnhubproject.repository;
 
 import org.example.learnhubproject.entity.Tag;
+import org.example.learnhubproject.repository.projection.TagCountRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,25 +18,37 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findByName(String name);
 
-    boolean existsByName(String name);
+    Optional<Tag> findByCanonicalName(String canonicalName);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    List<Tag> findByCanonicalNameIn(Collection<String> canonicalNames);
+
+    /**
+     * 정규화 이름을 아직 채우지 않은 태그 (ID 순 배치)
+     */
+    @Query("SELECT t FROM Tag t WHERE t.canonicalName IS NULL AND t.id > :afterId ORDER BY t.id")
+    List<Tag> findUncanonicalized(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.canonicalName = :canonicalName WHERE t.id = :id")
+    int updateCanonicalName(@Param("id") Long id, @Param("canonicalName") String canonicalName);
 
     /**
-     * 인기 태그 조회 (사용 빈도수 기준 내림차순)
-     * BookmarkTag 테이블에서 각 태그의 사용 횟수를 집계하여 정렬
+     * 연결(bookmark_tags)을 먼저 정리한 태그 삭제 (cascade로 연결 컬렉션을 읽지 않음)
      */
-    @Query("SELECT t FROM Tag t " +
-           "LEFT JOIN BookmarkTag bt ON bt.tag.id = t.id " +
-           "GROUP BY t.id " +
-           "ORDER BY COUNT(bt.id) DESC")
-    List<Tag> findPopularTags();
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.id = :id")
+    int deleteTagById(@Param("id") Long id);
 
     /**
-     * 인기 태그 조회 (상위 N개만)
+     * 사용자 북마크의 태그별 사용 횟수 (많이 쓴 순)
+     * bookmarks(user_id, ...) 인덱스로 사용자 북마크를 찾고, bookmark_tags(bookmark_id, tag_id) 유니크 인덱스로 조인
      */
-    @Query(value = "SELECT t.* FROM tags t " +
-           "LEFT JOIN bookmark_tags bt ON bt.tag_id = t.id " +
-           "GROUP BY t.id " +
-           "ORDER BY COUNT(bt.id) DESC " +
-           "LIMIT :limit", nativeQuery = true)
-    List<Tag> findTopPopularTags(@Param("limit") int limit);
-}
\ No newline at end of file
+    @Query("SELECT new org.example.learnhubproject.repository.projection.TagCountRow(t.id, t.name, COUNT(bt.id)) " +
+           "FROM BookmarkTag bt JOIN bt.bookmark b JOIN bt.tag t " +
+           "WHERE b.user.id = :userId " +
+           "GROUP BY t.id, t.name " +
+           "ORDER BY COUNT(bt.id) DESC, t.name")
+    List<TagCountRow> findCountsByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,66 @@
+package org.example.learnhubproject.repository;
+
+import org.example.learnhubproject.entity.TagUsage;
+import org.example.learnhubproject.repository.projection.NameCountRow;
+import org.example.learnhubproject.repository.projection.TagCountRow;
+import org.example.learnhubproject.repository.projection.TagUsageRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TagUsageRepository extends JpaRepository<TagUsage, Long> {
+
+    /**
+     * 사용 횟수 증감 (행이 없으면 생성)
+     * 같은 태그 행에 대한 동시 증감은 행 잠금으로 직렬화되므로 읽고-쓰기 경합이 없음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tag_usage (tag_id, usage_count) VALUES (:tagId, GREATEST(:delta, 0)) " +
+           "ON DUPLICATE KEY UPDATE usage_count = GREATEST(usage_count + :delta, 0)", nativeQuery = true)
+    int addUsage(@Param("tagId") Long tagId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM TagUsage u WHERE u.tagId = :tagId")
+    int deleteByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * 사용 횟수 상위 태그 (idx_tag_usage_count 역순 스캔)
+     */
+    @Query("SELECT new org.example.learnhubproject.repository.projection.TagCountRow(t.id, t.name, u.usageCount) " +
+           "FROM TagUsage u JOIN Tag t ON t.id = u.tagId " +
+           "WHERE u.usageCount > 0 " +
+           "ORDER BY u.usageCount DESC, u.tagId")
+    List<TagCountRow> findTop(Limit limit);
+
+    /**
+     * 전체 태그 이름과 카운터 값 (자동완성 인기도, bookmark_tags를 집계하지 않음)
+     * 카운터 행이 아직 없는 태그는 0
+     */
+    @Query("SELECT new org.example.learnhubproject.repository.projection.NameCountRow(" +
+           "t.name, COALESCE(u.usageCount, 0L)) " +
+           "FROM Tag t LEFT JOIN TagUsage u ON u.tagId = t.id")
+    List<NameCountRow> findNameCounts();
+
+    /**
+     * bookmark_tags 기준 실제 사용 횟수 (재집계용, 전체 GROUP BY)
+     */
+    @Query(value = "SELECT bt.tag_id AS tagId, COUNT(*) AS cnt FROM bookmark_tags bt GROUP BY bt.tag_id",
+           nativeQuery = true)
+    List<TagUsageRow> countActualUsage();
+
+    @Query(value = "SELECT u.tag_id AS tagId, u.usage_count AS cnt FROM tag_usage u", nativeQuery = true)
+    List<TagUsageRow> findAllCounts();
+
+    /**
+     * 삭제된 태그의 카운터 행 정리
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tag_usage WHERE tag_id NOT IN (SELECT t.id FROM tags t)", nativeQuery = true)
+    int deleteOrphans();
+}
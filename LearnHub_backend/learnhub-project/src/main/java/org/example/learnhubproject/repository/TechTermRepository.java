@@ -1,9 +1,12 @@
 package org.example.learnhubproject.repository;
 
 import org.example.learnhubproject.entity.TechTerm;
+import org.example.learnhubproject.repository.projection.TermDefinitionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +14,11 @@ public interface TechTermRepository extends JpaRepository<TechTerm, Long> {
     Optional<TechTerm> findByName(String name);
     Optional<TechTerm> findByNameIgnoreCase(String name);
     boolean existsByNameIgnoreCase(String name);
+
+    @Query("SELECT t.name FROM TechTerm t")
+    List<String> findAllNames();
+
+    @Query("SELECT new org.example.learnhubproject.repository.projection.TermDefinitionRow(t.name, t.definition) " +
+           "FROM TechTerm t")
+    List<TermDefinitionRow> findAllDefinitions();
 }
\ No newline at end of file
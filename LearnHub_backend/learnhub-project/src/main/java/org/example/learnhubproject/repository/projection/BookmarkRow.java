@@ -0,0 +1,23 @@
+package org.example.learnhubproject.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 목록 조회용 프로젝션 (JPQL 생성자 표현식)
+ * 응답에 필요한 컬럼만 조회하며 영속성 컨텍스트에 엔티티를 올리지 않음
+ */
+public record BookmarkRow(
+        Long id,
+        Long userId,
+        String url,
+        String title,
+        String description,
+        String s3ThumbnailUrl,
+        String imageUrl,
+        String metaTitle,
+        String metaDescription,
+        LocalDateTime createdAt,
+        Long categoryId,
+        String categoryName
+) {
+}
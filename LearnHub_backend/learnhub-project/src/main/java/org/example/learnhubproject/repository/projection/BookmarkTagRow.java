@@ -0,0 +1,7 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 북마크-태그 연결 프로젝션 (bookmark_tags JOIN tags)
+ */
+public record BookmarkTagRow(Long bookmarkId, Long tagId, String tagName) {
+}
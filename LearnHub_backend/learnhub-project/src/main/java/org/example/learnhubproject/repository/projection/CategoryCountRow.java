@@ -0,0 +1,10 @@
+package org.example.learnhubproject.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리와 북마크 수, 가장 최근 북마크 생성 시각 (북마크가 없으면 null)
+ */
+public record CategoryCountRow(Long id, String name, Boolean isDefault, LocalDateTime createdAt,
+                               long bookmarkCount, LocalDateTime latestBookmarkAt) {
+}
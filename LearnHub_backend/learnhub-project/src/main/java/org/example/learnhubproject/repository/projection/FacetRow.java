@@ -0,0 +1,20 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 패싯 집계 행 (네이티브 UNION 쿼리 결과)
+ * kind 1: 태그(id, name) / 2: 카테고리(id, name) / 3: 생성 월(id = yyyyMM, name 없음)
+ */
+public interface FacetRow {
+
+    long KIND_TAG = 1;
+    long KIND_CATEGORY = 2;
+    long KIND_MONTH = 3;
+
+    Long getKind();
+
+    Long getId();
+
+    String getName();
+
+    Long getCnt();
+}
@@ -0,0 +1,7 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 이름별 집계 프로젝션 (예: 태그 이름 + 사용 횟수)
+ */
+public record NameCountRow(String name, Long count) {
+}
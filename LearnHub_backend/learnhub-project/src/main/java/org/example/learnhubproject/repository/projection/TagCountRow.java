@@ -0,0 +1,7 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 태그별 사용 횟수 프로젝션 (tag_usage JOIN tags)
+ */
+public record TagCountRow(Long id, String name, long count) {
+}
@@ -0,0 +1,11 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 태그 ID별 횟수 (네이티브 집계 결과, 재집계 비교용)
+ */
+public interface TagUsageRow {
+
+    Long getTagId();
+
+    Long getCnt();
+}
@@ -0,0 +1,7 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 기술 용어 이름 + 정의 프로젝션
+ */
+public record TermDefinitionRow(String name, String definition) {
+}
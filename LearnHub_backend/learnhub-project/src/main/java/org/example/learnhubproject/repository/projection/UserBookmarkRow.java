@@ -0,0 +1,7 @@
+package org.example.learnhubproject.repository.projection;
+
+/**
+ * 북마크 ID와 소유자 ID (사용자별 변경 이벤트 발행용)
+ */
+public record UserBookmarkRow(Long userId, Long bookmarkId) {
+}
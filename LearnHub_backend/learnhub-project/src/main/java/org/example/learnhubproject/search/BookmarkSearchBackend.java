@@ -0,0 +1,56 @@
+package org.example.learnhubproject.search;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 북마크 통합 검색 백엔드
+ *
+ * 모든 구현은 같은 매칭 규칙(질의 토큰이 모두 문서 토큰의 접두어, {@link SearchDocument#matches})과
+ * 같은 정렬(최신순)을 따르므로 설정만 바꿔도 검색 결과가 달라지지 않습니다.
+ * 사용할 구현은 {@link ConfiguredSearchBackend}가 시작 시 한 번 고릅니다.
+ */
+public interface BookmarkSearchBackend {
+
+    /**
+     * @return 매칭된 북마크 ID (createdAt DESC, id DESC)
+     */
+    List<Long> search(Long userId, String keyword);
+
+    /**
+     * 최신순 결과 중 커서(createdAt, id) 다음부터 최대 limit개 (커서가 null이면 처음부터)
+     */
+    List<Long> searchAfter(Long userId, String keyword, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * 검색 결과 중 [offset, offset + limit) 구간만 조회
+     * 기본 구현은 최신순 결과를 자르며, 랭킹을 지원하는 백엔드는 관련도순으로 반환합니다
+     */
+    default SearchPage searchTop(Long userId, String keyword, int offset, int limit) {
+        return SearchPage.slice(search(userId, keyword), offset, limit);
+    }
+
+    /**
+     * 색인에 저장된 토큰 위치로 계산한 하이라이트 (비어 있으면 호출 측에서 제목/설명을 직접 분석)
+     */
+    default Map<Long, Highlight> highlights(Long userId, String keyword, Collection<Long> bookmarkIds) {
+        return Map.of();
+    }
+
+    /**
+     * 검색 결과의 패싯 집계 (비어 있으면 호출 측에서 DB 집계를 사용)
+     */
+    default Optional<FacetCounts> searchFacets(Long userId, String keyword) {
+        return Optional.empty();
+    }
+
+    /**
+     * 전체 북마크 패싯을 추가 조회 없이 집계할 수 있을 때만 반환
+     */
+    default Optional<FacetCounts> facetsIfWarm(Long userId) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,406 @@
+package org.example.learnhubproject.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.event.GlossaryChangedEvent;
+import org.example.learnhubproject.repository.TechTermRepository;
+import org.example.learnhubproject.search.analysis.Analyzers;
+import org.example.learnhubproject.search.fuzzy.TrigramIndex;
+import org.example.learnhubproject.search.query.QueryParser;
+import org.example.learnhubproject.search.query.SearchQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 인메모리 북마크 역색인
+ *
+ * 사용자의 첫 검색 시 DB에서 한 번 읽어 색인하고, 이후에는 커밋된 변경 이벤트로 바뀐 북마크만 다시 읽어 반영합니다.
+ * 전체 추정 메모리가 예산을 넘으면 가장 오래 검색하지 않은 사용자의 색인부터 제거합니다.
+ *
+ * 관련도순 검색의 정확 일치 결과가 {@code learnhub.search.fuzzy.min-hits}개 미만이면, 결과가 없는 단어를
+ * 내 제목/태그 단어와 기술 용어 사전에서 오타 교정한 질의로 한 번 더 검색해 뒤에 덧붙입니다.
+ * tag:, category:, after:, before:, "구문"이 들어간 질의는 {@link QueryParser}로 해석해 필터 색인과 함께 실행합니다.
+ *
+ * 스냅샷이 켜져 있으면 변경된 색인을 주기적으로(그리고 종료 시) 파일로 저장하고,
+ * 재시작 후에는 DB 대신 {@link SearchIndexSnapshots}에서 복원한 뒤 스냅샷 이후 변경분만 다시 읽습니다.
+ */
+@Slf4j
+@Component
+public class BookmarkSearchIndex implements BookmarkSearchBackend {
+
+    private final SearchDocumentLoader documentLoader;
+    private final TechTermRepository techTermRepository;
+    private final SearchIndexSnapshots snapshots;
+    private final TransactionTemplate loadTransaction;
+    private final ConcurrentHashMap<Long, UserSearchIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${learnhub.search.index.max-memory-bytes:67108864}")
+    private long maxMemoryBytes;
+
+    @Value("${learnhub.search.fuzzy.min-hits:3}")
+    private int fuzzyMinHits;
+
+    // 기술 용어 단어 사전 (null이면 다음 교정 요청 시 생성)
+    private volatile TrigramIndex glossaryIndex;
+
+    public BookmarkSearchIndex(SearchDocumentLoader documentLoader, TechTermRepository techTermRepository,
+                               SearchIndexSnapshots snapshots, PlatformTransactionManager transactionManager) {
+        this.documentLoader = documentLoader;
+        this.techTermRepository = techTermRepository;
+        this.snapshots = snapshots;
+        // 색인용 조회는 매번 새 트랜잭션에서 실행
+        // (호출 측 트랜잭션의 스냅샷을 쓰면 색인 생성 중 커밋된 변경을 다시 읽어도 보이지 않음)
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 키워드의 모든 토큰을 (접두어로) 포함하는 북마크 ID를 최신순으로 조회
+     * 색인이 없거나 변경분이 있으면 이 호출에서 DB를 조회해 반영합니다
+     */
+    @Override
+    public List<Long> search(Long userId, String keyword) {
+        SearchQuery query = QueryParser.parse(keyword);
+        if (query.isStructured()) {
+            return structuredSearch(userId, query, false, 0, Integer.MAX_VALUE).hits().stream()
+                    .map(SearchHit::bookmarkId)
+                    .toList();
+        }
+        List<String> tokens = SearchTokenizer.tokenizeQuery(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        UserSearchIndex index = acquire(userId);
+        return index.search(tokens);
+    }
+
+    /**
+     * 최신순 결과 중 커서 다음 구간 (커서 비교는 색인에 저장된 생성 시각 기준)
+     */
+    @Override
+    public List<Long> searchAfter(Long userId, String keyword, LocalDateTime createdAt, Long id, int limit) {
+        List<Long> latest = search(userId, keyword);
+        if (createdAt == null) {
+            return latest.subList(0, Math.min(limit, latest.size()));
+        }
+        return acquire(userId).after(latest, createdAt, id, limit);
+    }
+
+    /**
+     * 관련도(BM25F + 최신 가산점)순 상위 결과 조회
+     */
+    @Override
+    public SearchPage searchTop(Long userId, String keyword, int offset, int limit) {
+        SearchQuery query = QueryParser.parse(keyword);
+        if (query.isStructured()) {
+            return structuredSearch(userId, query, true, offset, limit);
+        }
+        List<String> tokens = SearchTokenizer.tokenizeQuery(keyword);
+        if (tokens.isEmpty()) {
+            return SearchPage.empty();
+        }
+        UserSearchIndex index = acquire(userId);
+        LocalDateTime now = LocalDateTime.now();
+        SearchPage exact = index.rankedSearch(tokens, offset, limit, now);
+        if (exact.totalHits() >= fuzzyMinHits) {
+            return exact;
+        }
+
+        String corrected = correctKeyword(index, keyword);
+        if (corrected == null) {
+            return exact;
+        }
+        // 정확 일치(N개 미만) 전체 뒤에 교정 질의 결과를 중복 없이 붙인 뒤 요청 구간을 자름
+        Map<Long, SearchHit> merged = new LinkedHashMap<>();
+        for (SearchHit hit : index.rankedSearch(tokens, 0, exact.totalHits(), now).hits()) {
+            merged.put(hit.bookmarkId(), hit);
+        }
+        List<String> correctedTokens = SearchTokenizer.tokenizeQuery(corrected);
+        for (SearchHit hit : index.rankedSearch(correctedTokens, 0, Integer.MAX_VALUE, now).hits()) {
+            merged.putIfAbsent(hit.bookmarkId(), hit);
+        }
+        log.debug("오타 교정 검색 (사용자 ID: {}, '{}' → '{}', {}건)", userId, keyword, corrected, merged.size());
+        return SearchPage.window(new ArrayList<>(merged.values()), offset, limit);
+    }
+
+    /**
+     * 검색 결과 북마크의 하이라이트 (색인에 저장된 토큰 위치 기준)
+     */
+    @Override
+    public Map<Long, Highlight> highlights(Long userId, String keyword, Collection<Long> bookmarkIds) {
+        List<String> tokens = Highlighter.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+        return acquire(userId).highlights(tokens, bookmarkIds);
+    }
+
+    /**
+     * 검색 결과 북마크의 패싯 집계 (색인이 없으면 이 호출에서 생성)
+     */
+    public FacetCounts facets(Long userId, Collection<Long> bookmarkIds) {
+        return acquire(userId).facets(bookmarkIds);
+    }
+
+    /**
+     * 관련도순 검색 결과 전체의 패싯 집계
+     */
+    @Override
+    public Optional<FacetCounts> searchFacets(Long userId, String keyword) {
+        List<Long> ids = searchTop(userId, keyword, 0, Integer.MAX_VALUE).hits().stream()
+                .map(SearchHit::bookmarkId)
+                .toList();
+        return Optional.of(facets(userId, ids));
+    }
+
+    /**
+     * 색인이 이미 만들어진 사용자만 전체 북마크 패싯을 색인에서 집계
+     * 목록 화면 때문에 색인을 새로 만들지는 않으므로, 비어 있으면 호출 측에서 DB 집계를 사용합니다
+     */
+    @Override
+    public Optional<FacetCounts> facetsIfWarm(Long userId) {
+        UserSearchIndex index = indexes.get(userId);
+        if (index == null || !index.isBuilt()) {
+            return Optional.empty();
+        }
+        return Optional.of(acquire(userId).facets(null));
+    }
+
+    /**
+     * 커밋된 변경만 표시해 두고, 다음 검색 시 한 번에 다시 읽음 (쓰기 경로에 DB 조회를 더하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        UserSearchIndex index = indexes.get(event.userId());
+        if (index != null) {
+            index.markDirty(event.bookmarkIds());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlossaryChanged(GlossaryChangedEvent event) {
+        glossaryIndex = null;
+    }
+
+    /**
+     * 마지막 스냅샷 이후 바뀐 색인만 파일로 저장하고, 보존 기간이 지난 변경 로그 정리
+     */
+    @Scheduled(initialDelayString = "${learnhub.search.snapshot.interval-ms:300000}",
+            fixedDelayString = "${learnhub.search.snapshot.interval-ms:300000}")
+    public void saveSnapshots() {
+        if (!snapshots.isEnabled()) {
+            return;
+        }
+        int saved = saveChangedSnapshots();
+        snapshots.pruneChanges();
+        if (saved > 0) {
+            log.info("검색 색인 스냅샷 저장 ({}명)", saved);
+        }
+    }
+
+    /**
+     * 롤링 재시작 시 다음 기동이 DB 전체 조회 없이 시작하도록 종료 직전에 한 번 더 저장
+     */
+    @PreDestroy
+    public void saveSnapshotsOnShutdown() {
+        if (snapshots.isEnabled()) {
+            log.info("종료 전 검색 색인 스냅샷 저장 ({}명)", saveChangedSnapshots());
+        }
+    }
+
+    public void evict(Long userId) {
+        indexes.remove(userId);
+    }
+
+    public long estimatedBytes() {
+        return indexes.values().stream().mapToLong(UserSearchIndex::estimatedBytes).sum();
+    }
+
+    /**
+     * 구조화 질의 (tag:, category:, after:, before:, "구문")
+     * 필터와 토큰 조건은 색인에서 교집합하고, 구문은 위치 정보가 없으므로 남은 후보의 원문으로 검증합니다
+     */
+    private SearchPage structuredSearch(Long userId, SearchQuery query, boolean ranked, int offset, int limit) {
+        UserSearchIndex index = acquire(userId);
+        Set<Long> categoryIds = query.categories().isEmpty() ? Set.of()
+                : loadTransaction.execute(status -> documentLoader.findCategoryIds(userId, query.categories()));
+        List<String> tokens = query.textTokens();
+        LocalDateTime now = LocalDateTime.now();
+        if (query.phrases().isEmpty()) {
+            return index.filteredSearch(tokens, query, categoryIds, ranked, offset, limit, now);
+        }
+
+        List<SearchHit> candidates = index.filteredSearch(tokens, query, categoryIds, ranked,
+                0, Integer.MAX_VALUE, now).hits();
+        List<Long> candidateIds = candidates.stream().map(SearchHit::bookmarkId).toList();
+        Set<Long> verified = loadTransaction.execute(status -> documentLoader.loadByIds(candidateIds)).stream()
+                .filter(query::matchesPhrases)
+                .map(SearchDocument::bookmarkId)
+                .collect(Collectors.toSet());
+        List<SearchHit> hits = candidates.stream()
+                .filter(hit -> verified.contains(hit.bookmarkId()))
+                .toList();
+        return SearchPage.window(hits, offset, limit);
+    }
+
+    /**
+     * 색인에서 아무 문서와도 맞지 않는 단어만 가장 가까운 단어로 바꾼 질의 (바꿀 단어가 없으면 null)
+     * 같은 거리면 내 제목/태그 단어를 기술 용어보다 우선합니다
+     */
+    private String correctKeyword(UserSearchIndex index, String keyword) {
+        List<String> words = Analyzers.WORDS.terms(keyword);
+        List<String> corrected = new ArrayList<>(words.size());
+        boolean changed = false;
+        for (String word : words) {
+            int maxDistance = TrigramIndex.maxDistanceFor(word);
+            if (maxDistance == 0 || index.hasMatch(SearchTokenizer.tokenizeQuery(word))) {
+                corrected.add(word);
+                continue;
+            }
+            TrigramIndex.Correction own = index.correct(word, maxDistance);
+            TrigramIndex.Correction glossary = glossary().closest(word, maxDistance);
+            TrigramIndex.Correction best = own;
+            if (glossary != null && (best == null || glossary.distance() < best.distance())) {
+                best = glossary;
+            }
+            if (best == null) {
+                corrected.add(word);
+            } else {
+                corrected.add(best.word());
+                changed = true;
+            }
+        }
+        return changed ? String.join(" ", corrected) : null;
+    }
+
+    private TrigramIndex glossary() {
+        TrigramIndex index = glossaryIndex;
+        if (index == null) {
+            Map<String, Integer> words = new HashMap<>();
+            List<String> names = loadTransaction.execute(status -> techTermRepository.findAllNames());
+            for (String name : names) {
+                for (String word : Analyzers.WORDS.terms(name)) {
+                    words.merge(word, 1, Integer::sum);
+                }
+            }
+            index = TrigramIndex.build(words);
+            glossaryIndex = index;
+        }
+        return index;
+    }
+
+    private UserSearchIndex acquire(Long userId) {
+        UserSearchIndex index = indexes.computeIfAbsent(userId, UserSearchIndex::new);
+        index.touch();
+        if (refresh(index)) {
+            evictOverBudget(userId);
+        }
+        return index;
+    }
+
+    /**
+     * 색인이 없으면 스냅샷 복원 또는 DB에서 생성하고, 표시된 변경분을 다시 읽어 반영
+     * @return 색인 내용이 바뀌었으면 true
+     */
+    private boolean refresh(UserSearchIndex index) {
+        Long userId = index.userId();
+        boolean changed = false;
+        ReentrantLock refreshLock = index.refreshLock();
+        refreshLock.lock();
+        try {
+            if (!index.isBuilt()) {
+                // 조회 전에 등록된 색인이므로, 조회 도중 커밋된 변경은 dirty로 남아 아래에서 다시 반영됨
+                long start = System.nanoTime();
+                Optional<LocalDateTime> watermark = snapshots.restore(index);
+                if (watermark.isPresent()) {
+                    // 스냅샷 이후 변경은 dirty로 표시해 아래의 변경 반영 경로로 다시 읽음
+                    Set<Long> replay = loadTransaction.execute(
+                            status -> snapshots.changedSince(userId, watermark.get()));
+                    index.markDirty(replay);
+                    log.info("검색 색인 스냅샷 복원 (사용자 ID: {}, 이후 변경 {}건, {}ms)", userId,
+                            replay.size(), (System.nanoTime() - start) / 1_000_000);
+                } else {
+                    index.build(loadTransaction.execute(status -> documentLoader.loadByUserId(userId)));
+                    log.info("검색 색인 생성 (사용자 ID: {}, {}KB, {}ms)", userId,
+                            index.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+                }
+                changed = true;
+            }
+
+            Set<Long> dirty = index.drainDirty();
+            if (!dirty.isEmpty()) {
+                index.apply(dirty, loadTransaction.execute(status -> documentLoader.loadByIds(dirty)));
+                changed = true;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        return changed;
+    }
+
+    /**
+     * 메모리에 있는 색인 중 마지막 스냅샷 이후 바뀐 색인 저장
+     * 기준 시각은 변경분을 반영하기 전에 정하므로, 그 뒤에 커밋된 변경은 다음 복원 때 다시 읽힙니다
+     */
+    private int saveChangedSnapshots() {
+        int saved = 0;
+        for (UserSearchIndex index : indexes.values()) {
+            if (!index.isBuilt()) {
+                continue;
+            }
+            LocalDateTime watermark = snapshots.watermark();
+            refresh(index);
+            if (index.hasUnsavedChanges()) {
+                snapshots.save(index, watermark);
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 메모리 예산 초과 시 오래 사용하지 않은 사용자 색인부터 제거 (방금 사용한 사용자는 제외)
+     */
+    private void evictOverBudget(Long currentUserId) {
+        long total = estimatedBytes();
+        if (total <= maxMemoryBytes) {
+            return;
+        }
+
+        List<UserSearchIndex> candidates = new ArrayList<>(indexes.values());
+        candidates.sort(Comparator.comparingLong(UserSearchIndex::lastAccessNanos));
+        for (UserSearchIndex candidate : candidates) {
+            if (total <= maxMemoryBytes) {
+                break;
+            }
+            if (candidate.userId().equals(currentUserId)) {
+                continue;
+            }
+            if (indexes.remove(candidate.userId(), candidate)) {
+                total -= candidate.estimatedBytes();
+                log.info("검색 색인 제거 (사용자 ID: {}, {}KB)", candidate.userId(), candidate.estimatedBytes() / 1024);
+            }
+        }
+    }
+}
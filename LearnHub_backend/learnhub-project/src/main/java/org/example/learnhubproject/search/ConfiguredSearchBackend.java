@@ -0,0 +1,72 @@
+package org.example.learnhubproject.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 설정(learnhub.search.backend)으로 고른 통합 검색 백엔드
+ *
+ * 시작 시 한 번만 구현을 고르고, 알 수 없는 값이면 애플리케이션 시작을 실패시킵니다
+ * (오타가 조용히 LIKE 검색으로 바뀌지 않도록). 모든 검색 진입점은 이 빈을 통해 같은 구현을 사용합니다.
+ * 구현 빈을 다시 등록하지 않고 위임하므로 색인의 이벤트 리스너와 종료 처리는 한 번만 실행됩니다.
+ */
+@Slf4j
+@Primary
+@Component
+public class ConfiguredSearchBackend implements BookmarkSearchBackend {
+
+    private final BookmarkSearchBackend delegate;
+
+    public ConfiguredSearchBackend(@Value("${learnhub.search.backend:memory}") String backend,
+                                   BookmarkSearchIndex memoryBackend,
+                                   FulltextSearchBackend fulltextBackend,
+                                   LikeSearchBackend likeBackend) {
+        this.delegate = switch (backend.trim().toLowerCase(Locale.ROOT)) {
+            case "memory" -> memoryBackend;
+            case "fulltext" -> fulltextBackend;
+            case "like" -> likeBackend;
+            default -> throw new IllegalStateException(
+                    "알 수 없는 검색 백엔드입니다: '" + backend + "' (memory, fulltext, like 중 하나)");
+        };
+        log.info("통합 검색 백엔드: {}", delegate.getClass().getSimpleName());
+    }
+
+    @Override
+    public List<Long> search(Long userId, String keyword) {
+        return delegate.search(userId, keyword);
+    }
+
+    @Override
+    public List<Long> searchAfter(Long userId, String keyword, LocalDateTime createdAt, Long id, int limit) {
+        return delegate.searchAfter(userId, keyword, createdAt, id, limit);
+    }
+
+    @Override
+    public SearchPage searchTop(Long userId, String keyword, int offset, int limit) {
+        return delegate.searchTop(userId, keyword, offset, limit);
+    }
+
+    @Override
+    public Map<Long, Highlight> highlights(Long userId, String keyword, Collection<Long> bookmarkIds) {
+        return delegate.highlights(userId, keyword, bookmarkIds);
+    }
+
+    @Override
+    public Optional<FacetCounts> searchFacets(Long userId, String keyword) {
+        return delegate.searchFacets(userId, keyword);
+    }
+
+    @Override
+    public Optional<FacetCounts> facetsIfWarm(Long userId) {
+        return delegate.facetsIfWarm(userId);
+    }
+}
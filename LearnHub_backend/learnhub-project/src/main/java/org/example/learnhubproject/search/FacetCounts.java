@@ -0,0 +1,13 @@
+package org.example.learnhubproject.search;
+
+import java.util.Map;
+
+/**
+ * 검색/목록 결과의 패싯 집계
+ *
+ * @param tags       태그 이름 → 북마크 수
+ * @param categories 카테고리 ID → 북마크 수
+ * @param months     생성 월(yyyyMM) → 북마크 수
+ */
+public record FacetCounts(Map<String, Long> tags, Map<Long, Long> categories, Map<Integer, Long> months) {
+}
@@ -0,0 +1,148 @@
+package org.example.learnhubproject.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.repository.BookmarkRepository;
+import org.example.learnhubproject.search.query.QueryParser;
+import org.example.learnhubproject.search.query.SearchQuery;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * MySQL FULLTEXT(ngram) 기반 검색 백엔드
+ *
+ * DB에서 가장 긴 질의 토큰 하나로 후보를 좁힌 뒤, 후보 문서에 인메모리 색인과 같은 매칭 규칙을 적용합니다.
+ * ngram 구문 검색은 부분 문자열 매칭이므로 "토큰 접두어" 매칭 결과를 모두 포함하는 후보 집합이 됩니다.
+ * FULLTEXT가 없는 DB(H2 등)에서는 같은 컬럼을 LIKE로 검사하는 후보 쿼리를 사용합니다.
+ * 구조화 질의의 필터(태그, 카테고리, 기간, 구문)는 후보 문서에 같은 규칙({@link SearchQuery#matchesFilters})으로 적용합니다.
+ */
+@Slf4j
+@Component
+public class FulltextSearchBackend implements BookmarkSearchBackend {
+
+    // MySQL ngram_token_size 기본값 (이보다 짧은 토큰은 FULLTEXT로 찾을 수 없음)
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final Comparator<SearchDocument> LATEST_FIRST = Comparator
+            .comparing(SearchDocument::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(SearchDocument::bookmarkId, Comparator.reverseOrder());
+
+    private final BookmarkRepository bookmarkRepository;
+    private final SearchDocumentLoader documentLoader;
+    private final boolean fulltextSupported;
+
+    public FulltextSearchBackend(BookmarkRepository bookmarkRepository, SearchDocumentLoader documentLoader,
+                                 DataSource dataSource) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.documentLoader = documentLoader;
+        this.fulltextSupported = isMySql(dataSource);
+    }
+
+    @Override
+    public List<Long> search(Long userId, String keyword) {
+        return matchingDocuments(userId, keyword)
+                .map(SearchDocument::bookmarkId)
+                .toList();
+    }
+
+    /**
+     * 검증한 후보 문서의 생성 시각으로 커서 다음 구간만 반환
+     */
+    @Override
+    public List<Long> searchAfter(Long userId, String keyword, LocalDateTime createdAt, Long id, int limit) {
+        Stream<SearchDocument> documents = matchingDocuments(userId, keyword);
+        if (createdAt != null) {
+            SearchDocument cursor = new SearchDocument(id, createdAt, null, null, null, null, null, null, List.of());
+            documents = documents.filter(document -> LATEST_FIRST.compare(document, cursor) > 0);
+        }
+        return documents.limit(limit)
+                .map(SearchDocument::bookmarkId)
+                .toList();
+    }
+
+    /**
+     * 매칭된 문서 (최신순)
+     */
+    private Stream<SearchDocument> matchingDocuments(Long userId, String keyword) {
+        SearchQuery query = QueryParser.parse(keyword);
+        List<String> tokens = query.isStructured() ? query.textTokens() : SearchTokenizer.tokenizeQuery(keyword);
+        if (tokens.isEmpty() && !query.isStructured()) {
+            return Stream.empty();
+        }
+        Set<Long> categoryIds = query.categories().isEmpty() ? Set.of()
+                : documentLoader.findCategoryIds(userId, query.categories());
+        if (!query.categories().isEmpty() && categoryIds.isEmpty()) {
+            return Stream.empty();
+        }
+
+        List<Long> candidateIds = tokens.isEmpty()
+                ? findFilterCandidateIds(userId, query, categoryIds)
+                : findCandidateIds(userId, tokens);
+        return documentLoader.loadByIds(candidateIds).stream()
+                .filter(document -> document.matches(tokens) && query.matchesFilters(document, categoryIds))
+                .sorted(LATEST_FIRST);
+    }
+
+    /**
+     * 검색어 없는 필터 질의의 후보 - 보통 더 선택적인 순서(태그 → 카테고리 → 기간)로 인덱스 조회 하나를 고름
+     * 나머지 필터는 후보 문서 검증 단계에서 적용됩니다
+     */
+    private List<Long> findFilterCandidateIds(Long userId, SearchQuery query, Set<Long> categoryIds) {
+        if (!query.tags().isEmpty()) {
+            // query.tags()는 NameNormalizer.normalize로 정규화되어 태그 정규화 이름과 같은 형태
+            return bookmarkRepository.findIdsByUserIdAndCanonicalTagName(userId, query.tags().get(0));
+        }
+        if (!categoryIds.isEmpty()) {
+            return bookmarkRepository.findIdsByUserIdAndCategoryIdIn(userId, categoryIds);
+        }
+        if (query.createdFrom() != null || query.createdBefore() != null) {
+            return bookmarkRepository.findIdsByUserIdAndCreatedAtRange(userId,
+                    query.createdFrom() != null ? query.createdFrom() : MIN_CREATED_AT,
+                    query.createdBefore() != null ? query.createdBefore() : MAX_CREATED_AT);
+        }
+        return bookmarkRepository.findIdsByUserId(userId);
+    }
+
+    /**
+     * 가장 긴 토큰 하나로 DB에서 후보를 좁힘
+     */
+    private List<Long> findCandidateIds(Long userId, List<String> tokens) {
+        String driver = tokens.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        List<Long> candidateIds;
+        if (driver.length() < NGRAM_TOKEN_SIZE) {
+            // 한 글자 질의는 후보를 좁힐 수 없으므로 사용자 전체 북마크를 검증
+            candidateIds = bookmarkRepository.findIdsByUserId(userId);
+        } else if (fulltextSupported) {
+            candidateIds = bookmarkRepository.findFulltextCandidateIds(userId, "\"" + driver + "\"", driver);
+        } else {
+            candidateIds = bookmarkRepository.findTextCandidateIds(userId, driver);
+        }
+        return candidateIds;
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource,
+                    DatabaseMetaData::getDatabaseProductName);
+            boolean mysql = "MySQL".equalsIgnoreCase(productName);
+            if (!mysql) {
+                log.info("FULLTEXT 미지원 DB({})입니다. fulltext 검색 백엔드는 LIKE 후보 조회를 사용합니다", productName);
+            }
+            return mysql;
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류 확인 실패, fulltext 검색 백엔드는 LIKE 후보 조회를 사용합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+}
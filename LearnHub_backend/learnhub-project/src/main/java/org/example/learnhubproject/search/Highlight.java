@@ -0,0 +1,17 @@
+package org.example.learnhubproject.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 건의 하이라이트 위치 (정규화된 원문 기준 [start, end) 구간, 겹치는 구간은 병합)
+ *
+ * @param title       제목에서 질의 토큰과 일치한 구간
+ * @param description 설명에서 질의 토큰과 일치한 구간
+ */
+public record Highlight(List<Span> title, List<Span> description) {
+
+    public static final Highlight NONE = new Highlight(List.of(), List.of());
+
+    public record Span(int start, int end) {
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.search.analysis.Analyzers;
+import org.example.learnhubproject.search.query.QueryParser;
+import org.example.learnhubproject.search.query.SearchQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 하이라이트/스니펫 생성
+ *
+ * 인메모리 색인은 저장해 둔 토큰 위치로 하이라이트를 계산하고 ({@link BookmarkSearchIndex#highlights}),
+ * 위치 정보가 없는 백엔드는 {@link #analyze}로 결과 페이지의 제목/설명만 분석합니다.
+ * 스니펫은 하이라이트가 가장 많이 모인 구간을 잘라내므로 원문을 다시 훑지 않습니다.
+ */
+public final class Highlighter {
+
+    public static final int SNIPPET_LENGTH = 120;
+    private static final String ELLIPSIS = "…";
+    // 첫 하이라이트 앞에 남길 문맥 길이
+    private static final int LEADING_CONTEXT = SNIPPET_LENGTH / 4;
+
+    private Highlighter() {
+    }
+
+    /**
+     * 스니펫과 스니펫 기준 하이라이트 구간
+     */
+    public record Snippet(String text, List<Highlight.Span> highlights) {
+    }
+
+    /**
+     * 하이라이트에 사용할 질의 토큰 (구조화 질의는 자유 검색어와 구문의 토큰)
+     */
+    public static List<String> queryTokens(String keyword) {
+        SearchQuery query = QueryParser.parse(keyword);
+        return query.isStructured() ? query.textTokens() : SearchTokenizer.tokenizeQuery(keyword);
+    }
+
+    /**
+     * 색인 위치가 없을 때 제목/설명을 직접 분석해 하이라이트 계산
+     */
+    public static Highlight analyze(String title, String description, List<String> queryTokens) {
+        TokenPositions.Builder builder = new TokenPositions.Builder();
+        builder.analyze(SearchField.TITLE, title);
+        builder.analyze(SearchField.DESCRIPTION, description);
+        TokenPositions positions = builder.build(null);
+        return positions == null ? Highlight.NONE : positions.highlight(queryTokens);
+    }
+
+    /**
+     * 설명에서 하이라이트가 가장 많이 들어가는 {@value #SNIPPET_LENGTH}자 구간을 스니펫으로 생성
+     * 하이라이트가 없으면 앞부분을 사용합니다
+     *
+     * @param description 설명 원문 (하이라이트 위치는 정규화된 텍스트 기준)
+     * @param spans       설명의 하이라이트 구간 (시작 위치 오름차순)
+     * @return 설명이 비어 있으면 null
+     */
+    public static Snippet snippet(String description, List<Highlight.Span> spans) {
+        if (description == null || description.isBlank()) {
+            return null;
+        }
+        String text = Analyzers.KOREAN.normalize(description);
+        if (text.length() <= SNIPPET_LENGTH) {
+            return new Snippet(text, clip(spans, 0, text.length(), 0));
+        }
+
+        int windowStart = 0;
+        if (!spans.isEmpty()) {
+            // 구간 시작점마다 창을 두고 완전히 들어가는 하이라이트 수가 가장 많은 창 선택 (두 포인터)
+            int best = 0;
+            int bestCount = 0;
+            int end = 0;
+            for (int first = 0; first < spans.size(); first++) {
+                end = Math.max(end, first);
+                int limit = spans.get(first).start() + SNIPPET_LENGTH;
+                while (end < spans.size() && spans.get(end).end() <= limit) {
+                    end++;
+                }
+                if (end - first > bestCount) {
+                    bestCount = end - first;
+                    best = first;
+                }
+            }
+            windowStart = Math.max(0, spans.get(best).start() - LEADING_CONTEXT);
+        }
+        windowStart = Math.min(windowStart, text.length() - SNIPPET_LENGTH);
+        int windowEnd = windowStart + SNIPPET_LENGTH;
+
+        String prefix = windowStart > 0 ? ELLIPSIS : "";
+        String suffix = windowEnd < text.length() ? ELLIPSIS : "";
+        String snippetText = prefix + text.substring(windowStart, windowEnd) + suffix;
+        return new Snippet(snippetText, clip(spans, windowStart, windowEnd, prefix.length()));
+    }
+
+    /**
+     * 창 안에 걸친 구간만 창 기준 위치로 변환
+     */
+    private static List<Highlight.Span> clip(List<Highlight.Span> spans, int windowStart, int windowEnd, int shift) {
+        List<Highlight.Span> clipped = new ArrayList<>();
+        for (Highlight.Span span : spans) {
+            int start = Math.max(span.start(), windowStart);
+            int end = Math.min(span.end(), windowEnd);
+            if (start < end) {
+                clipped.add(new Highlight.Span(start - windowStart + shift, end - windowStart + shift));
+            }
+        }
+        return clipped;
+    }
+}
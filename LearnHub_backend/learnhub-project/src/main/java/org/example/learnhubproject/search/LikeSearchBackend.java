@@ -0,0 +1,62 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.repository.BookmarkRepository;
+import org.example.learnhubproject.search.query.QueryParser;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DB LIKE 기반 검색 백엔드 (키워드 전체를 부분 문자열로 검사, 최신순)
+ *
+ * 구조화 질의(tag:, category:, after:, "구문")는 {@link FulltextSearchBackend}의 필터 검증 경로로 처리합니다.
+ */
+@Component
+public class LikeSearchBackend implements BookmarkSearchBackend {
+
+    // 첫 페이지 조회 시 keyset 조건의 경계값
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final BookmarkRepository bookmarkRepository;
+    private final FulltextSearchBackend fulltextSearchBackend;
+
+    public LikeSearchBackend(BookmarkRepository bookmarkRepository, FulltextSearchBackend fulltextSearchBackend) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.fulltextSearchBackend = fulltextSearchBackend;
+    }
+
+    @Override
+    public List<Long> search(Long userId, String keyword) {
+        if (QueryParser.parse(keyword).isStructured()) {
+            return fulltextSearchBackend.search(userId, keyword);
+        }
+        return bookmarkRepository.searchIdsLatestAfter(userId, escapeLikeKeyword(keyword),
+                MAX_CREATED_AT, Long.MAX_VALUE, Limit.unlimited());
+    }
+
+    /**
+     * 커서 조건을 keyset WHERE 절로 넘겨 요청한 구간만 조회
+     */
+    @Override
+    public List<Long> searchAfter(Long userId, String keyword, LocalDateTime createdAt, Long id, int limit) {
+        if (QueryParser.parse(keyword).isStructured()) {
+            return fulltextSearchBackend.searchAfter(userId, keyword, createdAt, id, limit);
+        }
+        return bookmarkRepository.searchIdsLatestAfter(userId, escapeLikeKeyword(keyword),
+                createdAt != null ? createdAt : MAX_CREATED_AT,
+                createdAt != null ? id : Long.MAX_VALUE,
+                Limit.of(limit));
+    }
+
+    /**
+     * SQL 특수문자 이스케이프 처리
+     */
+    private static String escapeLikeKeyword(String keyword) {
+        return keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
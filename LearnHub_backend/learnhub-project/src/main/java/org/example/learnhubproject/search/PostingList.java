@@ -0,0 +1,175 @@
+package org.example.learnhubproject.search;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 문서 번호(ordinal)를 오름차순으로 담는 primitive 포스팅 리스트
+ * 문서 번호는 색인 순서대로 증가하므로 추가는 항상 끝에 붙이기만 하면 됩니다
+ *
+ * 문서별 필드 출현 빈도는 long 하나에 필드당 {@value #FREQ_BITS}비트씩 묶어 저장합니다 (필드 순서는 {@link SearchField})
+ *
+ * 스냅샷에서 복원한 리스트는 매핑된 파일 영역(빈도 long[size] 뒤에 문서 번호 int[size])을 그대로 읽고,
+ * 처음 변경될 때만 힙 배열로 복사합니다.
+ */
+final class PostingList {
+
+    static final int FREQ_BITS = 12;
+    static final long FREQ_MASK = (1L << FREQ_BITS) - 1;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private long[] freqs = new long[INITIAL_CAPACITY];
+    private int size;
+    // 스냅샷 파일 매핑 영역 (null이면 힙 배열 사용)
+    private ByteBuffer region;
+
+    PostingList() {
+    }
+
+    private PostingList(ByteBuffer region, int size) {
+        this.region = region;
+        this.size = size;
+    }
+
+    /**
+     * 스냅샷 파일의 포스팅 영역을 복사하지 않고 감싼 리스트
+     */
+    static PostingList mapped(ByteBuffer region, int size) {
+        return new PostingList(region, size);
+    }
+
+    /**
+     * 스냅샷 파일에서 차지하는 바이트 수 (다음 리스트가 8바이트 경계에서 시작하도록 정렬)
+     */
+    static long snapshotBytes(int size) {
+        return size * 8L + ((size * 4L + 7) & ~7L);
+    }
+
+    /**
+     * 문서의 해당 필드 빈도를 1 증가 (같은 문서는 마지막 항목에 누적)
+     */
+    void add(int doc, SearchField field) {
+        materialize();
+        if (size == 0 || docs[size - 1] != doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = 0;
+            size++;
+        }
+        int shift = field.ordinal() * FREQ_BITS;
+        if (((freqs[size - 1] >>> shift) & FREQ_MASK) < FREQ_MASK) {
+            freqs[size - 1] += 1L << shift;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 힙에 할당된 항목 수 (매핑된 리스트는 0)
+     */
+    int capacity() {
+        return region == null ? docs.length : 0;
+    }
+
+    int doc(int index) {
+        return region == null ? docs[index] : region.getInt(size * 8 + index * 4);
+    }
+
+    static int freq(long packed, SearchField field) {
+        return (int) ((packed >>> (field.ordinal() * FREQ_BITS)) & FREQ_MASK);
+    }
+
+    long packedFreqs(int index) {
+        return region == null ? freqs[index] : region.getLong(index * 8);
+    }
+
+    void addTo(BitSet target) {
+        for (int i = 0; i < size; i++) {
+            target.set(doc(i));
+        }
+    }
+
+    /**
+     * 스냅샷 형식으로 기록 (빈도, 문서 번호, 8바이트 정렬 패딩)
+     * @param remap 이전 번호 → 새 번호 (삭제된 문서는 -1, 결과가 {@code liveSize}개가 되어야 함)
+     */
+    void writeSnapshot(DataOutput out, int[] remap, int liveSize) throws IOException {
+        for (int i = 0; i < size; i++) {
+            if (remap[doc(i)] >= 0) {
+                out.writeLong(packedFreqs(i));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            int mapped = remap[doc(i)];
+            if (mapped >= 0) {
+                out.writeInt(mapped);
+            }
+        }
+        if ((liveSize & 1) == 1) {
+            out.writeInt(0);
+        }
+    }
+
+    /**
+     * 삭제된 문서를 제외한 항목 수
+     */
+    int liveSize(int[] remap) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (remap[doc(i)] >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 삭제된 문서를 제거하고 문서 번호를 새 번호로 치환
+     * @param remap 이전 번호 → 새 번호 (삭제된 문서는 -1)
+     */
+    void compact(int[] remap) {
+        materialize();
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            int mapped = remap[docs[i]];
+            if (mapped >= 0) {
+                docs[newSize] = mapped;
+                freqs[newSize] = freqs[i];
+                newSize++;
+            }
+        }
+        size = newSize;
+        if (docs.length > INITIAL_CAPACITY && size < docs.length / 4) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            docs = Arrays.copyOf(docs, capacity);
+            freqs = Arrays.copyOf(freqs, capacity);
+        }
+    }
+
+    /**
+     * 매핑된 리스트를 힙 배열로 복사 (이후 변경은 파일과 무관)
+     */
+    private void materialize() {
+        if (region == null) {
+            return;
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, size);
+        docs = new int[capacity];
+        freqs = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            freqs[i] = region.getLong(i * 8);
+            docs[i] = region.getInt(size * 8 + i * 4);
+        }
+        region = null;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.repository.projection.BookmarkRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 인덱스에 색인되는 북마크 문서
+ */
+public record SearchDocument(
+        Long bookmarkId,
+        LocalDateTime createdAt,
+        Long categoryId,
+        String title,
+        String description,
+        String metaTitle,
+        String metaDescription,
+        String url,
+        List<String> tags
+) {
+
+    public static SearchDocument from(BookmarkRow row, List<String> tags) {
+        return new SearchDocument(row.id(), row.createdAt(), row.categoryId(), row.title(), row.description(),
+                row.metaTitle(), row.metaDescription(), row.url(), tags);
+    }
+
+    /**
+     * 색인/검증에 사용하는 전체 토큰 (제목, 설명, 메타 정보, URL, 태그)
+     */
+    public List<String> tokens() {
+        List<String> tokens = new ArrayList<>();
+        for (SearchField field : SearchField.values()) {
+            tokens.addAll(tokens(field));
+        }
+        return tokens;
+    }
+
+    public List<String> tokens(SearchField field) {
+        return switch (field) {
+            case TITLE -> SearchTokenizer.tokenize(title);
+            case DESCRIPTION -> SearchTokenizer.tokenize(description);
+            case META -> {
+                List<String> tokens = new ArrayList<>(SearchTokenizer.tokenize(metaTitle));
+                tokens.addAll(SearchTokenizer.tokenize(metaDescription));
+                yield tokens;
+            }
+            case URL -> SearchTokenizer.tokenizeUrl(url);
+            case TAG -> {
+                List<String> tokens = new ArrayList<>();
+                if (tags != null) {
+                    for (String tag : tags) {
+                        tokens.addAll(SearchTokenizer.tokenize(tag));
+                    }
+                }
+                yield tokens;
+            }
+        };
+    }
+
+    /**
+     * 모든 질의 토큰이 문서 토큰 중 하나의 접두어인지 확인 (인메모리 색인과 동일한 매칭 규칙)
+     */
+    public boolean matches(List<String> queryTokens) {
+        List<String> tokens = tokens();
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String token : tokens) {
+                if (token.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
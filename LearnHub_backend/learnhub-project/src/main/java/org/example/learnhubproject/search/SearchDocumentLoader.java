@@ -0,0 +1,74 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.entity.Category;
+import org.example.learnhubproject.repository.BookmarkRepository;
+import org.example.learnhubproject.repository.CategoryRepository;
+import org.example.learnhubproject.repository.projection.BookmarkRow;
+import org.example.learnhubproject.repository.projection.BookmarkTagRow;
+import org.example.learnhubproject.util.NameNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 문서 로더 (북마크 행/태그 행 프로젝션을 검색 문서로 변환)
+ */
+@Component
+public class SearchDocumentLoader {
+
+    private final BookmarkRepository bookmarkRepository;
+    private final CategoryRepository categoryRepository;
+
+    public SearchDocumentLoader(BookmarkRepository bookmarkRepository, CategoryRepository categoryRepository) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public List<SearchDocument> loadByUserId(Long userId) {
+        return toDocuments(
+                bookmarkRepository.findRowsByUserIdOrderByLatest(userId),
+                bookmarkRepository.findTagRowsByUserId(userId));
+    }
+
+    /**
+     * ID 목록에 해당하는 문서 조회 (삭제된 북마크는 결과에서 빠짐)
+     */
+    public List<SearchDocument> loadByIds(Collection<Long> bookmarkIds) {
+        if (bookmarkIds.isEmpty()) {
+            return List.of();
+        }
+        return toDocuments(
+                bookmarkRepository.findRowsByIdIn(bookmarkIds),
+                bookmarkRepository.findTagRowsByBookmarkIdIn(bookmarkIds));
+    }
+
+    /**
+     * 사용자의 카테고리 중 이름이 일치하는 카테고리 ID (대소문자 무시)
+     * @param normalizedNames {@link NameNormalizer#normalize}로 정규화된 이름
+     */
+    public Set<Long> findCategoryIds(Long userId, Collection<String> normalizedNames) {
+        return categoryRepository.findByUserId(userId).stream()
+                .filter(category -> normalizedNames.contains(NameNormalizer.normalize(category.getName())))
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private List<SearchDocument> toDocuments(List<BookmarkRow> rows, List<BookmarkTagRow> tagRows) {
+        Map<Long, List<String>> tagsByBookmarkId = new HashMap<>();
+        for (BookmarkTagRow tagRow : tagRows) {
+            tagsByBookmarkId.computeIfAbsent(tagRow.bookmarkId(), k -> new ArrayList<>()).add(tagRow.tagName());
+        }
+
+        List<SearchDocument> documents = new ArrayList<>(rows.size());
+        for (BookmarkRow row : rows) {
+            documents.add(SearchDocument.from(row, tagsByBookmarkId.getOrDefault(row.id(), List.of())));
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.learnhubproject.search;
+
+/**
+ * 색인 필드와 랭킹 가중치 (태그 > 제목 > 메타 정보 > 설명 > URL)
+ */
+public enum SearchField {
+    TAG(3.0f),
+    TITLE(2.5f),
+    META(1.5f),
+    DESCRIPTION(1.0f),
+    URL(0.5f);
+
+    private final float boost;
+
+    SearchField(float boost) {
+        this.boost = boost;
+    }
+
+    public float boost() {
+        return boost;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.learnhubproject.search;
+
+/**
+ * 검색 결과 한 건 (랭킹 점수 포함, 최신순 검색에서는 0)
+ */
+public record SearchHit(Long bookmarkId, double score) {
+}
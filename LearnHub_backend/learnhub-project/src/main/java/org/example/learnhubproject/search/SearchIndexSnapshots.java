@@ -0,0 +1,203 @@
+package org.example.learnhubproject.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.entity.BookmarkChange;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.repository.BookmarkChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 검색 색인 스냅샷 저장소
+ *
+ * 색인을 사용자별 로컬 파일로 저장하고, 재시작 후 첫 검색에서 파일을 메모리 매핑해 DB 전체 조회 없이 복원합니다.
+ * 스냅샷 이후의 변경은 북마크 변경 로그(bookmark_changes)에서 ID만 읽어 기존 변경 반영 경로로 다시 읽습니다.
+ * 변경 로그는 다른 인스턴스의 쓰기도 담기므로 롤링 재시작 중에 다른 서버가 반영한 변경도 놓치지 않습니다.
+ *
+ * 파일 형식: 헤더(매직, 형식 버전, 사용자 ID, 기준 시각, 본문 길이) + {@link UserSearchIndex#writeSnapshot} 본문
+ */
+@Slf4j
+@Component
+public class SearchIndexSnapshots {
+
+    private static final int MAGIC = 0x4C485349; // "LHSI"
+    // 분석기나 본문 구성이 바뀌면 올려서 이전 스냅샷을 버림
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    // 기준 시각 여유 (스냅샷 직전에 시작해 늦게 커밋된 트랜잭션과 서버 간 시계 차이)
+    private static final Duration WATERMARK_MARGIN = Duration.ofMinutes(1);
+
+    private final BookmarkChangeRepository bookmarkChangeRepository;
+    private final TransactionTemplate writeTransaction;
+
+    @Value("${learnhub.search.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${learnhub.search.snapshot.dir:data/search-snapshots}")
+    private Path directory;
+
+    @Value("${learnhub.search.snapshot.retention-days:7}")
+    private int retentionDays;
+
+    public SearchIndexSnapshots(BookmarkChangeRepository bookmarkChangeRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.bookmarkChangeRepository = bookmarkChangeRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 변경을 발행한 트랜잭션 안에서 변경 로그 기록 (북마크 변경과 함께 커밋/롤백)
+     */
+    @EventListener
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        bookmarkChangeRepository.saveAll(event.bookmarkIds().stream()
+                .map(bookmarkId -> BookmarkChange.builder()
+                        .userId(event.userId())
+                        .bookmarkId(bookmarkId)
+                        .changedAt(now)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 지금 저장하는 스냅샷의 기준 시각 (색인의 변경분을 다시 읽기 전에 구해야 함)
+     */
+    LocalDateTime watermark() {
+        return LocalDateTime.now().minus(WATERMARK_MARGIN);
+    }
+
+    /**
+     * 색인을 임시 파일에 쓴 뒤 원자적으로 교체
+     */
+    void save(UserSearchIndex index, LocalDateTime watermark) {
+        Path target = file(index.userId());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            long savedVersion;
+            try (FileOutputStream file = new FileOutputStream(temp.toFile());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(index.userId());
+                out.writeLong(toEpochMillis(watermark));
+                out.writeLong(0); // 본문 길이 (아래에서 채움)
+                savedVersion = index.writeSnapshot(out);
+                out.flush();
+                long bodyBytes = file.getChannel().size() - HEADER_BYTES;
+                file.getChannel().write(ByteBuffer.allocate(Long.BYTES).putLong(0, bodyBytes), HEADER_BYTES - Long.BYTES);
+                file.getChannel().force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            index.snapshotSaved(savedVersion);
+            log.debug("검색 색인 스냅샷 저장 (사용자 ID: {}, {}KB)", index.userId(), Files.size(target) / 1024);
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 스냅샷 저장 실패 (사용자 ID: {}): {}", index.userId(), e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 매핑해 빈 색인을 채움
+     * @return 복원한 스냅샷의 기준 시각 (파일이 없거나, 보존 기간이 지났거나, 읽을 수 없으면 empty)
+     */
+    Optional<LocalDateTime> restore(UserSearchIndex index) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path path = file(index.userId());
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 채널을 닫아도 매핑은 버퍼가 수거될 때까지 유지되고, 교체된 파일도 기존 매핑은 그대로 읽을 수 있음
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION
+                    || buffer.getLong(8) != index.userId()
+                    || buffer.getLong(24) != buffer.limit() - HEADER_BYTES) {
+                log.info("검색 색인 스냅샷 형식 불일치로 폐기 (사용자 ID: {})", index.userId());
+                deleteQuietly(path);
+                return Optional.empty();
+            }
+            LocalDateTime watermark = fromEpochMillis(buffer.getLong(16));
+            if (watermark.isBefore(LocalDateTime.now().minusDays(retentionDays))) {
+                // 변경 로그가 이미 정리되었을 수 있으므로 DB에서 다시 생성
+                deleteQuietly(path);
+                return Optional.empty();
+            }
+            index.restore(buffer.slice(HEADER_BYTES, buffer.limit() - HEADER_BYTES));
+            return Optional.of(watermark);
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 스냅샷 복원 실패 (사용자 ID: {}): {}", index.userId(), e.getMessage());
+            deleteQuietly(path);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 기준 시각 이후 변경된 북마크 ID (호출 측 트랜잭션에서 실행)
+     */
+    Set<Long> changedSince(Long userId, LocalDateTime watermark) {
+        return bookmarkChangeRepository.findBookmarkIdsChangedSince(userId, watermark);
+    }
+
+    /**
+     * 보존 기간이 지난 변경 로그 삭제 (그보다 오래된 스냅샷은 복원하지 않음)
+     */
+    void pruneChanges() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = writeTransaction.execute(status -> bookmarkChangeRepository.deleteByChangedAtBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("북마크 변경 로그 정리 ({}건)", deleted);
+        }
+    }
+
+    private Path file(Long userId) {
+        return directory.resolve("user-" + userId + ".snapshot");
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 파일 삭제 실패 ({}): {}", path, e.getMessage());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC);
+    }
+}
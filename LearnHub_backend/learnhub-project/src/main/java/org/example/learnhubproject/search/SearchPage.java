@@ -0,0 +1,36 @@
+package org.example.learnhubproject.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지
+ *
+ * @param hits      요청한 구간의 결과 (순위순)
+ * @param totalHits 전체 매칭 수
+ */
+public record SearchPage(List<SearchHit> hits, int totalHits) {
+
+    public static SearchPage empty() {
+        return new SearchPage(List.of(), 0);
+    }
+
+    /**
+     * 이미 정렬된 전체 결과에서 구간을 잘라 페이지 생성
+     */
+    public static SearchPage window(List<SearchHit> orderedHits, int offset, int limit) {
+        int from = Math.min(offset, orderedHits.size());
+        int to = (int) Math.min((long) from + limit, orderedHits.size());
+        return new SearchPage(List.copyOf(orderedHits.subList(from, to)), orderedHits.size());
+    }
+
+    /**
+     * 이미 정렬된 ID 목록에서 구간을 잘라 페이지 생성 (점수 없음)
+     */
+    public static SearchPage slice(List<Long> orderedIds, int offset, int limit) {
+        int from = Math.min(offset, orderedIds.size());
+        int to = (int) Math.min((long) from + limit, orderedIds.size());
+        return new SearchPage(orderedIds.subList(from, to).stream()
+                .map(id -> new SearchHit(id, 0))
+                .toList(), orderedIds.size());
+    }
+}
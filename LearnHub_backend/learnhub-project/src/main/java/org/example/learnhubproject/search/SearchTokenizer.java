@@ -0,0 +1,49 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.search.analysis.Analyzers;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 검색용 토크나이저 (색인/질의 공통 진입점)
+ * 실제 분석은 {@link Analyzers#KOREAN} 분석기 체인이 수행합니다
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        return Analyzers.KOREAN.terms(text);
+    }
+
+    /**
+     * 질의 토큰화 - 질의가 불용어로만 이루어져 있으면 불용어를 그대로 사용
+     */
+    public static List<String> tokenizeQuery(String query) {
+        List<String> tokens = Analyzers.KOREAN.terms(query);
+        if (tokens.isEmpty()) {
+            return Analyzers.KOREAN_KEEP_STOPWORDS.terms(query);
+        }
+        return tokens;
+    }
+
+    /**
+     * URL은 호스트와 경로 세그먼트만 색인 (스킴, 쿼리스트링 제외)
+     */
+    public static List<String> tokenizeUrl(String url) {
+        if (url == null || url.isEmpty()) {
+            return List.of();
+        }
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getHost() != null) {
+                return tokenize(uri.getHost() + " " + (uri.getPath() == null ? "" : uri.getPath()));
+            }
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 URL은 전체 문자열을 토큰화
+        }
+        return tokenize(url);
+    }
+}
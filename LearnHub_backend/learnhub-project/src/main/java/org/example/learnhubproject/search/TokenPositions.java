@@ -0,0 +1,159 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.search.analysis.Analyzers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 문서 하나의 제목/설명 토큰 위치 (하이라이트용 정방향 색인)
+ *
+ * 토큰 문자열과 (필드, 시작, 끝) 오프셋을 long 하나로 묶어 색인 순서대로 저장합니다.
+ * 문서당 최대 {@value #MAX_POSITIONS}개까지만 저장하므로 하이라이트 계산 비용은 결과 한 건당 상수로 제한됩니다.
+ */
+final class TokenPositions {
+
+    static final int MAX_POSITIONS = 256;
+    static final int MAX_HIGHLIGHTS = 16;
+
+    private static final int OFFSET_BITS = 30;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final SearchField[] FIELDS = SearchField.values();
+
+    private final String[] terms;
+    private final long[] spans;
+
+    private TokenPositions(String[] terms, long[] spans) {
+        this.terms = terms;
+        this.spans = spans;
+    }
+
+    /**
+     * 질의 토큰을 접두어로 갖는 토큰의 위치 (검색 매칭 규칙과 동일)
+     */
+    Highlight highlight(List<String> queryTokens) {
+        List<Highlight.Span> title = new ArrayList<>();
+        List<Highlight.Span> description = new ArrayList<>();
+        for (int i = 0; i < terms.length; i++) {
+            for (String token : queryTokens) {
+                if (terms[i].startsWith(token)) {
+                    long span = spans[i];
+                    Highlight.Span matched = new Highlight.Span(
+                            (int) ((span >>> OFFSET_BITS) & OFFSET_MASK), (int) (span & OFFSET_MASK));
+                    (field(span) == SearchField.TITLE ? title : description).add(matched);
+                    break;
+                }
+            }
+        }
+        if (title.isEmpty() && description.isEmpty()) {
+            return Highlight.NONE;
+        }
+        return new Highlight(merge(title), merge(description));
+    }
+
+    /**
+     * 스냅샷에서 읽은 위치로 복원 (terms는 색인 사전의 키 인스턴스)
+     */
+    static TokenPositions of(String[] terms, long[] spans) {
+        return new TokenPositions(terms, spans);
+    }
+
+    int size() {
+        return terms.length;
+    }
+
+    String term(int index) {
+        return terms[index];
+    }
+
+    long span(int index) {
+        return spans[index];
+    }
+
+    long estimatedBytes() {
+        // 토큰 참조(색인 사전의 키 공유) + 오프셋
+        return 32 + terms.length * 12L;
+    }
+
+    private static SearchField field(long span) {
+        return FIELDS[(int) (span >>> (OFFSET_BITS * 2))];
+    }
+
+    /**
+     * 겹치는 구간 병합 (한글 bigram "스프", "프링" → "스프링")
+     */
+    private static List<Highlight.Span> merge(List<Highlight.Span> spans) {
+        if (spans.size() <= 1) {
+            return spans;
+        }
+        spans.sort(Comparator.comparingInt(Highlight.Span::start));
+        List<Highlight.Span> merged = new ArrayList<>();
+        Highlight.Span current = spans.get(0);
+        for (int i = 1; i < spans.size(); i++) {
+            Highlight.Span next = spans.get(i);
+            if (next.start() <= current.end()) {
+                current = new Highlight.Span(current.start(), Math.max(current.end(), next.end()));
+            } else {
+                merged.add(current);
+                if (merged.size() == MAX_HIGHLIGHTS) {
+                    return merged;
+                }
+                current = next;
+            }
+        }
+        merged.add(current);
+        return merged;
+    }
+
+    /**
+     * 색인 시 토큰화와 위치 기록을 한 번의 분석으로 수행
+     */
+    static final class Builder {
+
+        private String[] terms = new String[16];
+        private long[] spans = new long[16];
+        private int size;
+
+        /**
+         * {@link SearchTokenizer#tokenize}와 같은 토큰을 반환하면서 위치를 기록
+         */
+        List<String> analyze(SearchField field, String text) {
+            List<String> tokens = new ArrayList<>();
+            Analyzers.KOREAN.analyze(text, token -> {
+                String term = token.term();
+                tokens.add(term);
+                if (size < MAX_POSITIONS && token.endOffset() <= OFFSET_MASK) {
+                    if (size == terms.length) {
+                        terms = Arrays.copyOf(terms, size * 2);
+                        spans = Arrays.copyOf(spans, size * 2);
+                    }
+                    terms[size] = term;
+                    spans[size] = ((long) field.ordinal() << (OFFSET_BITS * 2))
+                            | ((long) token.startOffset() << OFFSET_BITS) | token.endOffset();
+                    size++;
+                }
+            });
+            return tokens;
+        }
+
+        /**
+         * @param canonical 같은 문자열을 색인 사전의 키 인스턴스로 바꿔 문서 간에 공유 (null이면 그대로)
+         * @return 기록된 위치가 없으면 null
+         */
+        TokenPositions build(UnaryOperator<String> canonical) {
+            if (size == 0) {
+                return null;
+            }
+            String[] builtTerms = Arrays.copyOf(terms, size);
+            if (canonical != null) {
+                for (int i = 0; i < size; i++) {
+                    builtTerms[i] = canonical.apply(builtTerms[i]);
+                }
+            }
+            return new TokenPositions(builtTerms, Arrays.copyOf(spans, size));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.learnhubproject.search;
+
+/**
+ * 점수 상위 K개 문서만 유지하는 primitive 최소 힙
+ * 전체 매칭을 정렬하지 않고 O(n log K)로 상위 결과를 고릅니다
+ */
+final class TopKCollector {
+
+    private final int[] docs;
+    private final double[] scores;
+    private final long[] tieBreakers;
+    private int size;
+
+    TopKCollector(int k) {
+        this.docs = new int[k];
+        this.scores = new double[k];
+        this.tieBreakers = new long[k];
+    }
+
+    /**
+     * @param tieBreaker 점수가 같을 때 큰 값이 우선 (최신순 정렬 키)
+     */
+    void offer(int doc, double score, long tieBreaker) {
+        if (docs.length == 0) {
+            return;
+        }
+        if (size < docs.length) {
+            docs[size] = doc;
+            scores[size] = score;
+            tieBreakers[size] = tieBreaker;
+            siftUp(size++);
+        } else if (greater(score, tieBreaker, scores[0], tieBreakers[0])) {
+            docs[0] = doc;
+            scores[0] = score;
+            tieBreakers[0] = tieBreaker;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 힙을 비우며 점수 내림차순으로 문서 번호를 채움
+     * @param outScores 문서별 점수 (outDocs와 같은 순서)
+     */
+    void drainDescending(int[] outDocs, double[] outScores) {
+        for (int i = size - 1; i >= 0; i--) {
+            outDocs[i] = docs[0];
+            outScores[i] = scores[0];
+            size--;
+            docs[0] = docs[size];
+            scores[0] = scores[size];
+            tieBreakers[0] = tieBreakers[size];
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!greater(scores[parent], tieBreakers[parent], scores[index], tieBreakers[index])) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && greater(scores[left], tieBreakers[left], scores[right], tieBreakers[right])) {
+                smallest = right;
+            }
+            if (!greater(scores[index], tieBreakers[index], scores[smallest], tieBreakers[smallest])) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static boolean greater(double scoreA, long tieA, double scoreB, long tieB) {
+        return scoreA > scoreB || (scoreA == scoreB && tieA > tieB);
+    }
+
+    private void swap(int a, int b) {
+        int doc = docs[a];
+        docs[a] = docs[b];
+        docs[b] = doc;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long tie = tieBreakers[a];
+        tieBreakers[a] = tieBreakers[b];
+        tieBreakers[b] = tie;
+    }
+}
@@ -0,0 +1,993 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.search.analysis.Analyzers;
+import org.example.learnhubproject.search.fuzzy.TrigramIndex;
+import org.example.learnhubproject.search.query.SearchQuery;
+import org.example.learnhubproject.util.NameNormalizer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 한 명의 북마크 역색인
+ *
+ * 토큰 → 포스팅 리스트(문서 번호 배열)를 정렬된 사전(TreeMap)에 담아 접두어 검색을 지원합니다.
+ * 수정/삭제된 문서는 번호를 재사용하지 않고 삭제 표시만 한 뒤, 삭제 비율이 높아지면 한 번에 압축합니다.
+ * 랭킹을 위해 포스팅마다 필드별 출현 빈도를, 문서마다 필드별 토큰 수를 함께 저장합니다 (BM25F).
+ * 오타 교정을 위해 제목/태그의 단어 사전을 따로 두고, 교정 요청 시 트라이그램 색인을 만듭니다.
+ * 구조화 질의 필터용으로 태그별/카테고리별 문서 집합과 생성 시각 정렬 색인(필요할 때 생성)을 유지합니다.
+ * 같은 문서 집합으로 엔티티를 읽지 않고 태그/카테고리/생성 월 패싯을 집계합니다.
+ * 하이라이트용으로 문서마다 제목/설명 토큰의 위치를 (상한까지) 함께 저장합니다.
+ * 스냅샷 파일로 저장했다가 복원할 수 있으며, 복원한 포스팅 리스트는 매핑된 파일을 직접 읽습니다.
+ */
+final class UserSearchIndex {
+
+    // 메모리 추정치 (64bit JVM, compressed oops 기준 대략값)
+    private static final int TERM_OVERHEAD_BYTES = 96;
+    private static final int DOC_OVERHEAD_BYTES = 64;
+    private static final int MIN_DOCS_FOR_COMPACTION = 64;
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 접두어로만 일치한 토큰은 완전 일치보다 낮게 반영
+    private static final double PREFIX_MATCH_WEIGHT = 0.8;
+    // 최신 문서 가산점: 최대 30%, 반감기 180일
+    private static final double RECENCY_BOOST = 0.3;
+    private static final double RECENCY_HALF_LIFE_DAYS = 180;
+    private static final double MICROS_PER_DAY = 86_400_000_000.0;
+
+    private static final SearchField[] FIELDS = SearchField.values();
+    private static final int FIELD_COUNT = FIELDS.length;
+
+    private final Long userId;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 생성/변경 반영을 한 번에 하나만 실행 (DB 조회 중에도 가상 스레드의 캐리어를 고정하지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Long, Integer> docByBookmarkId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] bookmarkIds = new long[16];
+    private long[] sortKeys = new long[16];
+    private int[] fieldLengths = new int[16 * FIELD_COUNT];
+    private TokenPositions[] positions = new TokenPositions[16];
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+    private int docCount;
+
+    // 필터용 보조 색인 (삭제 표시된 문서는 live와 교집합해 제외, 압축 시 정리)
+    private final Map<String, BitSet> docsByTag = new HashMap<>();
+    private final Map<Long, BitSet> docsByCategory = new HashMap<>();
+    // 정규화된 태그 이름 → 처음 색인된 표시용 이름 (패싯 응답용)
+    private final Map<String, String> tagNames = new HashMap<>();
+    private final Object timeIndexLock = new Object();
+    private volatile int[] docsByTime;
+
+    // 오타 교정용 단어 → 출현 문서 수 (삭제된 문서의 단어는 남아 있어도 교정 후 검색에서 걸러짐)
+    private final Map<String, Integer> vocabulary = new HashMap<>();
+    private volatile TrigramIndex trigramIndex;
+
+    private final Set<Long> dirtyBookmarkIds = new HashSet<>();
+    private volatile boolean built;
+    private volatile long lastAccessNanos = System.nanoTime();
+    private volatile long estimatedBytes;
+    // 색인 내용이 바뀔 때마다 증가 (스냅샷 이후 변경 여부 판단)
+    private volatile long version;
+    private volatile long snapshotVersion;
+
+    UserSearchIndex(Long userId) {
+        this.userId = userId;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    ReentrantLock refreshLock() {
+        return refreshLock;
+    }
+
+    boolean isBuilt() {
+        return built;
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * 마지막 스냅샷 이후 반영된 변경이 있는지
+     */
+    boolean hasUnsavedChanges() {
+        return built && version != snapshotVersion;
+    }
+
+    void snapshotSaved(long savedVersion) {
+        snapshotVersion = savedVersion;
+    }
+
+    /**
+     * 전체 문서로 최초 색인
+     */
+    void build(Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : documents) {
+                addDocument(document);
+            }
+            built = true;
+            version++;
+            recalculateBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경된 북마크 반영
+     * @param bookmarkIds 다시 읽은 북마크 ID 전체
+     * @param documents   DB에 남아 있는 문서 (없는 ID는 삭제로 처리)
+     */
+    void apply(Collection<Long> bookmarkIds, Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (Long bookmarkId : bookmarkIds) {
+                removeDocument(bookmarkId);
+            }
+            for (SearchDocument document : documents) {
+                addDocument(document);
+            }
+            if (docCount >= MIN_DOCS_FOR_COMPACTION && live.cardinality() * 2 < docCount) {
+                compact();
+            }
+            version++;
+            recalculateBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void markDirty(Collection<Long> bookmarkIds) {
+        synchronized (dirtyBookmarkIds) {
+            dirtyBookmarkIds.addAll(bookmarkIds);
+        }
+    }
+
+    Set<Long> drainDirty() {
+        synchronized (dirtyBookmarkIds) {
+            if (dirtyBookmarkIds.isEmpty()) {
+                return Set.of();
+            }
+            Set<Long> drained = new HashSet<>(dirtyBookmarkIds);
+            dirtyBookmarkIds.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * 모든 질의 토큰을 접두어로 포함하는 북마크 ID를 최신순으로 반환
+     */
+    List<Long> search(List<String> queryTokens) {
+        lock.readLock().lock();
+        try {
+            return sortLatest(matchedDocs(queryTokens));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최신순 ID 목록에서 커서(createdAt, id)보다 뒤에 오는 북마크만 최대 limit개
+     * (색인에 없는 ID는 건너뜀)
+     */
+    List<Long> after(List<Long> latestIds, LocalDateTime createdAt, Long id, int limit) {
+        long cursorKey = toSortKey(createdAt);
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>(Math.min(limit, latestIds.size()));
+            for (Long bookmarkId : latestIds) {
+                if (result.size() == limit) {
+                    break;
+                }
+                Integer doc = docByBookmarkId.get(bookmarkId);
+                if (doc == null) {
+                    continue;
+                }
+                long key = sortKeys[doc];
+                if (key < cursorKey || (key == cursorKey && bookmarkId < id)) {
+                    result.add(bookmarkId);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean hasMatch(List<String> queryTokens) {
+        lock.readLock().lock();
+        try {
+            return !matchedDocs(queryTokens).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목/태그 단어 사전에서 최대 편집 거리 안의 가장 가까운 단어 (자모 단위 비교)
+     */
+    TrigramIndex.Correction correct(String word, int maxDistance) {
+        lock.readLock().lock();
+        try {
+            TrigramIndex index = trigramIndex;
+            if (index == null) {
+                // 단어 사전은 쓰기 잠금 안에서만 바뀌므로 읽기 잠금 상태에서 생성해도 됨 (동시 생성만 방지)
+                synchronized (vocabulary) {
+                    index = trigramIndex;
+                    if (index == null) {
+                        index = TrigramIndex.build(vocabulary);
+                        trigramIndex = index;
+                    }
+                }
+            }
+            return index.closest(word, maxDistance);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matchedDocs(List<String> queryTokens) {
+        BitSet matched = null;
+        for (String token : queryTokens) {
+            BitSet tokenDocs = new BitSet(docCount);
+            for (PostingList postingList : prefixRange(token).values()) {
+                postingList.addTo(tokenDocs);
+            }
+            if (matched == null) {
+                matched = tokenDocs;
+            } else {
+                matched.and(tokenDocs);
+            }
+            if (matched.isEmpty()) {
+                return matched;
+            }
+        }
+        if (matched == null) {
+            return (BitSet) live.clone();
+        }
+        matched.and(live);
+        return matched;
+    }
+
+    /**
+     * 모든 질의 토큰을 (접두어로) 포함하는 문서를 BM25F 점수순으로 정렬해 [offset, offset + limit) 구간만 반환
+     * 상위 offset + limit개만 힙으로 유지하므로 전체 매칭을 정렬하지 않습니다
+     */
+    SearchPage rankedSearch(List<String> queryTokens, int offset, int limit, LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            if (queryTokens.isEmpty()) {
+                return SearchPage.empty();
+            }
+            return rank(queryTokens, (BitSet) live.clone(), offset, limit, now);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 구조화 질의 검색
+     * 태그/카테고리/기간 필터와 질의 토큰의 후보 집합을 예상 크기가 작은 것부터 교집합해
+     * 가장 선택적인 조건이 이후 연산 범위를 줄이도록 한 뒤 정렬합니다 (구문 검증은 호출 측에서 원문으로 수행)
+     *
+     * @param categoryIds category: 필터에 해당하는 카테고리 ID (필터가 없으면 무시)
+     * @param ranked      true면 관련도순, false면 최신순
+     */
+    SearchPage filteredSearch(List<String> queryTokens, SearchQuery query, Set<Long> categoryIds, boolean ranked,
+                              int offset, int limit, LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            List<PlanStep> plan = new ArrayList<>();
+            for (String tag : query.tags()) {
+                BitSet docs = docsByTag.get(tag);
+                if (docs == null) {
+                    return SearchPage.empty();
+                }
+                plan.add(new PlanStep(docs.cardinality(), () -> docs));
+            }
+            if (!query.categories().isEmpty()) {
+                BitSet union = new BitSet(docCount);
+                for (Long categoryId : categoryIds) {
+                    BitSet docs = docsByCategory.get(categoryId);
+                    if (docs != null) {
+                        union.or(docs);
+                    }
+                }
+                plan.add(new PlanStep(union.cardinality(), () -> union));
+            }
+            if (query.createdFrom() != null || query.createdBefore() != null) {
+                plan.add(timeRangeStep(query));
+            }
+            for (String token : queryTokens) {
+                NavigableMap<String, PostingList> range = prefixRange(token);
+                long estimate = 0;
+                for (PostingList postingList : range.values()) {
+                    estimate += postingList.size();
+                }
+                plan.add(new PlanStep(estimate, () -> {
+                    BitSet docs = new BitSet(docCount);
+                    range.values().forEach(postingList -> postingList.addTo(docs));
+                    return docs;
+                }));
+            }
+            plan.sort(Comparator.comparingLong(PlanStep::estimate));
+
+            BitSet matched = (BitSet) live.clone();
+            for (PlanStep step : plan) {
+                if (step.estimate() == 0) {
+                    return SearchPage.empty();
+                }
+                matched.and(step.docs().get());
+                if (matched.isEmpty()) {
+                    return SearchPage.empty();
+                }
+            }
+            if (!ranked) {
+                return SearchPage.slice(sortLatest(matched), offset, limit);
+            }
+            return rank(queryTokens, matched, offset, limit, now);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 태그/카테고리/생성 월별 문서 수
+     * 태그와 카테고리는 보조 색인 BitSet과 대상 집합의 교집합 크기로, 월은 정렬 키에서 바로 계산합니다
+     *
+     * @param bookmarkIds 집계 대상 북마크 ID (null이면 전체 문서)
+     */
+    FacetCounts facets(Collection<Long> bookmarkIds) {
+        lock.readLock().lock();
+        try {
+            BitSet target;
+            if (bookmarkIds == null) {
+                target = (BitSet) live.clone();
+            } else {
+                target = new BitSet(docCount);
+                for (Long bookmarkId : bookmarkIds) {
+                    Integer doc = docByBookmarkId.get(bookmarkId);
+                    if (doc != null) {
+                        target.set(doc);
+                    }
+                }
+            }
+
+            Map<String, Long> tags = new HashMap<>();
+            docsByTag.forEach((name, docs) -> {
+                long count = intersectionSize(docs, target);
+                if (count > 0) {
+                    tags.put(tagNames.getOrDefault(name, name), count);
+                }
+            });
+            Map<Long, Long> categories = new HashMap<>();
+            docsByCategory.forEach((categoryId, docs) -> {
+                long count = intersectionSize(docs, target);
+                if (count > 0) {
+                    categories.put(categoryId, count);
+                }
+            });
+            Map<Integer, Long> months = new HashMap<>();
+            for (int doc = target.nextSetBit(0); doc >= 0; doc = target.nextSetBit(doc + 1)) {
+                if (sortKeys[doc] != Long.MIN_VALUE) {
+                    months.merge(toMonth(sortKeys[doc]), 1L, Long::sum);
+                }
+            }
+            return new FacetCounts(tags, categories, months);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 토큰 위치로 결과 북마크의 하이라이트 계산 (원문을 다시 분석하지 않음)
+     * 결과 한 건당 최대 {@value TokenPositions#MAX_POSITIONS}개 위치만 검사합니다
+     */
+    Map<Long, Highlight> highlights(List<String> queryTokens, Collection<Long> bookmarkIds) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Highlight> highlights = new HashMap<>();
+            for (Long bookmarkId : bookmarkIds) {
+                Integer doc = docByBookmarkId.get(bookmarkId);
+                TokenPositions docPositions = doc == null ? null : positions[doc];
+                highlights.put(bookmarkId, docPositions == null ? Highlight.NONE : docPositions.highlight(queryTokens));
+            }
+            return highlights;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 문서만 번호를 0부터 다시 매겨 스냅샷 본문 기록
+     *
+     * 순서: 문서 수, 용어 사전(용어, 포스팅 길이), 오타 교정 단어 사전, 문서별 ID/정렬 키/필드 길이/토큰 위치,
+     * 태그별/카테고리별 문서 목록, 8바이트 정렬 후 포스팅 영역 (용어 사전 순서대로 {@link PostingList#writeSnapshot})
+     *
+     * @return 기록한 시점의 색인 버전 ({@link #snapshotSaved}에 전달)
+     */
+    long writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            int start = out.size();
+            int[] remap = new int[docCount];
+            int liveCount = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                remap[doc] = live.get(doc) ? liveCount++ : -1;
+            }
+
+            List<String> terms = new ArrayList<>(postings.size());
+            List<PostingList> lists = new ArrayList<>(postings.size());
+            List<Integer> sizes = new ArrayList<>(postings.size());
+            Map<String, Integer> ordinals = new HashMap<>();
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                int size = entry.getValue().liveSize(remap);
+                if (size > 0) {
+                    ordinals.put(entry.getKey(), terms.size());
+                    terms.add(entry.getKey());
+                    lists.add(entry.getValue());
+                    sizes.add(size);
+                }
+            }
+
+            out.writeInt(liveCount);
+            out.writeInt(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                writeString(out, terms.get(i));
+                out.writeInt(sizes.get(i));
+            }
+            out.writeInt(vocabulary.size());
+            for (Map.Entry<String, Integer> entry : vocabulary.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+
+            for (int doc = 0; doc < docCount; doc++) {
+                if (remap[doc] < 0) {
+                    continue;
+                }
+                out.writeLong(bookmarkIds[doc]);
+                out.writeLong(sortKeys[doc]);
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    out.writeInt(fieldLengths[doc * FIELD_COUNT + f]);
+                }
+                TokenPositions docPositions = positions[doc];
+                int positionCount = docPositions == null ? 0 : docPositions.size();
+                out.writeInt(positionCount);
+                for (int i = 0; i < positionCount; i++) {
+                    // 위치의 토큰은 항상 같은 문서의 포스팅에 있으므로 사전에 존재
+                    out.writeInt(ordinals.getOrDefault(docPositions.term(i), 0));
+                    out.writeLong(docPositions.span(i));
+                }
+            }
+
+            out.writeInt(docsByTag.size());
+            for (Map.Entry<String, BitSet> entry : docsByTag.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, tagNames.getOrDefault(entry.getKey(), entry.getKey()));
+                writeDocs(out, entry.getValue(), remap);
+            }
+            out.writeInt(docsByCategory.size());
+            for (Map.Entry<Long, BitSet> entry : docsByCategory.entrySet()) {
+                out.writeLong(entry.getKey());
+                writeDocs(out, entry.getValue(), remap);
+            }
+
+            while ((out.size() - start) % 8 != 0) {
+                out.writeByte(0);
+            }
+            for (int i = 0; i < lists.size(); i++) {
+                lists.get(i).writeSnapshot(out, remap, sizes.get(i));
+            }
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@link #writeSnapshot}로 기록한 본문으로 빈 색인을 채움
+     * 포스팅 리스트는 본문 버퍼(매핑된 파일)의 구간을 그대로 참조하고, 나머지 구조만 힙에 만듭니다
+     *
+     * @param body 본문 시작 위치부터의 버퍼 (position 0이 {@link #writeSnapshot} 시작 위치)
+     */
+    void restore(ByteBuffer body) {
+        // 손상된 파일이면 필드를 바꾸기 전에 예외가 나도록 전부 지역 변수로 읽은 뒤 한 번에 반영
+        ByteBuffer in = body.duplicate();
+        int count = in.getInt();
+        int termCount = in.getInt();
+        String[] terms = new String[termCount];
+        int[] sizes = new int[termCount];
+        for (int i = 0; i < termCount; i++) {
+            terms[i] = readString(in);
+            sizes[i] = in.getInt();
+        }
+        Map<String, Integer> restoredVocabulary = new HashMap<>();
+        int vocabularySize = in.getInt();
+        for (int i = 0; i < vocabularySize; i++) {
+            restoredVocabulary.put(readString(in), in.getInt());
+        }
+
+        int capacity = Math.max(16, count);
+        long[] restoredIds = new long[capacity];
+        long[] restoredSortKeys = new long[capacity];
+        int[] restoredLengths = new int[capacity * FIELD_COUNT];
+        TokenPositions[] restoredPositions = new TokenPositions[capacity];
+        for (int doc = 0; doc < count; doc++) {
+            restoredIds[doc] = in.getLong();
+            restoredSortKeys[doc] = in.getLong();
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                restoredLengths[doc * FIELD_COUNT + f] = in.getInt();
+            }
+            int positionCount = in.getInt();
+            if (positionCount > 0) {
+                String[] positionTerms = new String[positionCount];
+                long[] spans = new long[positionCount];
+                for (int i = 0; i < positionCount; i++) {
+                    positionTerms[i] = terms[in.getInt()];
+                    spans[i] = in.getLong();
+                }
+                restoredPositions[doc] = TokenPositions.of(positionTerms, spans);
+            }
+        }
+
+        Map<String, String> restoredTagNames = new HashMap<>();
+        Map<String, BitSet> restoredTags = new HashMap<>();
+        int tagCount = in.getInt();
+        for (int i = 0; i < tagCount; i++) {
+            String normalized = readString(in);
+            restoredTagNames.put(normalized, readString(in));
+            restoredTags.put(normalized, readDocs(in));
+        }
+        Map<Long, BitSet> restoredCategories = new HashMap<>();
+        int categoryCount = in.getInt();
+        for (int i = 0; i < categoryCount; i++) {
+            long categoryId = in.getLong();
+            restoredCategories.put(categoryId, readDocs(in));
+        }
+
+        TreeMap<String, PostingList> restoredPostings = new TreeMap<>();
+        int offset = (in.position() + 7) & ~7;
+        for (int i = 0; i < termCount; i++) {
+            int length = (int) PostingList.snapshotBytes(sizes[i]);
+            restoredPostings.put(terms[i], PostingList.mapped(body.slice(offset, length), sizes[i]));
+            offset += length;
+        }
+        if (offset != body.limit()) {
+            throw new IllegalStateException("스냅샷 길이가 맞지 않습니다: " + offset + " != " + body.limit());
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.putAll(restoredPostings);
+            vocabulary.putAll(restoredVocabulary);
+            tagNames.putAll(restoredTagNames);
+            docsByTag.putAll(restoredTags);
+            docsByCategory.putAll(restoredCategories);
+            bookmarkIds = restoredIds;
+            sortKeys = restoredSortKeys;
+            fieldLengths = restoredLengths;
+            positions = restoredPositions;
+            for (int doc = 0; doc < count; doc++) {
+                docByBookmarkId.put(restoredIds[doc], doc);
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    totalFieldLengths[f] += restoredLengths[doc * FIELD_COUNT + f];
+                }
+            }
+            docCount = count;
+            live.set(0, count);
+            built = true;
+            recalculateBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void writeDocs(DataOutputStream out, BitSet docs, int[] remap) throws IOException {
+        BitSet mapped = new BitSet();
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            if (remap[doc] >= 0) {
+                mapped.set(remap[doc]);
+            }
+        }
+        out.writeInt(mapped.cardinality());
+        for (int doc = mapped.nextSetBit(0); doc >= 0; doc = mapped.nextSetBit(doc + 1)) {
+            out.writeInt(doc);
+        }
+    }
+
+    private static BitSet readDocs(ByteBuffer in) {
+        int size = in.getInt();
+        BitSet docs = new BitSet();
+        for (int i = 0; i < size; i++) {
+            docs.set(in.getInt());
+        }
+        return docs;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long intersectionSize(BitSet docs, BitSet target) {
+        BitSet intersection = (BitSet) docs.clone();
+        intersection.and(target);
+        return intersection.cardinality();
+    }
+
+    /**
+     * 생성 시각 정렬 색인에서 기간에 해당하는 구간을 이진 탐색 (구간 길이가 곧 정확한 후보 수)
+     */
+    private PlanStep timeRangeStep(SearchQuery query) {
+        int[] order = timeOrder();
+        int from = query.createdFrom() == null ? 0 : lowerBound(order, toSortKey(query.createdFrom()));
+        int to = query.createdBefore() == null ? order.length : lowerBound(order, toSortKey(query.createdBefore()));
+        int end = Math.max(from, to);
+        return new PlanStep(end - from, () -> {
+            BitSet docs = new BitSet(docCount);
+            for (int i = from; i < end; i++) {
+                docs.set(order[i]);
+            }
+            return docs;
+        });
+    }
+
+    private int[] timeOrder() {
+        int[] order = docsByTime;
+        if (order != null) {
+            return order;
+        }
+        synchronized (timeIndexLock) {
+            if (docsByTime == null) {
+                docsByTime = live.stream().boxed()
+                        .sorted(Comparator.comparingLong(doc -> sortKeys[doc]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+            return docsByTime;
+        }
+    }
+
+    private int lowerBound(int[] order, long key) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortKeys[order[mid]] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 후보 문서 집합(live 부분집합)에 대해 BM25F 점수를 매겨 상위 구간 반환
+     * 토큰이 없으면 모든 점수가 0이므로 최신순이 됩니다
+     */
+    private SearchPage rank(List<String> queryTokens, BitSet candidates, int offset, int limit, LocalDateTime now) {
+        int liveCount = live.cardinality();
+        if (liveCount == 0) {
+            return SearchPage.empty();
+        }
+
+        double[] averageLengths = new double[FIELD_COUNT];
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            averageLengths[f] = Math.max(1.0, (double) totalFieldLengths[f] / liveCount);
+        }
+
+        int tokenCount = queryTokens.size();
+        float[][] termFreqs = new float[tokenCount][];
+        double[] idfs = new double[tokenCount];
+        BitSet matched = candidates;
+        for (int t = 0; t < tokenCount; t++) {
+            String token = queryTokens.get(t);
+            float[] tf = new float[docCount];
+            BitSet tokenDocs = new BitSet(docCount);
+            for (Map.Entry<String, PostingList> entry : prefixRange(token).entrySet()) {
+                double weight = entry.getKey().length() == token.length() ? 1.0 : PREFIX_MATCH_WEIGHT;
+                accumulate(entry.getValue(), weight, averageLengths, tf, tokenDocs);
+            }
+            tokenDocs.and(live);
+            matched.and(tokenDocs);
+            if (matched.isEmpty()) {
+                return SearchPage.empty();
+            }
+            int df = tokenDocs.cardinality();
+            idfs[t] = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            termFreqs[t] = tf;
+        }
+
+        int totalHits = matched.cardinality();
+        int window = (int) Math.min((long) offset + limit, totalHits);
+        if (offset >= window) {
+            return new SearchPage(List.of(), totalHits);
+        }
+
+        long nowKey = toSortKey(now);
+        TopKCollector collector = new TopKCollector(window);
+        for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+            double score = 0;
+            for (int t = 0; t < tokenCount; t++) {
+                double tf = termFreqs[t][doc];
+                score += idfs[t] * tf / (K1 + tf);
+            }
+            collector.offer(doc, score * recencyFactor(sortKeys[doc], nowKey), sortKeys[doc]);
+        }
+
+        int[] docs = new int[collector.size()];
+        double[] scores = new double[docs.length];
+        collector.drainDescending(docs, scores);
+        List<SearchHit> hits = new ArrayList<>(docs.length - offset);
+        for (int i = offset; i < docs.length; i++) {
+            hits.add(new SearchHit(bookmarkIds[docs[i]], scores[i]));
+        }
+        return new SearchPage(hits, totalHits);
+    }
+
+    /**
+     * 포스팅의 필드별 빈도를 길이 정규화 + 필드 가중치를 적용해 문서별 tf로 합산
+     */
+    private void accumulate(PostingList postingList, double weight, double[] averageLengths,
+                            float[] tf, BitSet tokenDocs) {
+        for (int i = 0; i < postingList.size(); i++) {
+            int doc = postingList.doc(i);
+            long packed = postingList.packedFreqs(i);
+            double sum = 0;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                int freq = PostingList.freq(packed, FIELDS[f]);
+                if (freq > 0) {
+                    double norm = 1 - B + B * fieldLengths[doc * FIELD_COUNT + f] / averageLengths[f];
+                    sum += FIELDS[f].boost() * freq / norm;
+                }
+            }
+            tf[doc] += (float) (weight * sum);
+            tokenDocs.set(doc);
+        }
+    }
+
+    private static double recencyFactor(long sortKey, long nowKey) {
+        if (sortKey == Long.MIN_VALUE) {
+            return 1.0;
+        }
+        double ageDays = Math.max(0, nowKey - sortKey) / MICROS_PER_DAY;
+        return 1 + RECENCY_BOOST * Math.pow(2, -ageDays / RECENCY_HALF_LIFE_DAYS);
+    }
+
+    private NavigableMap<String, PostingList> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private List<Long> sortLatest(BitSet docs) {
+        int count = docs.cardinality();
+        int[] ordered = new int[count];
+        int n = 0;
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            ordered[n++] = doc;
+        }
+
+        // createdAt DESC, id DESC (목록 조회와 동일한 순서)
+        Integer[] boxed = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            boxed[i] = ordered[i];
+        }
+        Arrays.sort(boxed, (a, b) -> {
+            int cmp = Long.compare(sortKeys[b], sortKeys[a]);
+            return cmp != 0 ? cmp : Long.compare(bookmarkIds[b], bookmarkIds[a]);
+        });
+
+        List<Long> result = new ArrayList<>(count);
+        for (Integer doc : boxed) {
+            result.add(bookmarkIds[doc]);
+        }
+        return result;
+    }
+
+    private void addDocument(SearchDocument document) {
+        int doc = docCount++;
+        if (doc == bookmarkIds.length) {
+            bookmarkIds = Arrays.copyOf(bookmarkIds, doc * 2);
+            sortKeys = Arrays.copyOf(sortKeys, doc * 2);
+            fieldLengths = Arrays.copyOf(fieldLengths, doc * 2 * FIELD_COUNT);
+            positions = Arrays.copyOf(positions, doc * 2);
+        }
+        bookmarkIds[doc] = document.bookmarkId();
+        sortKeys[doc] = toSortKey(document.createdAt());
+        docByBookmarkId.put(document.bookmarkId(), doc);
+        live.set(doc);
+
+        TokenPositions.Builder positionsBuilder = new TokenPositions.Builder();
+        for (SearchField field : FIELDS) {
+            // 제목/설명은 토큰화하면서 위치도 기록 (같은 분석 결과)
+            List<String> tokens = switch (field) {
+                case TITLE -> positionsBuilder.analyze(field, document.title());
+                case DESCRIPTION -> positionsBuilder.analyze(field, document.description());
+                default -> document.tokens(field);
+            };
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> new PostingList()).add(doc, field);
+            }
+            fieldLengths[doc * FIELD_COUNT + field.ordinal()] = tokens.size();
+            totalFieldLengths[field.ordinal()] += tokens.size();
+        }
+        positions[doc] = positionsBuilder.build(postings::ceilingKey);
+
+        if (document.categoryId() != null) {
+            docsByCategory.computeIfAbsent(document.categoryId(), id -> new BitSet()).set(doc);
+        }
+        if (document.tags() != null) {
+            for (String tag : document.tags()) {
+                String normalized = NameNormalizer.normalize(tag);
+                docsByTag.computeIfAbsent(normalized, name -> new BitSet()).set(doc);
+                tagNames.putIfAbsent(normalized, tag);
+            }
+        }
+        docsByTime = null;
+
+        Set<String> words = new HashSet<>(Analyzers.WORDS.terms(document.title()));
+        if (document.tags() != null) {
+            for (String tag : document.tags()) {
+                words.addAll(Analyzers.WORDS.terms(tag));
+            }
+        }
+        for (String word : words) {
+            if (vocabulary.merge(word, 1, Integer::sum) == 1) {
+                trigramIndex = null;
+            }
+        }
+    }
+
+    private void removeDocument(Long bookmarkId) {
+        Integer doc = docByBookmarkId.remove(bookmarkId);
+        if (doc != null) {
+            live.clear(doc);
+            positions[doc] = null;
+            docsByTime = null;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                totalFieldLengths[f] -= fieldLengths[doc * FIELD_COUNT + f];
+            }
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 제거하고 문서 번호를 0부터 다시 매김
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (live.get(doc)) {
+                bookmarkIds[next] = bookmarkIds[doc];
+                sortKeys[next] = sortKeys[doc];
+                System.arraycopy(fieldLengths, doc * FIELD_COUNT, fieldLengths, next * FIELD_COUNT, FIELD_COUNT);
+                positions[next] = positions[doc];
+                remap[doc] = next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+
+        postings.values().removeIf(postingList -> {
+            postingList.compact(remap);
+            return postingList.size() == 0;
+        });
+
+        docsByTag.values().removeIf(docs -> remap(docs, remap).isEmpty());
+        tagNames.keySet().retainAll(docsByTag.keySet());
+        docsByCategory.values().removeIf(docs -> remap(docs, remap).isEmpty());
+        docsByTime = null;
+
+        docByBookmarkId.clear();
+        live.clear();
+        for (int doc = 0; doc < next; doc++) {
+            docByBookmarkId.put(bookmarkIds[doc], doc);
+        }
+        live.set(0, next);
+        Arrays.fill(positions, next, docCount, null);
+        docCount = next;
+    }
+
+    /**
+     * 문서 번호를 새 번호로 바꿔 같은 BitSet에 다시 채움 (삭제된 문서는 제외)
+     */
+    private static BitSet remap(BitSet docs, int[] remap) {
+        BitSet mapped = new BitSet();
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            if (remap[doc] >= 0) {
+                mapped.set(remap[doc]);
+            }
+        }
+        docs.clear();
+        docs.or(mapped);
+        return docs;
+    }
+
+    private void recalculateBytes() {
+        long bytes = (long) bookmarkIds.length * 20 + fieldLengths.length * 4L
+                + (long) docByBookmarkId.size() * DOC_OVERHEAD_BYTES;
+        // 필터용 BitSet (문서 수 / 8 바이트 + 객체 대략값)
+        bytes += (long) (docsByTag.size() + docsByCategory.size()) * (docCount / 8 + TERM_OVERHEAD_BYTES);
+        for (int doc = 0; doc < docCount; doc++) {
+            if (positions[doc] != null) {
+                bytes += positions[doc].estimatedBytes();
+            }
+        }
+        for (String word : vocabulary.keySet()) {
+            // 단어 사전 항목 + 트라이그램 색인 (단어 길이에 비례하는 대략값)
+            bytes += TERM_OVERHEAD_BYTES + word.length() * 14L;
+        }
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            // 문서 번호(int) + 필드별 빈도(long)
+            bytes += TERM_OVERHEAD_BYTES + entry.getKey().length() * 2L + entry.getValue().capacity() * 12L;
+        }
+        estimatedBytes = bytes;
+    }
+
+    private static long toSortKey(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return Long.MIN_VALUE;
+        }
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    /**
+     * 정렬 키(UTC 기준 epoch 마이크로초) → yyyyMM
+     */
+    private static int toMonth(long sortKey) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(Math.floorDiv(sortKey, 1_000_000L), 86_400L));
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    /**
+     * 실행 계획의 한 단계 (예상 후보 수, 후보 문서 집합 생성)
+     */
+    private record PlanStep(long estimate, Supplier<BitSet> docs) {
+    }
+}
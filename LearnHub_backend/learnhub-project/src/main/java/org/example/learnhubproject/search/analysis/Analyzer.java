@@ -0,0 +1,120 @@
+package org.example.learnhubproject.search.analysis;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 분석기: 유니코드 정규화 → 토큰 분리 → 필터 체인 → 최종 토큰 출력
+ *
+ * 토큰 분리는 문자/숫자 연속 구간을 기준으로 하되, 한글 음절과 그 외 문자가 붙어 있으면
+ * ("Spring부트") 경계에서 나눕니다. 한 번의 분석에서 토큰 객체 두 개만 재사용하며
+ * 이미 정규화된 입력은 복사하지 않습니다.
+ */
+public final class Analyzer {
+
+    private final Normalizer.Form normalization;
+    private final TokenFilter[] filters;
+    private final TokenEmitter emitter;
+
+    private Analyzer(Builder builder) {
+        this.normalization = builder.normalization;
+        this.filters = builder.filters.toArray(new TokenFilter[0]);
+        this.emitter = builder.emitter;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 정규화된 텍스트 (토큰 오프셋의 기준)
+     */
+    public String normalize(String text) {
+        if (text == null || normalization == null || Normalizer.isNormalized(text, normalization)) {
+            return text;
+        }
+        return Normalizer.normalize(text, normalization);
+    }
+
+    public void analyze(String text, TokenSink sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = normalize(text);
+        Token token = new Token();
+        Token scratch = new Token();
+
+        int start = -1;
+        boolean hangul = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                if (start >= 0) {
+                    process(normalized, start, i, hangul, token, scratch, sink);
+                    start = -1;
+                }
+                continue;
+            }
+            boolean isHangul = isHangulSyllable(c);
+            if (start < 0) {
+                start = i;
+                hangul = isHangul;
+            } else if (isHangul != hangul) {
+                process(normalized, start, i, hangul, token, scratch, sink);
+                start = i;
+                hangul = isHangul;
+            }
+        }
+        if (start >= 0) {
+            process(normalized, start, normalized.length(), hangul, token, scratch, sink);
+        }
+    }
+
+    public List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        analyze(text, token -> terms.add(token.term()));
+        return terms;
+    }
+
+    private void process(String text, int start, int end, boolean hangul, Token token, Token scratch,
+                         TokenSink sink) {
+        token.set(text, start, end, hangul ? TokenType.HANGUL : TokenType.WORD);
+        for (TokenFilter filter : filters) {
+            if (!filter.accept(token)) {
+                return;
+            }
+        }
+        emitter.emit(token, scratch, sink);
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    public static final class Builder {
+
+        private Normalizer.Form normalization;
+        private final List<TokenFilter> filters = new ArrayList<>();
+        private TokenEmitter emitter = TokenEmitter.PASS_THROUGH;
+
+        public Builder normalization(Normalizer.Form normalization) {
+            this.normalization = normalization;
+            return this;
+        }
+
+        public Builder filter(TokenFilter filter) {
+            this.filters.add(filter);
+            return this;
+        }
+
+        public Builder emitter(TokenEmitter emitter) {
+            this.emitter = emitter;
+            return this;
+        }
+
+        public Analyzer build() {
+            return new Analyzer(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.learnhubproject.search.analysis;
+
+import java.text.Normalizer;
+
+/**
+ * 검색 서브시스템에서 사용하는 분석기 구성
+ */
+public final class Analyzers {
+
+    /**
+     * 색인용: NFKC 정규화(전각/호환 문자 통일), 소문자화, 불용어 제거, 한글 bigram
+     */
+    public static final Analyzer KOREAN = Analyzer.builder()
+            .normalization(Normalizer.Form.NFKC)
+            .filter(new LowerCaseFilter())
+            .filter(new StopwordFilter(StopwordFilter.DEFAULT_STOPWORDS))
+            .emitter(new HangulBigramEmitter())
+            .build();
+
+    /**
+     * 질의가 불용어로만 이루어진 경우("the", "및")에 사용 (불용어 제거 없음)
+     */
+    public static final Analyzer KOREAN_KEEP_STOPWORDS = Analyzer.builder()
+            .normalization(Normalizer.Form.NFKC)
+            .filter(new LowerCaseFilter())
+            .emitter(new HangulBigramEmitter())
+            .build();
+
+    /**
+     * 오타 교정용 단어 단위 분석 (bigram 없이 정규화/소문자화만 적용)
+     */
+    public static final Analyzer WORDS = Analyzer.builder()
+            .normalization(Normalizer.Form.NFKC)
+            .filter(new LowerCaseFilter())
+            .build();
+
+    private Analyzers() {
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.learnhubproject.search.analysis;
+
+/**
+ * 한글 음절 구간을 2음절 단위(bigram)로 나눠 내보냄
+ *
+ * 띄어쓰기 없는 복합어("스프링부트")나 조사가 붙은 명사("스프링을")도 공통 bigram으로 매칭됩니다.
+ * 한 음절 구간은 그대로 내보내고, 한글이 아닌 토큰은 변경하지 않습니다.
+ */
+public final class HangulBigramEmitter implements TokenEmitter {
+
+    @Override
+    public void emit(Token token, Token scratch, TokenSink sink) {
+        if (token.type() != TokenType.HANGUL || token.length() <= 2) {
+            sink.accept(token);
+            return;
+        }
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            int start = token.startOffset() + i;
+            scratch.set(token.buffer(), i, 2, start, start + 2, TokenType.HANGUL);
+            sink.accept(scratch);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.learnhubproject.search.analysis;
+
+/**
+ * 대소문자 통일 (Character.toLowerCase, 로케일 무관)
+ */
+public final class LowerCaseFilter implements TokenFilter {
+
+    @Override
+    public boolean accept(Token token) {
+        char[] buffer = token.buffer();
+        for (int i = 0; i < token.length(); i++) {
+            buffer[i] = Character.toLowerCase(buffer[i]);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.learnhubproject.search.analysis;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 불용어 제거 (소문자 변환 이후에 위치해야 함)
+ * 토큰 버퍼를 문자열로 만들지 않고 해시 버킷에서 바로 비교합니다
+ */
+public final class StopwordFilter implements TokenFilter {
+
+    public static final Set<String> DEFAULT_STOPWORDS = Set.of(
+            // 영문
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "how", "in", "into", "is", "it",
+            "of", "on", "or", "that", "the", "this", "to", "was", "what", "when", "where", "which", "with",
+            // 한글 (띄어 쓰는 접속/지시어)
+            "및", "등", "또는", "그리고", "그러나", "하지만", "이", "그", "저", "것", "수", "위한", "대한", "통한"
+    );
+
+    private final char[][][] buckets;
+
+    public StopwordFilter(Set<String> stopwords) {
+        int size = Integer.highestOneBit(Math.max(1, stopwords.size()) * 2) * 2;
+        char[][][] table = new char[size][][];
+        for (String stopword : stopwords) {
+            char[] chars = stopword.toLowerCase(Locale.ROOT).toCharArray();
+            int bucket = hash(chars, chars.length) & (size - 1);
+            char[][] entries = table[bucket] == null
+                    ? new char[1][]
+                    : Arrays.copyOf(table[bucket], table[bucket].length + 1);
+            entries[entries.length - 1] = chars;
+            table[bucket] = entries;
+        }
+        this.buckets = table;
+    }
+
+    @Override
+    public boolean accept(Token token) {
+        char[][] entries = buckets[hash(token.buffer(), token.length()) & (buckets.length - 1)];
+        if (entries == null) {
+            return true;
+        }
+        for (char[] entry : entries) {
+            if (equals(entry, token.buffer(), token.length())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(char[] chars, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + chars[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean equals(char[] entry, char[] buffer, int length) {
+        if (entry.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (entry[i] != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
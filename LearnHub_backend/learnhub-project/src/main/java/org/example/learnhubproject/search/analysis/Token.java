@@ -0,0 +1,73 @@
+package org.example.learnhubproject.search.analysis;
+
+import java.util.Arrays;
+
+/**
+ * 분석 과정에서 재사용되는 가변 토큰
+ * 필터는 버퍼를 직접 수정하며, 토큰 문자열은 최종 단계에서 필요할 때만 생성합니다
+ */
+public final class Token {
+
+    private char[] buffer = new char[32];
+    private int length;
+    private int startOffset;
+    private int endOffset;
+    private TokenType type;
+
+    public char[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 원문(정규화된 텍스트) 기준 시작 위치
+     */
+    public int startOffset() {
+        return startOffset;
+    }
+
+    /**
+     * 원문(정규화된 텍스트) 기준 끝 위치 (exclusive)
+     */
+    public int endOffset() {
+        return endOffset;
+    }
+
+    public TokenType type() {
+        return type;
+    }
+
+    public String term() {
+        return new String(buffer, 0, length);
+    }
+
+    void set(CharSequence text, int start, int end, TokenType type) {
+        int len = end - start;
+        ensureCapacity(len);
+        for (int i = 0; i < len; i++) {
+            buffer[i] = text.charAt(start + i);
+        }
+        this.length = len;
+        this.startOffset = start;
+        this.endOffset = end;
+        this.type = type;
+    }
+
+    void set(char[] source, int offset, int len, int startOffset, int endOffset, TokenType type) {
+        ensureCapacity(len);
+        System.arraycopy(source, offset, buffer, 0, len);
+        this.length = len;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.type = type;
+    }
+
+    private void ensureCapacity(int len) {
+        if (buffer.length < len) {
+            buffer = Arrays.copyOf(buffer, Math.max(len, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.learnhubproject.search.analysis;
+
+/**
+ * 필터를 통과한 토큰을 최종 토큰(들)으로 내보내는 마지막 단계
+ */
+@FunctionalInterface
+public interface TokenEmitter {
+
+    TokenEmitter PASS_THROUGH = (token, scratch, sink) -> sink.accept(token);
+
+    /**
+     * @param scratch 토큰을 나눠 내보낼 때 사용할 재사용 토큰
+     */
+    void emit(Token token, Token scratch, TokenSink sink);
+}
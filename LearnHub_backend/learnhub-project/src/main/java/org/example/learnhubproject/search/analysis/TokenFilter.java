@@ -0,0 +1,13 @@
+package org.example.learnhubproject.search.analysis;
+
+/**
+ * 토큰을 제자리에서 변환하거나 걸러내는 필터
+ */
+@FunctionalInterface
+public interface TokenFilter {
+
+    /**
+     * @return 토큰을 유지하면 true, 제거하면 false
+     */
+    boolean accept(Token token);
+}
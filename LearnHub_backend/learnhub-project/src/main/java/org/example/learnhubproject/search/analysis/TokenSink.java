@@ -0,0 +1,10 @@
+package org.example.learnhubproject.search.analysis;
+
+/**
+ * 분석 결과 토큰을 받는 콜백 (토큰 객체는 재사용되므로 보관하려면 {@link Token#term()}으로 복사)
+ */
+@FunctionalInterface
+public interface TokenSink {
+
+    void accept(Token token);
+}
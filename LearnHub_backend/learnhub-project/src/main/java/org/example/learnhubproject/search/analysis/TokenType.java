@@ -0,0 +1,9 @@
+package org.example.learnhubproject.search.analysis;
+
+/**
+ * 토큰 문자 종류 (한글 음절 연속 구간과 그 외 문자/숫자 구간을 나눔)
+ */
+public enum TokenType {
+    WORD,
+    HANGUL
+}
@@ -0,0 +1,49 @@
+package org.example.learnhubproject.search.fuzzy;
+
+/**
+ * 한글 음절을 자모(초성, 중성, 종성)로 분해
+ * "스프링"과 "스푸링"처럼 자모 하나만 다른 오타가 편집 거리 1이 되도록 비교 전에 적용합니다
+ */
+public final class Jamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    // 0번은 받침 없음
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private Jamo() {
+    }
+
+    /**
+     * 한글 음절만 자모로 풀고 나머지 문자는 그대로 유지
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+                if (builder != null) {
+                    builder.append(c);
+                }
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(text.length() * 3);
+                builder.append(text, 0, i);
+            }
+            int index = c - SYLLABLE_BASE;
+            int jongseong = index % JONGSEONG_COUNT;
+            builder.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            builder.append(JUNGSEONG[(index / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+            if (jongseong != 0) {
+                builder.append(JONGSEONG[jongseong]);
+            }
+        }
+        return builder == null ? text : builder.toString();
+    }
+}
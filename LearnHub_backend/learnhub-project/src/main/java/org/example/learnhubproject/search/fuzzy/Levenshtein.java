@@ -0,0 +1,59 @@
+package org.example.learnhubproject.search.fuzzy;
+
+/**
+ * 최대 거리가 정해진 편집 거리 계산
+ * 대각선 띠(±maxDistance) 밖은 계산하지 않고, 한 행의 최솟값이 한도를 넘으면 바로 종료합니다
+ */
+public final class Levenshtein {
+
+    private Levenshtein() {
+    }
+
+    /**
+     * @return 편집 거리, maxDistance를 넘으면 -1
+     */
+    public static int distance(CharSequence a, CharSequence b, int maxDistance) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > maxDistance) {
+            return -1;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+
+        int over = maxDistance + 1;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= maxDistance ? j : over;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            current[0] = i <= maxDistance ? i : over;
+            if (from > 1) {
+                current[from - 1] = over;
+            }
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = over;
+            }
+            if (rowMin > maxDistance) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m] <= maxDistance ? previous[m] : -1;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.learnhubproject.search.fuzzy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단어 사전의 트라이그램 역색인 (오타 교정 후보 생성용)
+ *
+ * 단어는 자모 분해 후 양 끝에 경계 문자를 붙여 3글자씩 나눕니다. 편집 한 번은 트라이그램을 최대 3개 바꾸므로,
+ * 질의와 공유하는 트라이그램 수가 (질의 트라이그램 수 - 3 × 최대 거리) 이상인 단어만 편집 거리로 검증합니다.
+ */
+public final class TrigramIndex {
+
+    private static final char BOUNDARY = '\u0001';
+    private static final int[] EMPTY_POSTINGS = new int[0];
+
+    private final String[] words;
+    private final String[] keys;
+    private final int[] weights;
+    private final Map<String, int[]> postings;
+
+    private TrigramIndex(String[] words, String[] keys, int[] weights, Map<String, int[]> postings) {
+        this.words = words;
+        this.keys = keys;
+        this.weights = weights;
+        this.postings = postings;
+    }
+
+    /**
+     * @param wordWeights 단어 → 가중치 (같은 거리면 가중치가 큰 단어를 우선)
+     */
+    public static TrigramIndex build(Map<String, Integer> wordWeights) {
+        int size = wordWeights.size();
+        String[] words = new String[size];
+        String[] keys = new String[size];
+        int[] weights = new int[size];
+        Map<String, List<Integer>> lists = new HashMap<>();
+
+        int id = 0;
+        for (Map.Entry<String, Integer> entry : wordWeights.entrySet()) {
+            words[id] = entry.getKey();
+            keys[id] = Jamo.decompose(entry.getKey());
+            weights[id] = entry.getValue();
+            for (String gram : trigrams(keys[id])) {
+                List<Integer> list = lists.computeIfAbsent(gram, g -> new ArrayList<>());
+                // 같은 단어에 같은 트라이그램이 반복되면 한 번만 기록
+                if (list.isEmpty() || list.get(list.size() - 1) != id) {
+                    list.add(id);
+                }
+            }
+            id++;
+        }
+
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new TrigramIndex(words, keys, weights, postings);
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 최대 편집 거리 안에서 가장 가까운 단어 (거리가 같으면 가중치가 큰 단어)
+     * 자기 자신과 같은 단어는 제외합니다
+     */
+    public Correction closest(String word, int maxDistance) {
+        if (maxDistance <= 0 || words.length == 0) {
+            return null;
+        }
+        String key = Jamo.decompose(word);
+        List<String> grams = trigrams(key);
+        int minShared = grams.size() - 3 * maxDistance;
+
+        int[] shared = new int[words.length];
+        int[] touched = new int[words.length];
+        int touchedCount = 0;
+        for (String gram : grams) {
+            for (int id : postings.getOrDefault(gram, EMPTY_POSTINGS)) {
+                if (shared[id]++ == 0) {
+                    touched[touchedCount++] = id;
+                }
+            }
+        }
+
+        Correction best = null;
+        for (int i = 0; i < touchedCount; i++) {
+            int id = touched[i];
+            if (shared[id] < minShared || words[id].equals(word)) {
+                continue;
+            }
+            int limit = best == null ? maxDistance : best.distance();
+            int distance = Levenshtein.distance(key, keys[id], limit);
+            if (distance < 0) {
+                continue;
+            }
+            if (best == null || distance < best.distance()
+                    || (distance == best.distance() && weights[id] > best.weight())) {
+                best = new Correction(words[id], distance, weights[id]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 자모 분해 후 길이 기준 허용 거리 (짧은 단어는 교정하지 않음)
+     */
+    public static int maxDistanceFor(String word) {
+        int length = Jamo.decompose(word).length();
+        if (length <= 3) {
+            return 0;
+        }
+        return length <= 7 ? 1 : 2;
+    }
+
+    private static List<String> trigrams(String key) {
+        String padded = BOUNDARY + key + BOUNDARY;
+        List<String> grams = new ArrayList<>(Math.max(1, padded.length() - 2));
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    public record Correction(String word, int distance, int weight) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.learnhubproject.search.query;
+
+import org.example.learnhubproject.util.NameNormalizer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 질의 파서
+ *
+ * <pre>
+ * tag:spring category:backend after:2025-01 before:2025-07 "exact phrase" 나머지 검색어
+ * </pre>
+ * 값에 공백이 있으면 큰따옴표로 묶습니다 (category:"Spring 백엔드").
+ * 날짜는 yyyy, yyyy-MM, yyyy-MM-dd 형식이며 해당 기간의 시작 시각을 기준으로 after는 포함, before는 미포함입니다.
+ * 알 수 없는 접두어(https: 등)는 일반 검색어로 취급합니다.
+ */
+public final class QueryParser {
+
+    private QueryParser() {
+    }
+
+    public static SearchQuery parse(String input) {
+        List<String> words = new ArrayList<>();
+        List<String> phrases = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        List<String> categories = new ArrayList<>();
+        LocalDateTime createdFrom = null;
+        LocalDateTime createdBefore = null;
+
+        String query = input == null ? "" : input;
+        int length = query.length();
+        int i = 0;
+        while (i < length) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c == '"') {
+                int end = closingQuote(query, i + 1);
+                addIfNotBlank(phrases, query.substring(i + 1, end));
+                i = end + 1;
+                continue;
+            }
+
+            int start = i;
+            int colon = -1;
+            String value = null;
+            while (i < length && !Character.isWhitespace(query.charAt(i))) {
+                char current = query.charAt(i);
+                if (current == ':' && colon < 0) {
+                    colon = i;
+                } else if (current == '"' && colon == i - 1) {
+                    int end = closingQuote(query, i + 1);
+                    value = query.substring(i + 1, end);
+                    i = end + 1;
+                    break;
+                }
+                i++;
+            }
+            String word = query.substring(start, value != null ? colon + 1 : i);
+            if (colon < 0) {
+                words.add(word);
+                continue;
+            }
+            String key = query.substring(start, colon).toLowerCase(Locale.ROOT);
+            if (value == null) {
+                value = query.substring(colon + 1, i);
+            }
+
+            switch (key) {
+                case "tag" -> addIfNotBlank(tags, NameNormalizer.normalize(stripHash(value)));
+                case "category" -> addIfNotBlank(categories, NameNormalizer.normalize(value));
+                case "after" -> {
+                    LocalDateTime from = parseDate(value);
+                    createdFrom = createdFrom == null || from.isAfter(createdFrom) ? from : createdFrom;
+                }
+                case "before" -> {
+                    LocalDateTime before = parseDate(value);
+                    createdBefore = createdBefore == null || before.isBefore(createdBefore) ? before : createdBefore;
+                }
+                default -> words.add(value != null && word.endsWith(":") ? word + value : word);
+            }
+        }
+
+        return new SearchQuery(String.join(" ", words), List.copyOf(phrases), List.copyOf(tags),
+                List.copyOf(categories), createdFrom, createdBefore);
+    }
+
+    private static int closingQuote(String query, int from) {
+        int end = query.indexOf('"', from);
+        return end < 0 ? query.length() : end;
+    }
+
+    private static void addIfNotBlank(List<String> target, String value) {
+        if (!value.isBlank()) {
+            target.add(value.trim());
+        }
+    }
+
+    private static String stripHash(String value) {
+        String trimmed = value.trim();
+        return trimmed.startsWith("#") ? trimmed.substring(1) : trimmed;
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            LocalDate date = switch (value.length()) {
+                case 4 -> Year.parse(value).atDay(1);
+                case 7 -> YearMonth.parse(value).atDay(1);
+                default -> LocalDate.parse(value);
+            };
+            return date.atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다 (yyyy, yyyy-MM, yyyy-MM-dd): " + value);
+        }
+    }
+}
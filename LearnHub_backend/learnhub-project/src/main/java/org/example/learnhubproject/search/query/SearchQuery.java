@@ -0,0 +1,107 @@
+package org.example.learnhubproject.search.query;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.SearchTokenizer;
+import org.example.learnhubproject.search.analysis.Analyzers;
+import org.example.learnhubproject.util.NameNormalizer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 파싱된 검색 질의
+ *
+ * @param text          필터/구문을 뺀 자유 검색어
+ * @param phrases       큰따옴표로 묶은 구문 (정규화 후 한 필드 안에 연속으로 등장해야 함)
+ * @param tags          tag: 필터 (모두 포함해야 함, 대소문자 무시)
+ * @param categories    category: 필터 (이름 중 하나에 속하면 됨, 대소문자 무시)
+ * @param createdFrom   after: 필터 (이 시각 이후 생성, 포함)
+ * @param createdBefore before: 필터 (이 시각 이전 생성, 미포함)
+ */
+public record SearchQuery(
+        String text,
+        List<String> phrases,
+        List<String> tags,
+        List<String> categories,
+        LocalDateTime createdFrom,
+        LocalDateTime createdBefore
+) {
+
+    /**
+     * 필터나 구문이 있는 질의인지 (없으면 기존 키워드 검색과 같음)
+     */
+    public boolean isStructured() {
+        return !phrases.isEmpty() || !tags.isEmpty() || !categories.isEmpty()
+                || createdFrom != null || createdBefore != null;
+    }
+
+    /**
+     * 색인 조회에 쓰는 토큰 (자유 검색어 + 구문의 토큰)
+     */
+    public List<String> textTokens() {
+        List<String> tokens = new ArrayList<>();
+        if (!text.isBlank()) {
+            tokens.addAll(SearchTokenizer.tokenizeQuery(text));
+        }
+        for (String phrase : phrases) {
+            tokens.addAll(SearchTokenizer.tokenizeQuery(phrase));
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰 매칭을 제외한 필터(태그, 카테고리, 기간, 구문) 검증
+     *
+     * @param categoryIds category: 필터에 해당하는 카테고리 ID (필터가 없으면 무시)
+     */
+    public boolean matchesFilters(SearchDocument document, Set<Long> categoryIds) {
+        if (!categories.isEmpty() && !categoryIds.contains(document.categoryId())) {
+            return false;
+        }
+        LocalDateTime createdAt = document.createdAt();
+        if (createdFrom != null && (createdAt == null || createdAt.isBefore(createdFrom))) {
+            return false;
+        }
+        if (createdBefore != null && (createdAt == null || !createdAt.isBefore(createdBefore))) {
+            return false;
+        }
+        for (String tag : tags) {
+            if (document.tags().stream().noneMatch(documentTag -> NameNormalizer.normalize(documentTag).equals(tag))) {
+                return false;
+            }
+        }
+        return matchesPhrases(document);
+    }
+
+    public boolean matchesPhrases(SearchDocument document) {
+        if (phrases.isEmpty()) {
+            return true;
+        }
+        List<String> fields = new ArrayList<>(List.of(
+                normalizePhrase(document.title()), normalizePhrase(document.description()),
+                normalizePhrase(document.metaTitle()), normalizePhrase(document.metaDescription()),
+                normalizePhrase(document.url())));
+        for (String tag : document.tags()) {
+            fields.add(normalizePhrase(tag));
+        }
+        for (String phrase : phrases) {
+            String normalized = " " + normalizePhrase(phrase) + " ";
+            if (fields.stream().noneMatch(field -> (" " + field + " ").contains(normalized))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 구문 비교용 정규화 - 글자/숫자가 아닌 문자 묶음은 공백 하나로 취급 ("REST-API" = "rest api")
+     */
+    private static String normalizePhrase(String text) {
+        if (text == null) {
+            return "";
+        }
+        return String.join(" ", Analyzers.WORDS.terms(text));
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.learnhubproject.search.related;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.analysis.Analyzers;
+import org.example.learnhubproject.search.analysis.StopwordFilter;
+import org.example.learnhubproject.util.NameNormalizer;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 북마크 특징 집합(태그 + 제목 단어)의 MinHash 서명과 LSH 밴드 키
+ *
+ * 서명 두 개에서 같은 칸의 비율이 두 집합의 Jaccard 유사도 추정치입니다.
+ * 서명을 {@value #BANDS}개 밴드 × {@value #ROWS}행으로 나눠, 한 밴드라도 전부 같은 북마크만 후보로 삼습니다
+ * (유사도 s인 쌍이 후보가 될 확률 1 - (1 - s^4)^16: s=0.3 → 12%, s=0.5 → 65%, s=0.7 → 99%).
+ */
+public final class MinHash {
+
+    public static final int BANDS = 16;
+    public static final int ROWS = 4;
+    public static final int SIZE = BANDS * ROWS;
+
+    private MinHash() {
+    }
+
+    /**
+     * 태그와 제목/메타 제목 단어 (태그는 두 번 넣어 단어보다 두 배 가중)
+     */
+    public static Set<String> features(SearchDocument document) {
+        Set<String> features = new HashSet<>();
+        if (document.tags() != null) {
+            for (String tag : document.tags()) {
+                String name = NameNormalizer.normalize(tag);
+                if (!name.isEmpty()) {
+                    features.add("#" + name);
+                    features.add("##" + name);
+                }
+            }
+        }
+        addWords(features, document.title());
+        addWords(features, document.metaTitle());
+        return features;
+    }
+
+    /**
+     * @return 특징이 없으면 null
+     */
+    public static int[] signature(Set<String> features) {
+        if (features.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String feature : features) {
+            long hash = hash(feature);
+            // 해시 두 개의 선형 결합으로 SIZE개 해시 함수를 흉내 (Kirsch-Mitzenmacher)
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < SIZE; i++) {
+                int value = mix(h1 + i * h2) & Integer.MAX_VALUE;
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 추정 Jaccard 유사도 (같은 칸 비율)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return same / (double) SIZE;
+    }
+
+    public static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+
+    private static void addWords(Set<String> features, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String word : Analyzers.WORDS.terms(text)) {
+            if (word.length() >= 2 && !StopwordFilter.DEFAULT_STOPWORDS.contains(word)) {
+                features.add(word);
+            }
+        }
+    }
+
+    private static long hash(String text) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
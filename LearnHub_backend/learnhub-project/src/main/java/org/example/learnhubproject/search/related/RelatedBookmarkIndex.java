@@ -0,0 +1,125 @@
+package org.example.learnhubproject.search.related;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.search.SearchDocumentLoader;
+import org.example.learnhubproject.search.SearchHit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관련 북마크 추천 (태그/제목 단어 MinHash + LSH)
+ *
+ * 사용자의 첫 조회 시 DB에서 한 번 읽어 서명을 만들고, 이후에는 북마크 생성/수정/태그 추가·삭제/삭제가
+ * 커밋될 때 발행되는 변경 이벤트로 바뀐 북마크의 서명만 다시 계산합니다.
+ */
+@Slf4j
+@Component
+public class RelatedBookmarkIndex {
+
+    private final SearchDocumentLoader documentLoader;
+    private final TransactionTemplate loadTransaction;
+    private final ConcurrentHashMap<Long, UserRelatedIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${learnhub.related.max-memory-bytes:16777216}")
+    private long maxMemoryBytes;
+
+    public RelatedBookmarkIndex(SearchDocumentLoader documentLoader, PlatformTransactionManager transactionManager) {
+        this.documentLoader = documentLoader;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 관련 북마크 (추정 유사도 내림차순)
+     * @return 사용자의 북마크가 아니거나 존재하지 않으면 empty
+     */
+    public Optional<List<SearchHit>> related(Long userId, Long bookmarkId, int limit) {
+        return acquire(userId).related(bookmarkId, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        UserRelatedIndex index = indexes.get(event.userId());
+        if (index != null) {
+            index.markDirty(event.bookmarkIds());
+        }
+    }
+
+    public void evict(Long userId) {
+        indexes.remove(userId);
+    }
+
+    public long estimatedBytes() {
+        return indexes.values().stream().mapToLong(UserRelatedIndex::estimatedBytes).sum();
+    }
+
+    private UserRelatedIndex acquire(Long userId) {
+        UserRelatedIndex index = indexes.computeIfAbsent(userId, UserRelatedIndex::new);
+        index.touch();
+
+        boolean changed = false;
+        ReentrantLock refreshLock = index.refreshLock();
+        refreshLock.lock();
+        try {
+            if (!index.isBuilt()) {
+                // 조회 전에 등록된 색인이므로, 조회 도중 커밋된 변경은 dirty로 남아 아래에서 다시 반영됨
+                long start = System.nanoTime();
+                index.build(loadTransaction.execute(status -> documentLoader.loadByUserId(userId)));
+                log.info("관련 북마크 색인 생성 (사용자 ID: {}, {}KB, {}ms)", userId,
+                        index.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+                changed = true;
+            }
+
+            Set<Long> dirty = index.drainDirty();
+            if (!dirty.isEmpty()) {
+                index.apply(dirty, loadTransaction.execute(status -> documentLoader.loadByIds(dirty)));
+                changed = true;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+
+        if (changed) {
+            evictOverBudget(userId);
+        }
+        return index;
+    }
+
+    /**
+     * 메모리 예산 초과 시 오래 사용하지 않은 사용자 색인부터 제거 (방금 사용한 사용자는 제외)
+     */
+    private void evictOverBudget(Long currentUserId) {
+        long total = estimatedBytes();
+        if (total <= maxMemoryBytes) {
+            return;
+        }
+
+        List<UserRelatedIndex> candidates = new ArrayList<>(indexes.values());
+        candidates.sort(Comparator.comparingLong(UserRelatedIndex::lastAccessNanos));
+        for (UserRelatedIndex candidate : candidates) {
+            if (total <= maxMemoryBytes) {
+                break;
+            }
+            if (candidate.userId().equals(currentUserId)) {
+                continue;
+            }
+            if (indexes.remove(candidate.userId(), candidate)) {
+                total -= candidate.estimatedBytes();
+            }
+        }
+    }
+}
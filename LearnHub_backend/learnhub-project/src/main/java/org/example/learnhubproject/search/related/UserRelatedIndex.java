@@ -0,0 +1,182 @@
+package org.example.learnhubproject.search.related;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.SearchHit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 한 명의 관련 북마크 색인 (북마크별 MinHash 서명 + 밴드별 LSH 버킷)
+ *
+ * 관련 북마크 조회는 대상 북마크의 밴드 버킷에 함께 들어 있는 북마크만 비교하므로
+ * 전체 북마크 수가 아니라 버킷 크기에 비례합니다.
+ */
+final class UserRelatedIndex {
+
+    // 한 번의 조회에서 비교할 최대 후보 수 (아주 흔한 태그 조합으로 버킷이 커져도 조회 비용 상한 유지)
+    static final int MAX_CANDIDATES = 256;
+    private static final int[] NO_FEATURES = new int[0];
+    private static final int DOC_BYTES = MinHash.SIZE * 4 + MinHash.BANDS * 48 + 96;
+
+    private final Long userId;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 생성/변경 반영을 한 번에 하나만 실행 (DB 조회 중에도 가상 스레드의 캐리어를 고정하지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets = new ArrayList<>(MinHash.BANDS);
+
+    private final Set<Long> dirtyBookmarkIds = new HashSet<>();
+    private volatile boolean built;
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    UserRelatedIndex(Long userId) {
+        this.userId = userId;
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    ReentrantLock refreshLock() {
+        return refreshLock;
+    }
+
+    boolean isBuilt() {
+        return built;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    long estimatedBytes() {
+        return (long) signatures.size() * DOC_BYTES;
+    }
+
+    void build(Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            documents.forEach(this::add);
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경된 북마크의 서명만 교체 (DB에서 없어진 ID는 삭제로 처리)
+     */
+    void apply(Collection<Long> bookmarkIds, Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            bookmarkIds.forEach(this::remove);
+            documents.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void markDirty(Collection<Long> bookmarkIds) {
+        synchronized (dirtyBookmarkIds) {
+            dirtyBookmarkIds.addAll(bookmarkIds);
+        }
+    }
+
+    Set<Long> drainDirty() {
+        synchronized (dirtyBookmarkIds) {
+            if (dirtyBookmarkIds.isEmpty()) {
+                return Set.of();
+            }
+            Set<Long> drained = new HashSet<>(dirtyBookmarkIds);
+            dirtyBookmarkIds.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * 같은 LSH 버킷에 있는 북마크를 추정 유사도순으로 최대 limit개
+     * @return 이 사용자의 북마크가 아니면 empty
+     */
+    Optional<List<SearchHit>> related(Long bookmarkId, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] signature = signatures.get(bookmarkId);
+            if (signature == null) {
+                return Optional.empty();
+            }
+            if (signature == NO_FEATURES) {
+                return Optional.of(List.of());
+            }
+
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < MinHash.BANDS && candidates.size() < MAX_CANDIDATES; band++) {
+                Set<Long> bucket = buckets.get(band).get(MinHash.bandKey(signature, band));
+                for (Long candidate : bucket) {
+                    if (candidates.size() == MAX_CANDIDATES) {
+                        break;
+                    }
+                    candidates.add(candidate);
+                }
+            }
+            candidates.remove(bookmarkId);
+
+            List<SearchHit> hits = new ArrayList<>(candidates.size());
+            for (Long candidate : candidates) {
+                hits.add(new SearchHit(candidate, MinHash.similarity(signature, signatures.get(candidate))));
+            }
+            // 같은 유사도면 최근 북마크(큰 ID) 우선
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(SearchHit::bookmarkId, Comparator.reverseOrder()));
+            return Optional.of(hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(SearchDocument document) {
+        int[] signature = MinHash.signature(MinHash.features(document));
+        if (signature == null) {
+            signatures.put(document.bookmarkId(), NO_FEATURES);
+            return;
+        }
+        signatures.put(document.bookmarkId(), signature);
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.get(band).computeIfAbsent(MinHash.bandKey(signature, band), key -> new HashSet<>())
+                    .add(document.bookmarkId());
+        }
+    }
+
+    private void remove(Long bookmarkId) {
+        int[] signature = signatures.remove(bookmarkId);
+        if (signature == null || signature == NO_FEATURES) {
+            return;
+        }
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            long key = MinHash.bandKey(signature, band);
+            Set<Long> bucket = buckets.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(bookmarkId);
+                if (bucket.isEmpty()) {
+                    buckets.get(band).remove(key);
+                }
+            }
+        }
+    }
+}
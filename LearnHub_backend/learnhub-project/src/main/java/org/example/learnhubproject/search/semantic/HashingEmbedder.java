@@ -0,0 +1,170 @@
+package org.example.learnhubproject.search.semantic;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.analysis.Analyzers;
+import org.example.learnhubproject.search.analysis.StopwordFilter;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 해싱 트릭 기반 로컬 임베딩 (네트워크/모델 파일 불필요)
+ *
+ * 단어와 단어의 글자 3-gram을 해시해 고정 차원 벡터의 한 칸에 ±가중치로 더한 뒤 L2 정규화합니다.
+ * 3-gram 덕분에 활용형/복합어("스프링을", "hibernate5")도 가까운 벡터가 됩니다.
+ * 표현이 다른 같은 개념("ORM"과 "Hibernate")은 기술 용어 사전으로 연결합니다:
+ * 용어 이름이 나오면 그 정의의 주요 단어를 낮은 가중치로 함께 더하므로, 정의에 ORM이 들어간
+ * Hibernate 북마크가 "ORM" 질의와 가까워집니다.
+ */
+public final class HashingEmbedder {
+
+    public static final int DEFAULT_DIMENSION = 256;
+
+    // 필드 가중치 (태그 > 제목 > 메타 제목 > 메타 설명)
+    private static final float TAG_WEIGHT = 1.5f;
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float META_TITLE_WEIGHT = 0.8f;
+    private static final float META_DESCRIPTION_WEIGHT = 0.5f;
+    private static final float NGRAM_WEIGHT = 1.0f;
+    private static final float EXPANSION_WEIGHT = 0.4f;
+    private static final int MAX_EXPANSION_WORDS = 8;
+
+    private final int dimension;
+    private final Map<String, List<String>> expansions;
+
+    /**
+     * @param expansions 단어 → 함께 더할 관련 단어 (기술 용어 이름 → 정의의 주요 단어)
+     */
+    public HashingEmbedder(int dimension, Map<String, List<String>> expansions) {
+        this.dimension = dimension;
+        this.expansions = expansions;
+    }
+
+    /**
+     * 기술 용어 사전으로 확장 단어를 구성한 임베더
+     * 한 단어로 된 용어 이름마다 정의의 앞쪽 단어(불용어, 한 글자 제외) 최대 {@value #MAX_EXPANSION_WORDS}개를 연결합니다
+     *
+     * @param definitions 용어 이름 → 정의
+     */
+    public static HashingEmbedder withGlossary(int dimension, Map<String, String> definitions) {
+        Map<String, List<String>> expansions = new HashMap<>();
+        definitions.forEach((name, definition) -> {
+            List<String> nameWords = Analyzers.WORDS.terms(name);
+            if (nameWords.size() != 1 || definition == null) {
+                return;
+            }
+            String key = nameWords.get(0);
+            Set<String> related = new LinkedHashSet<>();
+            for (String word : Analyzers.WORDS.terms(definition)) {
+                if (word.length() >= 2 && !word.equals(key) && !StopwordFilter.DEFAULT_STOPWORDS.contains(word)) {
+                    related.add(word);
+                    if (related.size() == MAX_EXPANSION_WORDS) {
+                        break;
+                    }
+                }
+            }
+            if (!related.isEmpty()) {
+                expansions.merge(key, List.copyOf(related), (a, b) -> a);
+            }
+        });
+        return new HashingEmbedder(dimension, expansions);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 제목, 메타 정보, 태그로 문서 벡터 생성 (설명/URL은 잡음이 많아 제외)
+     * @return 특징이 하나도 없으면 null
+     */
+    public float[] embed(SearchDocument document) {
+        float[] vector = new float[dimension];
+        addText(vector, document.title(), TITLE_WEIGHT);
+        addText(vector, document.metaTitle(), META_TITLE_WEIGHT);
+        addText(vector, document.metaDescription(), META_DESCRIPTION_WEIGHT);
+        if (document.tags() != null) {
+            for (String tag : document.tags()) {
+                addText(vector, tag, TAG_WEIGHT);
+            }
+        }
+        return normalize(vector);
+    }
+
+    /**
+     * @return 특징이 하나도 없으면 null
+     */
+    public float[] embedQuery(String query) {
+        float[] vector = new float[dimension];
+        addText(vector, query, 1.0f);
+        return normalize(vector);
+    }
+
+    private void addText(float[] vector, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String word : Analyzers.WORDS.terms(text)) {
+            addWord(vector, word, weight);
+            List<String> related = expansions.get(word);
+            if (related != null) {
+                for (String relatedWord : related) {
+                    addWord(vector, relatedWord, weight * EXPANSION_WEIGHT);
+                }
+            }
+        }
+    }
+
+    private void addWord(float[] vector, String word, float weight) {
+        addFeature(vector, hash(word, 0, word.length(), 0x9E3779B97F4A7C15L), weight);
+        if (word.length() < 3) {
+            return;
+        }
+        // 경계 표시("^", "$")를 붙인 3-gram, 단어 길이에 따라 합이 커지지 않도록 개수로 나눔
+        String padded = "^" + word + "$";
+        int grams = padded.length() - 2;
+        float gramWeight = weight * NGRAM_WEIGHT / (float) Math.sqrt(grams);
+        for (int i = 0; i < grams; i++) {
+            addFeature(vector, hash(padded, i, i + 3, 0xC2B2AE3D27D4EB4FL), gramWeight);
+        }
+    }
+
+    private void addFeature(float[] vector, long hash, float weight) {
+        int bucket = (int) Long.remainderUnsigned(hash >>> 1, dimension);
+        // 최하위 비트로 부호를 정해 충돌한 특징끼리 평균적으로 상쇄되도록 함
+        vector[bucket] += (hash & 1) == 0 ? weight : -weight;
+    }
+
+    /**
+     * FNV-1a + 최종 혼합 (String.hashCode보다 하위 비트 분포가 고름)
+     */
+    private static long hash(String text, int start, int end, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = start; i < end; i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+}
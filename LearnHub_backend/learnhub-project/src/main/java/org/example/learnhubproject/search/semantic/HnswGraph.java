@@ -0,0 +1,267 @@
+package org.example.learnhubproject.search.semantic;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 그래프
+ *
+ * 노드 번호는 {@link VectorStore}의 벡터 번호와 같고, 유사도는 내적(정규화 벡터의 코사인)입니다.
+ * 상위 층에서 탐욕 탐색으로 진입점을 좁힌 뒤 0층에서 ef개 후보를 유지하며 탐색합니다.
+ * 이웃은 "후보가 이미 고른 이웃보다 기준 노드에 더 가까울 때만" 고르는 휴리스틱으로 선택해
+ * 군집 사이의 연결을 유지합니다. 삭제는 지원하지 않으며 호출 측이 검색 필터로 제외합니다.
+ */
+final class HnswGraph {
+
+    static final int DEFAULT_M = 16;
+    static final int DEFAULT_EF_CONSTRUCTION = 100;
+
+    private final VectorStore vectors;
+    private final int m;
+    private final int maxConnectionsLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    // neighbors[node][level] = [이웃 수, 이웃...]
+    private int[][][] neighbors = new int[16][][];
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    HnswGraph(VectorStore vectors, int m, int efConstruction, long seed) {
+        this.vectors = vectors;
+        this.m = m;
+        this.maxConnectionsLevel0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 저장소의 다음 벡터를 그래프에 추가 (벡터 번호 순서대로 호출)
+     */
+    void add(int node) {
+        if (node != size) {
+            throw new IllegalArgumentException("노드는 벡터 번호 순서대로 추가해야 합니다: " + node);
+        }
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        if (node == neighbors.length) {
+            neighbors = Arrays.copyOf(neighbors, node * 2);
+        }
+        neighbors[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            neighbors[node][l] = new int[maxConnections(l) + 1];
+        }
+        size++;
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        float[] vector = vectors.get(node);
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+        BitSet visited = new BitSet(size);
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            NeighborQueue candidates = searchLayer(vector, current, efConstruction, l, visited);
+            visited.clear();
+            int[] selected = selectNeighbors(candidates, maxConnections(l));
+            for (int neighbor : selected) {
+                link(node, neighbor, l);
+                link(neighbor, node, l);
+            }
+            // 다음 층의 진입점은 이번 층의 가장 가까운 후보
+            current = selected.length > 0 ? selected[0] : current;
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * 질의 벡터와 가장 유사한 노드 k개 (유사도 내림차순)
+     *
+     * @param ef     탐색 중 유지할 후보 수 (k 이상, 클수록 정확하고 느림)
+     * @param accept 결과에 포함할 노드 (삭제된 노드 제외 등) - 제외된 노드도 탐색 경로로는 사용
+     * @return [노드 번호 배열, 유사도 배열]
+     */
+    Result search(float[] query, int k, int ef, IntPredicate accept) {
+        if (entryPoint < 0 || k <= 0) {
+            return new Result(new int[0], new float[0]);
+        }
+        int current = entryPoint;
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedyClosest(query, current, l);
+        }
+        NeighborQueue candidates = searchLayer(query, current, Math.max(ef, k), 0, new BitSet(size), accept);
+
+        int count = Math.min(k, candidates.size());
+        while (candidates.size() > count) {
+            candidates.pop();
+        }
+        int[] nodes = new int[count];
+        float[] scores = new float[count];
+        for (int i = count - 1; i >= 0; i--) {
+            scores[i] = candidates.topScore();
+            nodes[i] = candidates.pop();
+        }
+        return new Result(nodes, scores);
+    }
+
+    long estimatedBytes() {
+        long bytes = (long) neighbors.length * 8;
+        for (int node = 0; node < size; node++) {
+            for (int[] level : neighbors[node]) {
+                bytes += 16 + level.length * 4L;
+            }
+        }
+        return bytes;
+    }
+
+    record Result(int[] nodes, float[] scores) {
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnectionsLevel0 : m;
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = vectors.dot(current, query);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] links = neighbors[current][level];
+            for (int i = 1; i <= links[0]; i++) {
+                float score = vectors.dot(links[i], query);
+                if (score > best) {
+                    best = score;
+                    current = links[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private NeighborQueue searchLayer(float[] query, int entry, int ef, int level, BitSet visited) {
+        return searchLayer(query, entry, ef, level, visited, node -> true);
+    }
+
+    /**
+     * 한 층에서 ef개 후보를 유지하는 최선 우선 탐색
+     * @return 유사도 상위 ef개 (최소 힙: 맨 위가 가장 덜 유사)
+     */
+    private NeighborQueue searchLayer(float[] query, int entry, int ef, int level, BitSet visited,
+                                      IntPredicate accept) {
+        NeighborQueue results = new NeighborQueue(ef, false);
+        NeighborQueue frontier = new NeighborQueue(ef, true);
+        float entryScore = vectors.dot(entry, query);
+        visited.set(entry);
+        frontier.add(entry, entryScore);
+        if (accept.test(entry)) {
+            results.add(entry, entryScore);
+        }
+
+        while (!frontier.isEmpty()) {
+            float closest = frontier.topScore();
+            if (results.size() >= ef && closest < results.topScore()) {
+                break;
+            }
+            int node = frontier.pop();
+            int[] links = neighbors[node][level];
+            for (int i = 1; i <= links[0]; i++) {
+                int neighbor = links[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = vectors.dot(neighbor, query);
+                if (results.size() < ef || score > results.topScore()) {
+                    frontier.add(neighbor, score);
+                    if (accept.test(neighbor)) {
+                        results.insertWithOverflow(neighbor, score, ef);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 유사도 높은 후보부터, 이미 고른 이웃보다 기준 노드와 더 유사한 후보만 선택
+     * 자리가 남으면 버린 후보 중 유사한 순서로 채웁니다
+     *
+     * @param candidates 최소 힙 (소비됨)
+     * @return 유사도 내림차순
+     */
+    private int[] selectNeighbors(NeighborQueue candidates, int limit) {
+        int count = candidates.size();
+        int[] ordered = new int[count];
+        float[] scores = new float[count];
+        for (int i = count - 1; i >= 0; i--) {
+            scores[i] = candidates.topScore();
+            ordered[i] = candidates.pop();
+        }
+
+        int[] selected = new int[Math.min(limit, count)];
+        int selectedCount = 0;
+        boolean[] taken = new boolean[count];
+        for (int i = 0; i < count && selectedCount < selected.length; i++) {
+            boolean diverse = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (vectors.dot(ordered[i], selected[j]) > scores[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[selectedCount++] = ordered[i];
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < count && selectedCount < selected.length; i++) {
+            if (!taken[i]) {
+                selected[selectedCount++] = ordered[i];
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * from의 이웃 목록에 to를 추가하고, 가득 차면 from과 가장 덜 유사한 이웃을 잘라냄
+     * (역방향 연결은 삽입마다 여러 번 일어나므로 휴리스틱 대신 유사도 상위 선택으로 비용을 O(M)으로 유지)
+     */
+    private void link(int from, int to, int level) {
+        int[] links = neighbors[from][level];
+        int limit = maxConnections(level);
+        if (links[0] < limit) {
+            links[++links[0]] = to;
+            return;
+        }
+        int weakest = -1;
+        float weakestScore = vectors.dot(from, to);
+        for (int i = 1; i <= links[0]; i++) {
+            float score = vectors.dot(from, links[i]);
+            if (score < weakestScore) {
+                weakestScore = score;
+                weakest = i;
+            }
+        }
+        if (weakest > 0) {
+            links[weakest] = to;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.learnhubproject.search.semantic;
+
+import java.util.Arrays;
+
+/**
+ * (유사도, 노드 번호) 쌍의 primitive 이진 힙
+ *
+ * 유사도와 노드 번호를 long 하나로 묶어 비교하므로 박싱 없이 정렬됩니다.
+ * 최대 힙은 키를 비트 반전해 같은 최소 힙 코드로 처리합니다.
+ */
+final class NeighborQueue {
+
+    private final boolean maxHeap;
+    private long[] heap;
+    private int size;
+
+    NeighborQueue(int initialCapacity, boolean maxHeap) {
+        this.heap = new long[Math.max(1, initialCapacity)];
+        this.maxHeap = maxHeap;
+    }
+
+    void add(int node, float score) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = encode(node, score);
+        siftUp(size++);
+    }
+
+    /**
+     * 크기가 limit 이하로 유지되도록 추가 (가득 차면 맨 위 항목보다 힙 순서상 뒤일 때만 교체)
+     * 최소 힙에서 사용하면 유사도 상위 limit개를 유지합니다
+     */
+    boolean insertWithOverflow(int node, float score, int limit) {
+        if (size < limit) {
+            add(node, score);
+            return true;
+        }
+        long key = encode(node, score);
+        if (key > heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int topNode() {
+        return decodeNode(heap[0]);
+    }
+
+    float topScore() {
+        return decodeScore(heap[0]);
+    }
+
+    int pop() {
+        int node = decodeNode(heap[0]);
+        heap[0] = heap[--size];
+        siftDown(0);
+        return node;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private long encode(int node, float score) {
+        // 정렬 가능한 float 비트 (음수는 나머지 비트 반전) + 노드 번호
+        int bits = Float.floatToIntBits(score);
+        int sortable = bits ^ ((bits >> 31) & 0x7fffffff);
+        long key = ((long) sortable << 32) | (node & 0xffffffffL);
+        return maxHeap ? ~key : key;
+    }
+
+    private int decodeNode(long key) {
+        return (int) (maxHeap ? ~key : key);
+    }
+
+    private float decodeScore(long key) {
+        int sortable = (int) ((maxHeap ? ~key : key) >> 32);
+        return Float.intBitsToFloat(sortable ^ ((sortable >> 31) & 0x7fffffff));
+    }
+
+    private void siftUp(int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown(int index) {
+        if (size == 0) {
+            return;
+        }
+        long key = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.learnhubproject.search.semantic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.event.GlossaryChangedEvent;
+import org.example.learnhubproject.repository.TechTermRepository;
+import org.example.learnhubproject.repository.projection.TermDefinitionRow;
+import org.example.learnhubproject.search.SearchDocumentLoader;
+import org.example.learnhubproject.search.SearchHit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 의미 검색 색인 (로컬 해싱 임베딩 + HNSW, 외부 호출 없음)
+ *
+ * 키워드 색인({@link org.example.learnhubproject.search.BookmarkSearchIndex})과 같은 방식으로
+ * 첫 검색 시 DB에서 한 번 읽어 만들고, 커밋된 변경 이벤트로 바뀐 북마크만 다시 읽어 반영합니다.
+ * 기술 용어 사전이 바뀌면 임베딩 기준이 달라지므로 다음 검색에서 사용자 색인을 새로 만듭니다.
+ */
+@Slf4j
+@Component
+public class SemanticSearchIndex {
+
+    private final SearchDocumentLoader documentLoader;
+    private final TechTermRepository techTermRepository;
+    private final TransactionTemplate loadTransaction;
+    private final ConcurrentHashMap<Long, UserVectorIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${learnhub.search.semantic.max-memory-bytes:33554432}")
+    private long maxMemoryBytes;
+
+    @Value("${learnhub.search.semantic.min-similarity:0.1}")
+    private float minSimilarity;
+
+    // null이면 다음 검색 시 용어 사전으로 생성
+    private volatile HashingEmbedder embedder;
+
+    public SemanticSearchIndex(SearchDocumentLoader documentLoader, TechTermRepository techTermRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.documentLoader = documentLoader;
+        this.techTermRepository = techTermRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 질의와 의미가 가까운 북마크 상위 limit개 (코사인 유사도 내림차순)
+     */
+    public List<SearchHit> search(Long userId, String query, int limit) {
+        UserVectorIndex index = acquire(userId);
+        float[] vector = index.embedder().embedQuery(query);
+        if (vector == null) {
+            return List.of();
+        }
+        return index.search(vector, limit, minSimilarity);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        UserVectorIndex index = indexes.get(event.userId());
+        if (index != null) {
+            index.markDirty(event.bookmarkIds());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlossaryChanged(GlossaryChangedEvent event) {
+        embedder = null;
+    }
+
+    public void evict(Long userId) {
+        indexes.remove(userId);
+    }
+
+    public long estimatedBytes() {
+        return indexes.values().stream().mapToLong(UserVectorIndex::estimatedBytes).sum();
+    }
+
+    private HashingEmbedder embedder() {
+        HashingEmbedder current = embedder;
+        if (current == null) {
+            Map<String, String> definitions = new HashMap<>();
+            List<TermDefinitionRow> rows = loadTransaction.execute(status -> techTermRepository.findAllDefinitions());
+            for (TermDefinitionRow row : rows) {
+                definitions.put(row.name(), row.definition());
+            }
+            current = HashingEmbedder.withGlossary(HashingEmbedder.DEFAULT_DIMENSION, definitions);
+            embedder = current;
+        }
+        return current;
+    }
+
+    private UserVectorIndex acquire(Long userId) {
+        HashingEmbedder current = embedder();
+        UserVectorIndex index = indexes.compute(userId, (id, existing) ->
+                existing == null || existing.embedder() != current ? new UserVectorIndex(id, current) : existing);
+        index.touch();
+
+        boolean changed = false;
+        ReentrantLock refreshLock = index.refreshLock();
+        refreshLock.lock();
+        try {
+            if (!index.isBuilt()) {
+                // 조회 전에 등록된 색인이므로, 조회 도중 커밋된 변경은 dirty로 남아 아래에서 다시 반영됨
+                long start = System.nanoTime();
+                index.build(loadTransaction.execute(status -> documentLoader.loadByUserId(userId)));
+                log.info("의미 검색 색인 생성 (사용자 ID: {}, {}KB, {}ms)", userId,
+                        index.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+                changed = true;
+            }
+
+            Set<Long> dirty = index.drainDirty();
+            if (!dirty.isEmpty()) {
+                index.apply(dirty, loadTransaction.execute(status -> documentLoader.loadByIds(dirty)));
+                changed = true;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+
+        if (changed) {
+            evictOverBudget(userId);
+        }
+        return index;
+    }
+
+    /**
+     * 메모리 예산 초과 시 오래 사용하지 않은 사용자 색인부터 제거 (방금 사용한 사용자는 제외)
+     */
+    private void evictOverBudget(Long currentUserId) {
+        long total = estimatedBytes();
+        if (total <= maxMemoryBytes) {
+            return;
+        }
+
+        List<UserVectorIndex> candidates = new ArrayList<>(indexes.values());
+        candidates.sort(Comparator.comparingLong(UserVectorIndex::lastAccessNanos));
+        for (UserVectorIndex candidate : candidates) {
+            if (total <= maxMemoryBytes) {
+                break;
+            }
+            if (candidate.userId().equals(currentUserId)) {
+                continue;
+            }
+            if (indexes.remove(candidate.userId(), candidate)) {
+                total -= candidate.estimatedBytes();
+                log.info("의미 검색 색인 제거 (사용자 ID: {}, {}KB)", candidate.userId(),
+                        candidate.estimatedBytes() / 1024);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.learnhubproject.search.semantic;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.SearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 한 명의 북마크 벡터 색인 (벡터 저장소 + HNSW 그래프)
+ *
+ * 수정/삭제된 북마크는 그래프에서 빼지 않고 삭제 표시만 해 검색 결과에서 제외하며,
+ * 삭제 표시가 절반을 넘으면 남은 벡터로 그래프를 다시 만듭니다 (DB 재조회 없음).
+ */
+final class UserVectorIndex {
+
+    static final int EF_SEARCH = 64;
+    private static final int MIN_NODES_FOR_REBUILD = 64;
+    private static final int DOC_OVERHEAD_BYTES = 64;
+
+    private final Long userId;
+    private final HashingEmbedder embedder;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 생성/변경 반영을 한 번에 하나만 실행 (DB 조회 중에도 가상 스레드의 캐리어를 고정하지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private VectorStore vectors;
+    private HnswGraph graph;
+    private long[] bookmarkIds = new long[16];
+    private final Map<Long, Integer> nodeByBookmarkId = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private final Set<Long> dirtyBookmarkIds = new HashSet<>();
+    private volatile boolean built;
+    private volatile long lastAccessNanos = System.nanoTime();
+    private volatile long estimatedBytes;
+
+    UserVectorIndex(Long userId, HashingEmbedder embedder) {
+        this.userId = userId;
+        this.embedder = embedder;
+        reset(16);
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    ReentrantLock refreshLock() {
+        return refreshLock;
+    }
+
+    HashingEmbedder embedder() {
+        return embedder;
+    }
+
+    boolean isBuilt() {
+        return built;
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    void build(Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : documents) {
+                addDocument(document);
+            }
+            built = true;
+            recalculateBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경된 북마크 반영
+     * @param bookmarkIds 다시 읽은 북마크 ID 전체
+     * @param documents   DB에 남아 있는 문서 (없는 ID는 삭제로 처리)
+     */
+    void apply(Collection<Long> bookmarkIds, Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (Long bookmarkId : bookmarkIds) {
+                Integer node = nodeByBookmarkId.remove(bookmarkId);
+                if (node != null) {
+                    live.clear(node);
+                }
+            }
+            for (SearchDocument document : documents) {
+                addDocument(document);
+            }
+            if (graph.size() >= MIN_NODES_FOR_REBUILD && live.cardinality() * 2 < graph.size()) {
+                rebuildLive();
+            }
+            recalculateBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void markDirty(Collection<Long> bookmarkIds) {
+        synchronized (dirtyBookmarkIds) {
+            dirtyBookmarkIds.addAll(bookmarkIds);
+        }
+    }
+
+    Set<Long> drainDirty() {
+        synchronized (dirtyBookmarkIds) {
+            if (dirtyBookmarkIds.isEmpty()) {
+                return Set.of();
+            }
+            Set<Long> drained = new HashSet<>(dirtyBookmarkIds);
+            dirtyBookmarkIds.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * 질의 벡터와 코사인 유사도가 높은 북마크 (유사도 내림차순, minScore 미만 제외)
+     */
+    List<SearchHit> search(float[] query, int k, float minScore) {
+        lock.readLock().lock();
+        try {
+            HnswGraph.Result result = graph.search(query, k, Math.max(EF_SEARCH, k), live::get);
+            List<SearchHit> hits = new ArrayList<>(result.nodes().length);
+            for (int i = 0; i < result.nodes().length; i++) {
+                if (result.scores()[i] < minScore) {
+                    break;
+                }
+                hits.add(new SearchHit(bookmarkIds[result.nodes()[i]], result.scores()[i]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(SearchDocument document) {
+        float[] vector = embedder.embed(document);
+        if (vector == null) {
+            return;
+        }
+        addVector(document.bookmarkId(), vector);
+    }
+
+    private void addVector(long bookmarkId, float[] vector) {
+        int node = vectors.add(vector);
+        if (node == bookmarkIds.length) {
+            bookmarkIds = Arrays.copyOf(bookmarkIds, node * 2);
+        }
+        bookmarkIds[node] = bookmarkId;
+        nodeByBookmarkId.put(bookmarkId, node);
+        live.set(node);
+        graph.add(node);
+    }
+
+    /**
+     * 삭제 표시되지 않은 벡터만으로 저장소와 그래프를 새로 만듦
+     */
+    private void rebuildLive() {
+        VectorStore previous = vectors;
+        long[] previousIds = bookmarkIds;
+        BitSet previousLive = (BitSet) live.clone();
+
+        reset(Math.max(16, previousLive.cardinality()));
+        for (int node = previousLive.nextSetBit(0); node >= 0; node = previousLive.nextSetBit(node + 1)) {
+            addVector(previousIds[node], previous.get(node));
+        }
+    }
+
+    private void reset(int capacity) {
+        vectors = new VectorStore(embedder.dimension(), capacity);
+        graph = new HnswGraph(vectors, HnswGraph.DEFAULT_M, HnswGraph.DEFAULT_EF_CONSTRUCTION, userId);
+        bookmarkIds = new long[capacity];
+        nodeByBookmarkId.clear();
+        live.clear();
+    }
+
+    private void recalculateBytes() {
+        estimatedBytes = vectors.estimatedBytes() + graph.estimatedBytes() + bookmarkIds.length * 8L
+                + (long) nodeByBookmarkId.size() * DOC_OVERHEAD_BYTES;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.learnhubproject.search.semantic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * 고정 차원 float 벡터 저장소 (힙 밖 direct buffer)
+ *
+ * 벡터를 배열 객체로 두지 않고 하나의 연속된 버퍼에 이어 붙이므로 GC 대상 객체와 헤더 비용이 없습니다.
+ * 추가는 끝에 붙이기만 하고, 용량이 차면 두 배 크기 버퍼로 복사합니다.
+ */
+final class VectorStore {
+
+    private final int dimension;
+    private FloatBuffer vectors;
+    private int size;
+
+    VectorStore(int dimension, int initialCapacity) {
+        this.dimension = dimension;
+        this.vectors = allocate(Math.max(1, initialCapacity) * dimension);
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return 저장된 벡터 번호
+     */
+    int add(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length);
+        }
+        if ((size + 1) * dimension > vectors.capacity()) {
+            FloatBuffer grown = allocate(vectors.capacity() * 2);
+            vectors.position(0).limit(size * dimension);
+            grown.put(vectors);
+            grown.clear();
+            vectors.clear();
+            vectors = grown;
+        }
+        vectors.put(size * dimension, vector);
+        return size++;
+    }
+
+    float[] get(int index) {
+        float[] vector = new float[dimension];
+        vectors.get(index * dimension, vector);
+        return vector;
+    }
+
+    /**
+     * 내적 (벡터는 정규화되어 있으므로 코사인 유사도)
+     */
+    float dot(int index, float[] query) {
+        int base = index * dimension;
+        float sum = 0;
+        for (int i = 0; i < dimension; i++) {
+            sum += vectors.get(base + i) * query[i];
+        }
+        return sum;
+    }
+
+    float dot(int a, int b) {
+        int baseA = a * dimension;
+        int baseB = b * dimension;
+        float sum = 0;
+        for (int i = 0; i < dimension; i++) {
+            sum += vectors.get(baseA + i) * vectors.get(baseB + i);
+        }
+        return sum;
+    }
+
+    long estimatedBytes() {
+        return (long) vectors.capacity() * Float.BYTES;
+    }
+
+    private static FloatBuffer allocate(int floats) {
+        return ByteBuffer.allocateDirect(floats * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+}
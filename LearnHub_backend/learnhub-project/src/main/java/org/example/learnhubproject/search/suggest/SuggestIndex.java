@@ -0,0 +1,274 @@
+package org.example.learnhubproject.search.suggest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.event.GlossaryChangedEvent;
+import org.example.learnhubproject.repository.TagUsageRepository;
+import org.example.learnhubproject.repository.TechTermRepository;
+import org.example.learnhubproject.repository.projection.NameCountRow;
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.SearchDocumentLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검색창 자동완성 사전
+ *
+ * - 사용자별: 내 북마크 제목과 태그 (태그 인기도 = 내 북마크 중 사용 횟수)
+ * - 전역: 전체 태그 이름(tag_usage 카운터 값)과 기술 용어 사전
+ *
+ * 사용자 사전은 북마크별 제목/태그를 들고 있다가, 커밋된 변경 이벤트로 바뀐 북마크만 다시 읽어 트라이를 재생성합니다.
+ * 전역 사전은 변경 표시 후 최소 갱신 간격이 지나면 다음 조회에서 다시 만듭니다.
+ * 사용자 사전의 추정 메모리 합이 예산을 넘으면 오래 사용하지 않은 사용자부터 제거합니다.
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+    private final SearchDocumentLoader documentLoader;
+    private final TagUsageRepository tagUsageRepository;
+    private final TechTermRepository techTermRepository;
+    private final TransactionTemplate loadTransaction;
+    private final ConcurrentHashMap<Long, UserSuggestions> users = new ConcurrentHashMap<>();
+
+    // 사전 생성 중 DB 조회가 가상 스레드의 캐리어를 고정하지 않도록 synchronized 대신 사용
+    private final ReentrantLock globalLock = new ReentrantLock();
+    private volatile SuggestTrie global;
+    private volatile boolean globalDirty = true;
+    private volatile long globalBuiltAtMillis;
+
+    @Value("${learnhub.suggest.max-memory-bytes:16777216}")
+    private long maxMemoryBytes;
+
+    @Value("${learnhub.suggest.global-refresh-interval-ms:10000}")
+    private long globalRefreshIntervalMillis;
+
+    public SuggestIndex(SearchDocumentLoader documentLoader, TagUsageRepository tagUsageRepository,
+                        TechTermRepository techTermRepository, PlatformTransactionManager transactionManager) {
+        this.documentLoader = documentLoader;
+        this.tagUsageRepository = tagUsageRepository;
+        this.techTermRepository = techTermRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 접두어 자동완성 (내 제목/태그 우선, 남는 자리는 전역 태그/용어로 채움, 같은 문자열은 한 번만)
+     */
+    public List<Suggestion> suggest(Long userId, String query, int limit) {
+        String prefix = SuggestTrie.normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(limit, SuggestTrie.TOP_K);
+
+        Map<String, Suggestion> merged = new LinkedHashMap<>();
+        for (Suggestion suggestion : acquire(userId).lookup(prefix, size)) {
+            merged.putIfAbsent(SuggestTrie.normalize(suggestion.text()), suggestion);
+        }
+        if (merged.size() < size) {
+            for (Suggestion suggestion : acquireGlobal().lookup(prefix, size)) {
+                merged.putIfAbsent(SuggestTrie.normalize(suggestion.text()), suggestion);
+                if (merged.size() == size) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        UserSuggestions suggestions = users.get(event.userId());
+        if (suggestions != null) {
+            suggestions.markDirty(event.bookmarkIds());
+        }
+        // 태그 생성/삭제와 사용 횟수 변화 반영
+        globalDirty = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlossaryChanged(GlossaryChangedEvent event) {
+        globalDirty = true;
+    }
+
+    public void evict(Long userId) {
+        users.remove(userId);
+    }
+
+    public long estimatedBytes() {
+        return users.values().stream().mapToLong(UserSuggestions::estimatedBytes).sum();
+    }
+
+    private SuggestTrie acquire(Long userId) {
+        UserSuggestions suggestions = users.computeIfAbsent(userId, UserSuggestions::new);
+        suggestions.lastAccessNanos = System.nanoTime();
+
+        boolean changed = false;
+        suggestions.refreshLock.lock();
+        try {
+            if (suggestions.trie == null) {
+                List<SearchDocument> documents = loadTransaction.execute(status -> documentLoader.loadByUserId(userId));
+                suggestions.apply(Set.of(), documents);
+                changed = true;
+            }
+            Set<Long> dirty = suggestions.drainDirty();
+            if (!dirty.isEmpty()) {
+                suggestions.apply(dirty, loadTransaction.execute(status -> documentLoader.loadByIds(dirty)));
+                changed = true;
+            }
+        } finally {
+            suggestions.refreshLock.unlock();
+        }
+
+        if (changed) {
+            evictOverBudget(userId);
+        }
+        return suggestions.trie;
+    }
+
+    private SuggestTrie acquireGlobal() {
+        SuggestTrie current = global;
+        if (current != null && !(globalDirty
+                && System.currentTimeMillis() - globalBuiltAtMillis >= globalRefreshIntervalMillis)) {
+            return current;
+        }
+        globalLock.lock();
+        try {
+            if (global == null || (globalDirty
+                    && System.currentTimeMillis() - globalBuiltAtMillis >= globalRefreshIntervalMillis)) {
+                // 조회 전에 표시를 지워야 조회 도중 커밋된 변경이 다음 갱신에 반영됨
+                globalDirty = false;
+                long start = System.nanoTime();
+                global = loadTransaction.execute(status -> buildGlobal());
+                globalBuiltAtMillis = System.currentTimeMillis();
+                log.info("전역 자동완성 사전 생성 ({}개, {}ms)", global.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+            return global;
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    private SuggestTrie buildGlobal() {
+        Map<String, Suggestion> entries = new HashMap<>();
+        for (NameCountRow row : tagUsageRepository.findNameCounts()) {
+            entries.put(Suggestion.Type.TAG + ":" + row.name(),
+                    new Suggestion(row.name(), Suggestion.Type.TAG, row.count()));
+        }
+        for (String name : techTermRepository.findAllNames()) {
+            entries.putIfAbsent(Suggestion.Type.TERM + ":" + name, new Suggestion(name, Suggestion.Type.TERM, 1));
+        }
+        return SuggestTrie.build(new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * 메모리 예산 초과 시 오래 사용하지 않은 사용자 사전부터 제거 (방금 사용한 사용자는 제외)
+     */
+    private void evictOverBudget(Long currentUserId) {
+        long total = estimatedBytes();
+        if (total <= maxMemoryBytes) {
+            return;
+        }
+
+        List<UserSuggestions> candidates = new ArrayList<>(users.values());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccessNanos));
+        for (UserSuggestions candidate : candidates) {
+            if (total <= maxMemoryBytes) {
+                break;
+            }
+            if (candidate.userId.equals(currentUserId)) {
+                continue;
+            }
+            if (users.remove(candidate.userId, candidate)) {
+                total -= candidate.estimatedBytes();
+            }
+        }
+    }
+
+    /**
+     * 사용자 한 명의 자동완성 원본(북마크별 제목/태그)과 트라이
+     */
+    private static final class UserSuggestions {
+
+        private final Long userId;
+        private final Map<Long, BookmarkTerms> documents = new HashMap<>();
+        private final Set<Long> dirtyBookmarkIds = new HashSet<>();
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile SuggestTrie trie;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private UserSuggestions(Long userId) {
+            this.userId = userId;
+        }
+
+        private void markDirty(Set<Long> bookmarkIds) {
+            synchronized (dirtyBookmarkIds) {
+                dirtyBookmarkIds.addAll(bookmarkIds);
+            }
+        }
+
+        private Set<Long> drainDirty() {
+            synchronized (dirtyBookmarkIds) {
+                if (dirtyBookmarkIds.isEmpty()) {
+                    return Set.of();
+                }
+                Set<Long> drained = new HashSet<>(dirtyBookmarkIds);
+                dirtyBookmarkIds.clear();
+                return drained;
+            }
+        }
+
+        /**
+         * 변경된 북마크를 교체하고 트라이 재생성 (DB에서 없어진 ID는 삭제로 처리)
+         */
+        private void apply(Set<Long> bookmarkIds, List<SearchDocument> reloaded) {
+            bookmarkIds.forEach(documents::remove);
+            for (SearchDocument document : reloaded) {
+                documents.put(document.bookmarkId(), new BookmarkTerms(document.title(), List.copyOf(document.tags())));
+            }
+
+            Map<String, Suggestion> entries = new HashMap<>();
+            for (BookmarkTerms document : documents.values()) {
+                if (document.title() != null && !document.title().isBlank()) {
+                    entries.merge(Suggestion.Type.TITLE + ":" + document.title(),
+                            new Suggestion(document.title(), Suggestion.Type.TITLE, 1), UserSuggestions::sum);
+                }
+                for (String tag : document.tags()) {
+                    entries.merge(Suggestion.Type.TAG + ":" + tag,
+                            new Suggestion(tag, Suggestion.Type.TAG, 1), UserSuggestions::sum);
+                }
+            }
+            trie = SuggestTrie.build(new ArrayList<>(entries.values()));
+        }
+
+        private long estimatedBytes() {
+            SuggestTrie current = trie;
+            // 원본은 북마크당 제목/태그 문자열 + 맵 항목 대략값
+            return (current == null ? 0 : current.estimatedBytes()) + documents.size() * 160L;
+        }
+
+        private record BookmarkTerms(String title, List<String> tags) {
+        }
+
+        private static Suggestion sum(Suggestion a, Suggestion b) {
+            return new Suggestion(a.text(), a.type(), a.weight() + b.weight());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package org.example.learnhubproject.search.suggest;
+
+import org.example.learnhubproject.search.analysis.Analyzers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * 자동완성용 불변 접두어 트라이
+ *
+ * 노드를 객체가 아닌 배열(라벨, 자식 범위)로 평탄화하고, 노드마다 하위 후보 중 인기도 상위
+ * {@value #TOP_K}개를 미리 계산해 둡니다. 조회는 질의 길이만큼 자식을 이진 탐색한 뒤
+ * 해당 노드의 목록을 그대로 읽으므로 후보 수와 무관하게 수 마이크로초 안에 끝납니다.
+ *
+ * 후보는 전체 문자열뿐 아니라 단어 시작 위치부터의 접미어로도 색인되어 "jpa"로 "Spring Data JPA"를 찾을 수 있습니다.
+ */
+final class SuggestTrie {
+
+    static final int TOP_K = 10;
+
+    // 키 길이/단어 수 상한 (긴 제목이 노드 수를 키우지 않도록)
+    private static final int MAX_KEY_LENGTH = 32;
+    private static final int MAX_WORD_KEYS = 6;
+
+    static final SuggestTrie EMPTY = build(List.of());
+
+    private final Suggestion[] entries;
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] childEnd;
+    private final int[] topStart;
+    private final int[] topEntries;
+
+    private SuggestTrie(Suggestion[] entries, char[] labels, int[] childStart, int[] childEnd,
+                        int[] topStart, int[] topEntries) {
+        this.entries = entries;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.childEnd = childEnd;
+        this.topStart = topStart;
+        this.topEntries = topEntries;
+    }
+
+    /**
+     * 인기도 상위 후보 조회 (인기도 내림차순, 같으면 짧은 문자열 우선)
+     */
+    List<Suggestion> lookup(String normalizedPrefix, int limit) {
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+        int node = 0;
+        int length = Math.min(normalizedPrefix.length(), MAX_KEY_LENGTH);
+        for (int i = 0; i < length; i++) {
+            node = findChild(node, normalizedPrefix.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        int from = topStart[node];
+        int to = Math.min(topStart[node + 1], from + limit);
+        List<Suggestion> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Suggestion entry = entries[topEntries[i]];
+            // 키 길이 상한보다 긴 질의는 원문으로 한 번 더 확인
+            if (length == normalizedPrefix.length() || normalize(entry.text()).contains(normalizedPrefix)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    long estimatedBytes() {
+        // 노드당 라벨(2) + 자식 범위(8) + 상위 목록 시작(4), 후보는 문자열 + 객체 헤더 대략값
+        long bytes = labels.length * 14L + topEntries.length * 4L;
+        for (Suggestion entry : entries) {
+            bytes += 48 + entry.text().length() * 2L;
+        }
+        return bytes;
+    }
+
+    private int findChild(int node, char c) {
+        int low = childStart[node];
+        int high = childEnd[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                low = mid + 1;
+            } else if (label > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 공백 정리 + NFKC 정규화 + 소문자화 (색인/질의 공통)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Analyzers.KOREAN.normalize(text).toLowerCase(Locale.ROOT).trim();
+        return normalized.replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 후보 목록으로 트라이 생성 (같은 종류의 같은 문자열은 호출 측에서 합쳐서 전달)
+     */
+    static SuggestTrie build(List<Suggestion> suggestions) {
+        // 후보 번호 = 순위 (번호가 작을수록 우선), 노드별 상위 목록은 작은 번호 K개를 고르기만 하면 됨
+        Suggestion[] entries = suggestions.toArray(Suggestion[]::new);
+        Arrays.sort(entries, Comparator.comparingLong(Suggestion::weight).reversed()
+                .thenComparingInt(suggestion -> suggestion.text().length())
+                .thenComparing(Suggestion::text)
+                .thenComparing(Suggestion::type));
+
+        BuildNode root = new BuildNode('\0');
+        for (int id = 0; id < entries.length; id++) {
+            for (String key : keys(normalize(entries[id].text()))) {
+                BuildNode node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.child(key.charAt(i));
+                    node.offer(id);
+                }
+            }
+        }
+        return flatten(entries, root);
+    }
+
+    /**
+     * 전체 문자열 + 단어 시작 위치부터의 접미어 (최대 {@value #MAX_WORD_KEYS}개, 각 {@value #MAX_KEY_LENGTH}자까지)
+     */
+    private static List<String> keys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        int start = 0;
+        while (start >= 0 && keys.size() < MAX_WORD_KEYS) {
+            keys.add(normalized.substring(start, Math.min(normalized.length(), start + MAX_KEY_LENGTH)));
+            int space = normalized.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+        return keys;
+    }
+
+    /**
+     * 너비 우선으로 노드 번호를 매겨 형제 노드가 연속된 배열 구간이 되도록 평탄화
+     */
+    private static SuggestTrie flatten(Suggestion[] entries, BuildNode root) {
+        List<BuildNode> order = new ArrayList<>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            order.addAll(order.get(i).children.values());
+        }
+
+        int nodeCount = order.size();
+        char[] labels = new char[nodeCount];
+        int[] childStart = new int[nodeCount];
+        int[] childEnd = new int[nodeCount];
+        int[] topStart = new int[nodeCount + 1];
+        int topCount = 0;
+        for (BuildNode node : order) {
+            topCount += node.topSize;
+        }
+        int[] topEntries = new int[topCount];
+
+        int nextChild = 1;
+        int nextTop = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            BuildNode node = order.get(i);
+            labels[i] = node.label;
+            childStart[i] = nextChild;
+            nextChild += node.children.size();
+            childEnd[i] = nextChild;
+            topStart[i] = nextTop;
+            System.arraycopy(node.top, 0, topEntries, nextTop, node.topSize);
+            nextTop += node.topSize;
+        }
+        topStart[nodeCount] = nextTop;
+        return new SuggestTrie(entries, labels, childStart, childEnd, topStart, topEntries);
+    }
+
+    private static final class BuildNode {
+        private final char label;
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final int[] top = new int[TOP_K];
+        private int topSize;
+
+        private BuildNode(char label) {
+            this.label = label;
+        }
+
+        private BuildNode child(char c) {
+            return children.computeIfAbsent(c, BuildNode::new);
+        }
+
+        /**
+         * 후보는 순위 순서대로 들어오므로 중복이 아니면 끝에 붙이기만 하면 됨
+         */
+        private void offer(int id) {
+            if (topSize == TOP_K || (topSize > 0 && top[topSize - 1] == id)) {
+                return;
+            }
+            top[topSize++] = id;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.learnhubproject.search.suggest;
+
+/**
+ * 자동완성 후보
+ *
+ * @param text   표시 문자열 (원문)
+ * @param type   후보 종류
+ * @param weight 인기도 (태그: 사용 횟수, 제목/용어: 1)
+ */
+public record Suggestion(String text, Type type, long weight) {
+
+    public enum Type {
+        TAG, TITLE, TERM
+    }
+}
@@ -11,10 +11,13 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,12 +32,25 @@ public class AIAnalysisService {
     private String geminiApiKey;
 
     private final CategoryRepository categoryRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate = createRestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private static final String GEMINI_API_URL =
             "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent";
 
+    /**
+     * java.net.http.HttpClient 기반 RestTemplate 생성
+     * 기본 HttpURLConnection 구현은 내부 synchronized 블록에서 가상 스레드를 캐리어 스레드에 고정(pinning)시킴
+     */
+    static RestTemplate createRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(60));
+        return new RestTemplate(requestFactory);
+    }
+
     public AnalysisResultDTO analyzeUrl(String url) throws IOException {
         log.info("URL 분석 시작: {}", url);
 
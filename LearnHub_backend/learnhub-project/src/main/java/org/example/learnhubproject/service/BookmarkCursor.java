@@ -0,0 +1,58 @@
+package org.example.learnhubproject.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 북마크 목록 keyset 커서
+ * 마지막으로 반환한 북마크의 정렬 키(createdAt 또는 title)와 id를 담고, 클라이언트에는 불투명한 문자열로 전달
+ *
+ * @param sort      커서를 발급한 정렬 기준 (latest, oldest, title)
+ * @param createdAt latest/oldest 정렬의 마지막 생성일시
+ * @param title     title 정렬의 마지막 제목 (null 가능)
+ * @param id        마지막 북마크 ID (동일 정렬 키의 순서 보장)
+ */
+public record BookmarkCursor(String sort, LocalDateTime createdAt, String title, Long id) {
+
+    private static final String VERSION = "v1";
+    private static final String NULL_VALUE = "n";
+    private static final String VALUE_PREFIX = "v:";
+
+    public String encode() {
+        Object value = "title".equals(sort) ? title : createdAt;
+        String raw = VERSION + "|" + sort + "|" + id + "|"
+                + (value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param expectedSort 현재 요청의 정렬 기준 (다른 정렬에서 발급된 커서는 거부)
+     */
+    public static BookmarkCursor decode(String cursor, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 제목에 구분자가 포함될 수 있으므로 값은 마지막 필드로 두고 나머지를 그대로 사용
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || !parts[1].equals(expectedSort)
+                    || !(NULL_VALUE.equals(parts[3]) || parts[3].startsWith(VALUE_PREFIX))) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+
+            Long id = Long.valueOf(parts[2]);
+            String value = NULL_VALUE.equals(parts[3]) ? null : parts[3].substring(VALUE_PREFIX.length());
+            if ("title".equals(expectedSort)) {
+                return new BookmarkCursor(expectedSort, null, value, id);
+            }
+            if (value == null) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+            return new BookmarkCursor(expectedSort, LocalDateTime.parse(value), null, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -1,19 +1,54 @@
 package org.example.learnhubproject.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.dto.BulkBookmarkUpdateRequest;
+import org.example.learnhubproject.dto.response.BookmarkResponse;
+import org.example.learnhubproject.dto.response.BulkBookmarkResponse;
+import org.example.learnhubproject.dto.response.BulkTagResponse;
+import org.example.learnhubproject.dto.response.CursorPageResponse;
+import org.example.learnhubproject.dto.response.FacetResponse;
+import org.example.learnhubproject.dto.response.HighlightResponse;
+import org.example.learnhubproject.dto.response.RankedSearchResponse;
+import org.example.learnhubproject.dto.response.TagResponse;
 import org.example.learnhubproject.entity.*;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
 import org.example.learnhubproject.exception.ResourceNotFoundException;
 import org.example.learnhubproject.repository.BookmarkRepository;
 import org.example.learnhubproject.repository.BookmarkTagRepository;
+import org.example.learnhubproject.repository.ReviewLogRepository;
+import org.example.learnhubproject.repository.projection.BookmarkRow;
+import org.example.learnhubproject.repository.projection.BookmarkTagRow;
+import org.example.learnhubproject.repository.projection.TagUsageRow;
+import org.example.learnhubproject.search.BookmarkSearchBackend;
+import org.example.learnhubproject.search.FacetCounts;
+import org.example.learnhubproject.search.Highlight;
+import org.example.learnhubproject.search.Highlighter;
+import org.example.learnhubproject.search.SearchHit;
+import org.example.learnhubproject.search.SearchPage;
+import org.example.learnhubproject.search.related.RelatedBookmarkIndex;
+import org.example.learnhubproject.search.semantic.SemanticSearchIndex;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,26 +56,56 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookmarkService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FILTER_TAGS = 10;
+    private static final int DEFAULT_RELATED_SIZE = 5;
+    // 일괄 작업 한 번에 지정할 수 있는 북마크 수이자 IN 목록 하나의 크기
+    private static final int MAX_BULK_BOOKMARKS = 1000;
+
+    // 첫 페이지 조회 시 keyset 조건의 경계값
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
     private final BookmarkRepository bookmarkRepository;
     private final BookmarkTagRepository bookmarkTagRepository;
+    private final ReviewLogRepository reviewLogRepository;
     private final UserService userService;
     private final CategoryService categoryService;
     private final TagService tagService;
+    private final TagUsageService tagUsageService;
     private final ReviewService reviewService;
+    private final BookmarkSearchBackend searchBackend;
+    private final SemanticSearchIndex semanticSearchIndex;
+    private final RelatedBookmarkIndex relatedBookmarkIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     public BookmarkService(
             BookmarkRepository bookmarkRepository,
             BookmarkTagRepository bookmarkTagRepository,
+            ReviewLogRepository reviewLogRepository,
             UserService userService,
             CategoryService categoryService,
             TagService tagService,
-            @Lazy ReviewService reviewService) {
+            TagUsageService tagUsageService,
+            @Lazy ReviewService reviewService,
+            BookmarkSearchBackend searchBackend,
+            SemanticSearchIndex semanticSearchIndex,
+            RelatedBookmarkIndex relatedBookmarkIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.bookmarkRepository = bookmarkRepository;
         this.bookmarkTagRepository = bookmarkTagRepository;
+        this.reviewLogRepository = reviewLogRepository;
         this.userService = userService;
         this.categoryService = categoryService;
         this.tagService = tagService;
+        this.tagUsageService = tagUsageService;
         this.reviewService = reviewService;
+        this.searchBackend = searchBackend;
+        this.semanticSearchIndex = semanticSearchIndex;
+        this.relatedBookmarkIndex = relatedBookmarkIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -121,14 +186,21 @@ public class BookmarkService {
 
         // 태그 추가
         if (tagNames != null && !tagNames.isEmpty()) {
+            List<Long> tagIds = new ArrayList<>(tagNames.size());
             for (String tagName : tagNames) {
                 Tag tag = tagService.findOrCreate(tagName);
+                // "Java"와 "java"처럼 정규화 이름이 같은 태그는 한 번만 연결
+                if (tagIds.contains(tag.getId())) {
+                    continue;
+                }
                 BookmarkTag bookmarkTag = BookmarkTag.builder()
                         .bookmark(bookmark)
                         .tag(tag)
                         .build();
                 bookmarkTagRepository.save(bookmarkTag);
+                tagIds.add(tag.getId());
             }
+            tagUsageService.increment(tagIds);
         }
 
         // 복습 로그 초기화
@@ -138,6 +210,7 @@ public class BookmarkService {
             log.warn("복습 로그 초기화 실패 (북마크 ID: {}): {}", bookmark.getId(), e.getMessage());
         }
 
+        eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, bookmark.getId()));
         return bookmark;
     }
 
@@ -155,8 +228,38 @@ public class BookmarkService {
         return bookmark;
     }
 
-    public List<Bookmark> findByUserId(Long userId) {
-        return bookmarkRepository.findByUserIdWithTags(userId);
+    /**
+     * 북마크 상세 조회 (프로젝션, 권한 검증 포함)
+     */
+    public BookmarkResponse findDetail(Long id, Long userId) {
+        BookmarkRow row = bookmarkRepository.findRowById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("북마크", "id", id));
+        if (!row.userId().equals(userId)) {
+            throw new AccessDeniedException("접근 권한이 없습니다");
+        }
+        return toResponses(List.of(row), bookmarkRepository.findTagRowsByBookmarkIdIn(List.of(id))).get(0);
+    }
+
+    /**
+     * 관련 북마크 추천 (태그/제목 단어가 많이 겹치는 순)
+     * 색인의 LSH 버킷 후보만 비교하며, 색인에 없는 ID일 때만 DB로 존재/소유 여부를 확인합니다
+     */
+    public List<BookmarkResponse> findRelated(Long id, Long userId, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_RELATED_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        Optional<List<SearchHit>> related = relatedBookmarkIndex.related(userId, id, size);
+        if (related.isEmpty()) {
+            BookmarkRow row = bookmarkRepository.findRowById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("북마크", "id", id));
+            if (!row.userId().equals(userId)) {
+                throw new AccessDeniedException("접근 권한이 없습니다");
+            }
+            return List.of();
+        }
+        return findResponsesByIds(related.get().stream().map(SearchHit::bookmarkId).toList());
+    }
+
+    public List<BookmarkResponse> findByUserId(Long userId) {
+        return findByUserIdSorted(userId, "latest");
     }
 
     /**
@@ -164,23 +267,174 @@ public class BookmarkService {
      * @param userId 사용자 ID
      * @param sort 정렬 기준 (latest: 최신순, oldest: 오래된순, title: 제목순)
      */
-    public List<Bookmark> findByUserIdSorted(Long userId, String sort) {
-        // 유효하지 않은 정렬 옵션은 기본값(latest)으로 처리
-        if (!List.of("latest", "oldest", "title").contains(sort)) {
-            sort = "latest";
+    public List<BookmarkResponse> findByUserIdSorted(Long userId, String sort) {
+        List<BookmarkRow> rows = switch (normalizeSort(sort)) {
+            case "oldest" -> bookmarkRepository.findRowsByUserIdOrderByOldest(userId);
+            case "title" -> bookmarkRepository.findRowsByUserIdOrderByTitle(userId);
+            default -> bookmarkRepository.findRowsByUserIdOrderByLatest(userId);
+        };
+        return toResponses(rows, bookmarkRepository.findTagRowsByUserId(userId));
+    }
+
+    /**
+     * 북마크 행과 태그 행을 한 번에 응답 DTO로 매핑 (행 순서 유지)
+     */
+    private List<BookmarkResponse> toResponses(List<BookmarkRow> rows, List<BookmarkTagRow> tagRows) {
+        Map<Long, List<TagResponse>> tagsByBookmarkId = new HashMap<>();
+        for (BookmarkTagRow tagRow : tagRows) {
+            tagsByBookmarkId.computeIfAbsent(tagRow.bookmarkId(), k -> new ArrayList<>())
+                    .add(new TagResponse(tagRow.tagId(), tagRow.tagName()));
+        }
+
+        List<BookmarkResponse> responses = new ArrayList<>(rows.size());
+        for (BookmarkRow row : rows) {
+            responses.add(BookmarkResponse.from(row, tagsByBookmarkId.getOrDefault(row.id(), List.of())));
+        }
+        return responses;
+    }
+
+    /**
+     * 유효하지 않은 정렬 옵션은 기본값(latest)으로 처리
+     */
+    private String normalizeSort(String sort) {
+        return List.of("latest", "oldest", "title").contains(sort) ? sort : "latest";
+    }
+
+    private int normalizePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
         }
-        return bookmarkRepository.findByUserIdWithTagsSorted(userId, sort);
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private BookmarkCursor decodeCursor(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return BookmarkCursor.decode(cursor, sort);
+    }
+
+    /**
+     * 사용자의 북마크 커서 페이지 조회
+     * 1단계로 정렬 키 기준 ID 페이지만 조회하고, 2단계로 해당 ID의 행/태그를 프로젝션으로 조회
+     */
+    public CursorPageResponse<BookmarkResponse> findPageByUserId(Long userId, String sort, String cursor, Integer size) {
+        String normalizedSort = normalizeSort(sort);
+        BookmarkCursor after = decodeCursor(cursor, normalizedSort);
+        int pageSize = normalizePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Long> ids = switch (normalizedSort) {
+            case "oldest" -> bookmarkRepository.findIdsOldestAfter(userId,
+                    after != null ? after.createdAt() : MIN_CREATED_AT,
+                    after != null ? after.id() : 0L, limit);
+            case "title" -> after != null && after.title() != null
+                    ? bookmarkRepository.findIdsTitleAfter(userId, after.title(), after.id(), limit)
+                    : bookmarkRepository.findIdsTitleAfterNull(userId, after != null ? after.id() : 0L, limit);
+            default -> bookmarkRepository.findIdsLatestAfter(userId,
+                    after != null ? after.createdAt() : MAX_CREATED_AT,
+                    after != null ? after.id() : Long.MAX_VALUE, limit);
+        };
+        return toPage(ids, pageSize, normalizedSort);
+    }
+
+    /**
+     * 카테고리별 북마크 커서 페이지 조회
+     */
+    public CursorPageResponse<BookmarkResponse> findPageByUserIdAndCategoryId(Long userId, Long categoryId, String sort,
+                                                                      String cursor, Integer size) {
+        String normalizedSort = normalizeSort(sort);
+        BookmarkCursor after = decodeCursor(cursor, normalizedSort);
+        int pageSize = normalizePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Long> ids = switch (normalizedSort) {
+            case "oldest" -> bookmarkRepository.findIdsByCategoryOldestAfter(userId, categoryId,
+                    after != null ? after.createdAt() : MIN_CREATED_AT,
+                    after != null ? after.id() : 0L, limit);
+            case "title" -> after != null && after.title() != null
+                    ? bookmarkRepository.findIdsByCategoryTitleAfter(userId, categoryId, after.title(), after.id(), limit)
+                    : bookmarkRepository.findIdsByCategoryTitleAfterNull(userId, categoryId,
+                            after != null ? after.id() : 0L, limit);
+            default -> bookmarkRepository.findIdsByCategoryLatestAfter(userId, categoryId,
+                    after != null ? after.createdAt() : MAX_CREATED_AT,
+                    after != null ? after.id() : Long.MAX_VALUE, limit);
+        };
+        return toPage(ids, pageSize, normalizedSort);
+    }
+
+    /**
+     * 통합 검색 커서 페이지 조회 (최신순, 설정한 검색 백엔드로 관련도순 검색과 같은 결과 집합)
+     */
+    public CursorPageResponse<BookmarkResponse> searchPage(Long userId, String keyword, String cursor, Integer size) {
+        if (keyword.startsWith("#")) {
+            keyword = keyword.substring(1);
+        }
+        if (keyword.trim().isEmpty()) {
+            return findPageByUserId(userId, "latest", cursor, size);
+        }
+
+        BookmarkCursor after = decodeCursor(cursor, "latest");
+        int pageSize = normalizePageSize(size);
+        List<Long> ids = searchBackend.searchAfter(userId, keyword,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+        return toPage(ids, pageSize, "latest");
+    }
+
+    /**
+     * ID 페이지(pageSize + 1개 조회)를 응답 페이지로 변환
+     */
+    private CursorPageResponse<BookmarkResponse> toPage(List<Long> ids, int pageSize, String sort) {
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        List<BookmarkResponse> items = findResponsesByIds(pageIds);
+
+        String nextCursor = null;
+        if (hasNext && !items.isEmpty()) {
+            BookmarkResponse last = items.get(items.size() - 1);
+            nextCursor = new BookmarkCursor(sort, last.getCreatedAt(), last.getTitle(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<BookmarkResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    /**
+     * ID 목록 순서대로 응답 DTO 조회
+     */
+    private List<BookmarkResponse> findResponsesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BookmarkRow> rowsById = bookmarkRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookmarkRow::id, Function.identity()));
+        List<BookmarkRow> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookmarkRow row = rowsById.get(id);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return toResponses(rows, bookmarkRepository.findTagRowsByBookmarkIdIn(ids));
     }
 
     public List<Bookmark> findByCategoryId(Long categoryId) {
         return bookmarkRepository.findByCategoryId(categoryId);
     }
 
-    public List<Bookmark> findByUserIdAndCategoryId(Long userId, Long categoryId) {
-        return bookmarkRepository.findByUserIdAndCategoryIdWithTags(userId, categoryId);
+    public List<BookmarkResponse> findByUserIdAndCategoryId(Long userId, Long categoryId) {
+        return toResponses(
+                bookmarkRepository.findRowsByUserIdAndCategoryId(userId, categoryId),
+                bookmarkRepository.findTagRowsByUserIdAndCategoryId(userId, categoryId));
     }
 
-    public List<Bookmark> searchByKeyword(Long userId, String keyword) {
+    public List<BookmarkResponse> searchByKeyword(Long userId, String keyword) {
         // #태그 검색 시 # 제거 (예: #Spring -> Spring)
         if (keyword.startsWith("#")) {
             keyword = keyword.substring(1);
@@ -191,19 +445,170 @@ public class BookmarkService {
             return findByUserId(userId);
         }
 
-        // SQL 특수문자 이스케이프 처리
-        String escapedKeyword = keyword
-                .replace("\\", "\\\\")
-                .replace("%", "\\%")
-                .replace("_", "\\_");
-        return bookmarkRepository.searchByKeywordWithTags(userId, escapedKeyword);
+        // 랭킹을 지원하는 백엔드(memory)는 관련도순, 그 외에는 최신순
+        return findResponsesByIds(hitIds(searchBackend.searchTop(userId, keyword, 0, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * 관련도순 검색 페이지 조회
+     * 상위 (page + 1) * size개만 선별하고, 요청한 페이지의 북마크만 DTO로 조회합니다
+     * memory 백엔드가 아니면 최신순 결과를 같은 형식으로 잘라 반환합니다
+     * includeFacets가 true면 전체 검색 결과의 패싯 집계를 함께 반환합니다
+     * highlight가 true면 결과별 하이라이트와 설명 스니펫을 반환하고 설명 전문은 응답에서 뺍니다
+     */
+    public RankedSearchResponse searchRanked(Long userId, String keyword, Integer page, Integer size,
+                                             boolean includeFacets, boolean highlight) {
+        if (keyword.startsWith("#")) {
+            keyword = keyword.substring(1);
+        }
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = normalizePageSize(size);
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+
+        SearchPage result;
+        if (keyword.trim().isEmpty()) {
+            result = SearchPage.empty();
+        } else {
+            result = searchBackend.searchTop(userId, keyword, offset, pageSize);
+        }
+
+        List<BookmarkResponse> items = findResponsesByIds(hitIds(result));
+        Map<Long, HighlightResponse> highlights = highlight ? highlight(userId, keyword, items) : null;
+
+        return RankedSearchResponse.builder()
+                .items(items)
+                .highlights(highlights)
+                .totalHits(result.totalHits())
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext((long) offset + pageSize < result.totalHits())
+                .facets(includeFacets ? findFacets(userId, keyword) : null)
+                .build();
+    }
+
+    /**
+     * 의미 검색 (로컬 임베딩 + HNSW 근사 최근접 이웃)
+     * 키워드가 달라도 뜻이 가까운 북마크를 유사도순으로 상위 size개만 반환합니다 (검색 백엔드 설정과 무관)
+     */
+    public RankedSearchResponse searchSemantic(Long userId, String keyword, Integer size) {
+        int pageSize = normalizePageSize(size);
+        List<SearchHit> hits = keyword.isBlank() ? List.of()
+                : semanticSearchIndex.search(userId, keyword, pageSize);
+        return RankedSearchResponse.builder()
+                .items(findResponsesByIds(hits.stream().map(SearchHit::bookmarkId).toList()))
+                .totalHits(hits.size())
+                .page(0)
+                .size(pageSize)
+                .hasNext(false)
+                .build();
+    }
+
+    /**
+     * 페이지 결과의 하이라이트/스니펫
+     * memory 백엔드는 색인에 저장된 토큰 위치를 사용하고, 그 외에는 페이지에 포함된 제목/설명만 분석합니다
+     */
+    private Map<Long, HighlightResponse> highlight(Long userId, String keyword, List<BookmarkResponse> items) {
+        List<Long> ids = items.stream().map(BookmarkResponse::getId).toList();
+        Map<Long, Highlight> positions = ids.isEmpty() ? Map.of() : searchBackend.highlights(userId, keyword, ids);
+        List<String> tokens = Highlighter.queryTokens(keyword);
+
+        Map<Long, HighlightResponse> highlights = new HashMap<>();
+        for (BookmarkResponse item : items) {
+            Highlight found = positions.get(item.getId());
+            if (found == null) {
+                found = Highlighter.analyze(item.getTitle(), item.getDescription(), tokens);
+            }
+            highlights.put(item.getId(), HighlightResponse.of(found, item.getDescription()));
+            item.setDescription(null);
+        }
+        return highlights;
+    }
+
+    /**
+     * 태그/카테고리/생성 월 패싯 집계 (검색어가 없으면 전체 북마크)
+     * memory 백엔드는 색인의 BitSet으로 집계하고 (목록은 색인이 이미 있을 때만),
+     * 그 외에는 UNION ALL 집계 쿼리 한 번으로 조회합니다. 어느 쪽도 북마크 엔티티를 읽지 않습니다
+     */
+    public FacetResponse findFacets(Long userId, String keyword) {
+        if (keyword != null && keyword.startsWith("#")) {
+            keyword = keyword.substring(1);
+        }
+        if (keyword == null || keyword.trim().isEmpty()) {
+            Optional<FacetCounts> warm = searchBackend.facetsIfWarm(userId);
+            if (warm.isPresent()) {
+                return FacetResponse.from(warm.get(), categoryNames(userId));
+            }
+            return FacetResponse.from(bookmarkRepository.findFacetsByUserId(userId));
+        }
+
+        Optional<FacetCounts> counted = searchBackend.searchFacets(userId, keyword);
+        if (counted.isPresent()) {
+            return FacetResponse.from(counted.get(), categoryNames(userId));
+        }
+        List<Long> ids = searchBackend.search(userId, keyword);
+        if (ids.isEmpty()) {
+            return FacetResponse.empty();
+        }
+        return FacetResponse.from(bookmarkRepository.findFacetsByIdIn(ids));
+    }
+
+    private Map<Long, String> categoryNames(Long userId) {
+        return categoryService.findByUserId(userId).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+    }
+
+    private static List<Long> hitIds(SearchPage page) {
+        return page.hits().stream().map(SearchHit::bookmarkId).toList();
+    }
+
+    public List<BookmarkResponse> findByTagId(Long userId, Long tagId) {
+        return findResponsesByIds(bookmarkRepository.findIdsByUserIdAndTagId(userId, tagId));
     }
 
-    public List<Bookmark> findByTagId(Long userId, Long tagId) {
-        List<BookmarkTag> bookmarkTags = bookmarkTagRepository.findByUserIdAndTagId(userId, tagId);
-        return bookmarkTags.stream()
-                .map(BookmarkTag::getBookmark)
-                .collect(Collectors.toList());
+    /**
+     * 다중 태그 필터 조회
+     * @param tagNames 태그명 목록 (앞의 # 제거, 중복/공백 무시)
+     * @param match all: 모든 태그를 가진 북마크(AND), any: 하나 이상 가진 북마크(OR)
+     */
+    public List<BookmarkResponse> findByTagNames(Long userId, List<String> tagNames, String match) {
+        Set<String> names = normalizeTagNames(tagNames);
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("태그를 하나 이상 입력해주세요");
+        }
+
+        Set<String> canonicalNames = names.stream()
+                .map(Tag::canonicalize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        long minMatches = switch (match == null ? "all" : match.toLowerCase()) {
+            case "all" -> canonicalNames.size();
+            case "any" -> 1;
+            default -> throw new IllegalArgumentException("match는 all 또는 any만 가능합니다");
+        };
+
+        return findResponsesByIds(
+                bookmarkRepository.findIdsByUserIdAndCanonicalTagNames(userId, canonicalNames, minMatches));
+    }
+
+    /**
+     * 태그명 목록 정리 (앞의 # 제거, 중복/공백 무시)
+     */
+    private Set<String> normalizeTagNames(List<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>();
+        if (tagNames != null) {
+            for (String tagName : tagNames) {
+                String name = tagName == null ? "" : tagName.trim();
+                if (name.startsWith("#")) {
+                    name = name.substring(1).trim();
+                }
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        if (names.size() > MAX_FILTER_TAGS) {
+            throw new IllegalArgumentException("태그는 최대 " + MAX_FILTER_TAGS + "개까지 지정할 수 있습니다");
+        }
+        return names;
     }
 
     @Transactional
@@ -242,6 +647,7 @@ public class BookmarkService {
             bookmark.setCategory(category);
         }
 
+        eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, id));
         return bookmark;
     }
 
@@ -264,19 +670,294 @@ public class BookmarkService {
                 .build();
 
         bookmarkTagRepository.save(bookmarkTag);
+        tagUsageService.increment(List.of(tag.getId()));
+        eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, bookmarkId));
     }
 
     @Transactional
     public void removeTag(Long bookmarkId, Long userId, Long tagId) {
         Bookmark bookmark = findById(bookmarkId);
         validateOwnership(bookmark, userId);
-        bookmarkTagRepository.deleteByBookmarkIdAndTagId(bookmarkId, tagId);
+        if (bookmarkTagRepository.deleteByBookmarkIdAndTagId(bookmarkId, tagId) > 0) {
+            tagUsageService.decrement(List.of(tagId));
+        }
+        eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, bookmarkId));
+    }
+
+    /**
+     * 여러 북마크에 태그 일괄 추가 (이미 붙은 태그는 건너뜀)
+     * 태그마다 INSERT ... SELECT 한 문장으로 대상 북마크 전체에 연결합니다
+     */
+    @Transactional
+    public BulkTagResponse addTags(Long userId, List<Long> bookmarkIds, Long categoryId, List<String> tagNames) {
+        Set<String> names = normalizeTagNames(tagNames);
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("태그를 하나 이상 입력해주세요");
+        }
+        List<Long> ids = resolveBulkTargets(userId, bookmarkIds, categoryId);
+        Map<Long, Long> deltas = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Tag tag : tagService.findOrCreateAll(names)) {
+                deltas.put(tag.getId(), insertTagLinks(ids, tag.getId()));
+            }
+        }
+        return finishBulkTags(userId, ids, deltas);
+    }
+
+    /**
+     * 여러 북마크에서 태그 일괄 제거 (존재하지 않는 태그명은 무시)
+     */
+    @Transactional
+    public BulkTagResponse removeTags(Long userId, List<Long> bookmarkIds, Long categoryId, List<String> tagNames) {
+        Set<String> names = normalizeTagNames(tagNames);
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("태그를 하나 이상 입력해주세요");
+        }
+        List<Long> ids = resolveBulkTargets(userId, bookmarkIds, categoryId);
+        Map<Long, Long> deltas = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Tag tag : tagService.findAllByNames(names)) {
+                deltas.put(tag.getId(), -deleteTagLinks(ids, tag.getId()));
+            }
+        }
+        return finishBulkTags(userId, ids, deltas);
+    }
+
+    /**
+     * 여러 북마크의 태그를 지정한 목록으로 일괄 교체 (빈 목록이면 모든 태그 제거)
+     */
+    @Transactional
+    public BulkTagResponse replaceTags(Long userId, List<Long> bookmarkIds, Long categoryId, List<String> tagNames) {
+        Set<String> names = normalizeTagNames(tagNames);
+        List<Long> ids = resolveBulkTargets(userId, bookmarkIds, categoryId);
+        Map<Long, Long> deltas = new HashMap<>();
+        if (!ids.isEmpty()) {
+            List<Tag> tags = names.isEmpty() ? List.of() : tagService.findOrCreateAll(names);
+            Set<Long> keep = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+
+            Set<Long> current = new HashSet<>();
+            for (List<Long> batch : partition(ids)) {
+                current.addAll(bookmarkTagRepository.findTagIdsByBookmarkIdIn(batch));
+            }
+            for (Long tagId : current) {
+                if (!keep.contains(tagId)) {
+                    deltas.put(tagId, -deleteTagLinks(ids, tagId));
+                }
+            }
+            for (Tag tag : tags) {
+                deltas.put(tag.getId(), insertTagLinks(ids, tag.getId()));
+            }
+        }
+        return finishBulkTags(userId, ids, deltas);
+    }
+
+    /**
+     * 여러 북마크를 다른 카테고리로 일괄 이동
+     * 소유권은 UPDATE의 WHERE 절(user_id)에서 검사하고, 없거나 남의 북마크는 NOT_FOUND로 응답합니다
+     */
+    @Transactional
+    public BulkBookmarkResponse moveBulk(Long userId, List<Long> bookmarkIds, Long categoryId, Long targetCategoryId) {
+        if (targetCategoryId == null) {
+            throw new IllegalArgumentException("이동할 카테고리를 지정해주세요");
+        }
+        Category target = categoryService.findById(targetCategoryId);
+        categoryService.validateOwnership(target, userId);
+
+        BulkTargets targets = findBulkTargets(userId, bookmarkIds, categoryId);
+        for (List<Long> batch : partition(targets.owned())) {
+            bookmarkRepository.moveByUserIdAndIdIn(userId, batch, targetCategoryId);
+        }
+        if (!targets.owned().isEmpty()) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, targets.owned()));
+        }
+        return bulkResponse(targets, BulkBookmarkResponse.Status.MOVED);
+    }
+
+    /**
+     * 여러 북마크 일괄 삭제
+     * 배치마다 태그별 연결 수를 한 번에 집계해 사용 횟수를 줄이고, bookmark_tags/review_logs/bookmarks 순서로
+     * IN 목록 DELETE를 실행합니다 (엔티티를 읽어 cascade로 한 행씩 지우지 않음)
+     */
+    @Transactional
+    public BulkBookmarkResponse deleteBulk(Long userId, List<Long> bookmarkIds, Long categoryId) {
+        BulkTargets targets = findBulkTargets(userId, bookmarkIds, categoryId);
+        Map<Long, Long> deltas = new HashMap<>();
+        for (List<Long> batch : partition(targets.owned())) {
+            for (TagUsageRow row : bookmarkTagRepository.countByBookmarkIdIn(batch)) {
+                deltas.merge(row.getTagId(), -row.getCnt(), Long::sum);
+            }
+            bookmarkTagRepository.deleteByBookmarkIdIn(batch);
+            reviewLogRepository.deleteByBookmarkIdIn(batch);
+            bookmarkRepository.deleteByUserIdAndIdIn(userId, batch);
+        }
+        tagUsageService.adjust(deltas);
+        if (!targets.owned().isEmpty()) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, targets.owned()));
+        }
+        return bulkResponse(targets, BulkBookmarkResponse.Status.DELETED);
+    }
+
+    /**
+     * 여러 북마크의 제목/설명/썸네일 일괄 수정 (null인 필드는 유지)
+     * 같은 ID가 여러 번 오면 마지막 항목만 적용하고, 바꿀 값이 같은 항목끼리 묶어 IN 목록 UPDATE 한 문장으로 처리합니다.
+     * 영속성 컨텍스트는 모든 UPDATE 후 한 번만 비웁니다
+     */
+    @Transactional
+    public BulkBookmarkResponse updateBulk(Long userId, List<BulkBookmarkUpdateRequest.Item> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("수정할 북마크를 하나 이상 지정해주세요");
+        }
+        if (items.size() > MAX_BULK_BOOKMARKS) {
+            throw new IllegalArgumentException("북마크는 한 번에 최대 " + MAX_BULK_BOOKMARKS + "개까지 수정할 수 있습니다");
+        }
+        Map<Long, BulkBookmarkUpdateRequest.Item> itemsById = new LinkedHashMap<>();
+        for (BulkBookmarkUpdateRequest.Item item : items) {
+            itemsById.put(item.getId(), item);
+        }
+        BulkTargets targets = findBulkTargets(userId, new ArrayList<>(itemsById.keySet()), null);
+
+        Map<UpdateFields, List<Long>> idsByFields = new LinkedHashMap<>();
+        for (Long id : targets.owned()) {
+            BulkBookmarkUpdateRequest.Item item = itemsById.get(id);
+            idsByFields.computeIfAbsent(new UpdateFields(item.getTitle(), item.getDescription(), item.getThumbnailUrl()),
+                    fields -> new ArrayList<>()).add(id);
+        }
+        idsByFields.forEach((fields, ids) -> {
+            for (List<Long> batch : partition(ids)) {
+                bookmarkRepository.updateByUserIdAndIdIn(userId, batch, fields.title(), fields.description(),
+                        fields.thumbnailUrl());
+            }
+        });
+        entityManager.clear();
+
+        if (!targets.owned().isEmpty()) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, targets.owned()));
+        }
+        return bulkResponse(targets, BulkBookmarkResponse.Status.UPDATED);
+    }
+
+    /**
+     * 일괄 수정에서 한 UPDATE 문으로 묶을 수 있는 값 조합
+     */
+    private record UpdateFields(String title, String description, String thumbnailUrl) {
+    }
+
+    /**
+     * 일괄 작업 대상 (사용자 소유 ID와 없거나 남의 북마크인 ID)
+     */
+    private record BulkTargets(List<Long> owned, List<Long> missing) {
+    }
+
+    /**
+     * 일괄 작업 대상 북마크 (bookmarkIds 또는 categoryId 중 하나)
+     * 지정한 ID 목록은 소유 여부를 쿼리 한 번으로 확인하고, 소유하지 않은 ID는 예외 없이 따로 모읍니다
+     */
+    private BulkTargets findBulkTargets(Long userId, List<Long> bookmarkIds, Long categoryId) {
+        boolean hasIds = bookmarkIds != null && !bookmarkIds.isEmpty();
+        if (hasIds == (categoryId != null)) {
+            throw new IllegalArgumentException("bookmarkIds 또는 categoryId 중 하나만 지정해주세요");
+        }
+        if (categoryId != null) {
+            Category category = categoryService.findById(categoryId);
+            categoryService.validateOwnership(category, userId);
+            return new BulkTargets(bookmarkRepository.findIdsByUserIdAndCategoryIdIn(userId, List.of(categoryId)),
+                    List.of());
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(bookmarkIds);
+        if (requested.size() > MAX_BULK_BOOKMARKS) {
+            throw new IllegalArgumentException("북마크는 한 번에 최대 " + MAX_BULK_BOOKMARKS + "개까지 지정할 수 있습니다");
+        }
+        Set<Long> owned = new HashSet<>(bookmarkRepository.findIdsByUserIdAndIdIn(userId, requested));
+        List<Long> ownedIds = new ArrayList<>(owned.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            (owned.contains(id) ? ownedIds : missing).add(id);
+        }
+        return new BulkTargets(ownedIds, missing);
+    }
+
+    /**
+     * 일괄 태그 작업 대상 북마크 ID (하나라도 소유하지 않으면 전체 실패)
+     */
+    private List<Long> resolveBulkTargets(Long userId, List<Long> bookmarkIds, Long categoryId) {
+        BulkTargets targets = findBulkTargets(userId, bookmarkIds, categoryId);
+        if (!targets.missing().isEmpty()) {
+            Long id = targets.missing().get(0);
+            // 실패한 요청에서만 없는 북마크(404)와 남의 북마크(403)를 구분
+            if (!bookmarkRepository.existsById(id)) {
+                throw new ResourceNotFoundException("북마크", "id", id);
+            }
+            throw new AccessDeniedException("접근 권한이 없습니다");
+        }
+        return targets.owned();
+    }
+
+    private static BulkBookmarkResponse bulkResponse(BulkTargets targets, BulkBookmarkResponse.Status status) {
+        List<BulkBookmarkResponse.ItemResult> results = new ArrayList<>(targets.owned().size() + targets.missing().size());
+        targets.owned().forEach(id -> results.add(itemResult(id, status)));
+        targets.missing().forEach(id -> results.add(itemResult(id, BulkBookmarkResponse.Status.NOT_FOUND)));
+        return BulkBookmarkResponse.builder()
+                .succeeded(targets.owned().size())
+                .failed(targets.missing().size())
+                .results(results)
+                .build();
+    }
+
+    private static BulkBookmarkResponse.ItemResult itemResult(Long id, BulkBookmarkResponse.Status status) {
+        return BulkBookmarkResponse.ItemResult.builder().id(id).status(status).build();
+    }
+
+    private long insertTagLinks(List<Long> bookmarkIds, Long tagId) {
+        long inserted = 0;
+        for (List<Long> batch : partition(bookmarkIds)) {
+            inserted += bookmarkTagRepository.insertMissing(batch, tagId);
+        }
+        return inserted;
+    }
+
+    private long deleteTagLinks(List<Long> bookmarkIds, Long tagId) {
+        long deleted = 0;
+        for (List<Long> batch : partition(bookmarkIds)) {
+            deleted += bookmarkTagRepository.deleteByBookmarkIdInAndTagId(batch, tagId);
+        }
+        return deleted;
+    }
+
+    /**
+     * 실제로 바뀐 연결 수만큼 태그 사용 횟수를 반영하고 변경 이벤트 발행
+     */
+    private BulkTagResponse finishBulkTags(Long userId, List<Long> ids, Map<Long, Long> deltas) {
+        long added = deltas.values().stream().filter(delta -> delta > 0).mapToLong(Long::longValue).sum();
+        long removed = -deltas.values().stream().filter(delta -> delta < 0).mapToLong(Long::longValue).sum();
+        tagUsageService.adjust(deltas);
+        if (added > 0 || removed > 0) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, ids));
+        }
+        return BulkTagResponse.builder()
+                .bookmarkCount(ids.size())
+                .added(added)
+                .removed(removed)
+                .build();
+    }
+
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_BULK_BOOKMARKS) {
+            batches.add(ids.subList(from, Math.min(from + MAX_BULK_BOOKMARKS, ids.size())));
+        }
+        return batches;
     }
 
     @Transactional
     public void delete(Long id, Long userId) {
         Bookmark bookmark = findById(id);
         validateOwnership(bookmark, userId);
+        // bookmark_tags는 cascade로 함께 삭제되므로 카운터만 따로 감소
+        tagUsageService.decrement(bookmark.getBookmarkTags().stream()
+                .map(bookmarkTag -> bookmarkTag.getTag().getId())
+                .toList());
         bookmarkRepository.delete(bookmark);
+        eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, id));
     }
 }
@@ -1,18 +1,23 @@
 package org.example.learnhubproject.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.learnhubproject.entity.Bookmark;
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.dto.response.CategoryCountResponse;
 import org.example.learnhubproject.entity.Category;
 import org.example.learnhubproject.entity.User;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.event.CategoryChangedEvent;
 import org.example.learnhubproject.exception.ResourceNotFoundException;
 import org.example.learnhubproject.repository.BookmarkRepository;
 import org.example.learnhubproject.repository.CategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,6 +26,8 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final BookmarkRepository bookmarkRepository;
     private final UserService userService;
+    private final UserCategoryCountCache userCategoryCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 소유권 검증
@@ -44,7 +51,9 @@ public class CategoryService {
                 .user(user)
                 .build();
 
-        return categoryRepository.save(category);
+        category = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId));
+        return category;
     }
 
     public Category findById(Long id) {
@@ -65,6 +74,15 @@ public class CategoryService {
         return categoryRepository.findByUserId(userId);
     }
 
+    /**
+     * 내 카테고리 목록과 카테고리별 북마크 수 (그룹 쿼리 한 번, 사용자별 캐시)
+     */
+    public List<CategoryCountResponse> findWithCountsByUserId(Long userId) {
+        return userCategoryCountCache.get(userId, () -> categoryRepository.findCountsByUserId(userId).stream()
+                .map(CategoryCountResponse::from)
+                .toList());
+    }
+
     @Transactional
     public Category update(Long id, Long userId, String name) {
         Category category = findById(id);
@@ -75,6 +93,7 @@ public class CategoryService {
         }
 
         category.setName(name);
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId));
         return category;
     }
 
@@ -102,12 +121,16 @@ public class CategoryService {
                     return categoryRepository.save(newDefault);
                 });
 
-        List<Bookmark> bookmarks = bookmarkRepository.findByCategoryId(id);
-        for (Bookmark bookmark : bookmarks) {
-            bookmark.setCategory(defaultCategory);
+        // 엔티티를 읽어 하나씩 바꾸면 북마크 수만큼 UPDATE가 나가므로 한 문장으로 이동
+        List<Long> bookmarkIds = bookmarkRepository.findIdsByUserIdAndCategoryIdIn(userId, List.of(id));
+        int moved = bookmarkRepository.moveToCategory(id, defaultCategory.getId());
+        if (!bookmarkIds.isEmpty()) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, bookmarkIds));
         }
 
-        // 카테고리 삭제
-        categoryRepository.delete(category);
+        // 카테고리 삭제 (이동 후 영속성 컨텍스트가 비워졌으므로 엔티티 대신 ID로 삭제)
+        categoryRepository.deleteCategoryById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(userId));
+        log.info("카테고리 삭제 (ID: {}, 기본 카테고리로 이동한 북마크 {}개)", id, moved);
     }
 }
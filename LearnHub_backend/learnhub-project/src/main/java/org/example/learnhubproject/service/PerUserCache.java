@@ -0,0 +1,85 @@
+package org.example.learnhubproject.service;
+
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 조회 결과 캐시 (최근 조회한 사용자 순으로 최대 maxUsers명)
+ *
+ * 북마크가 바뀌면 커밋 후 해당 사용자 항목을 버립니다.
+ * 무효화와 겹쳐 조회된 결과는 변경 전 스냅샷일 수 있으므로 캐시에 넣지 않습니다.
+ */
+public abstract class PerUserCache<V> {
+
+    private final Map<Long, V> cache;
+    // 조회 중인 사용자만 보관 (조회 시작 후 무효화되었으면 결과를 저장하지 않음, 마지막 조회가 끝나면 제거)
+    private final Map<Long, Loading> loading = new HashMap<>();
+
+    protected PerUserCache(int maxUsers) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 실행할 조회 (변경 불가능한 값을 반환해야 함)
+     */
+    public V get(Long userId, Supplier<V> loader) {
+        Loading load;
+        long generation;
+        synchronized (cache) {
+            V cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            load = loading.computeIfAbsent(userId, id -> new Loading());
+            load.count++;
+            generation = load.generation;
+        }
+        V loaded = null;
+        try {
+            loaded = loader.get();
+            return loaded;
+        } finally {
+            synchronized (cache) {
+                if (loaded != null && load.generation == generation) {
+                    cache.put(userId, loaded);
+                }
+                if (--load.count == 0) {
+                    loading.remove(userId);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    protected void invalidate(Long userId) {
+        synchronized (cache) {
+            cache.remove(userId);
+            Loading load = loading.get(userId);
+            if (load != null) {
+                load.generation++;
+            }
+        }
+    }
+
+    /**
+     * 사용자별 진행 중인 조회 수와 그동안의 무효화 횟수 (cache 잠금 안에서만 접근)
+     */
+    private static final class Loading {
+        int count;
+        long generation;
+    }
+}
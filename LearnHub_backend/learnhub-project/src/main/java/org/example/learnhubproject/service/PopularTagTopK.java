@@ -0,0 +1,112 @@
+package org.example.learnhubproject.service;
+
+import org.example.learnhubproject.repository.projection.TagCountRow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 인기 태그 상위 K개의 인메모리 순위
+ *
+ * DB에서 상위 capacity개를 읽어 두고 커밋된 증감만 반영합니다.
+ * 순위 밖 태그는 횟수를 모르지만 "읽을 때의 경계값 + 이후 증가분"을 넘지 않으므로,
+ * 요청한 limit번째 태그가 이 상한 이상이면 메모리 결과가 정확하고, 아니면 다시 읽어야 한다고 알립니다.
+ */
+final class PopularTagTopK {
+
+    // 순위 밖 태그 증가분을 이 개수 넘게 추적해야 하면 다시 읽는 편이 저렴
+    private static final int MAX_PENDING = 10_000;
+    private static final Comparator<TagCountRow> ORDER = Comparator.comparingLong(TagCountRow::count).reversed()
+            .thenComparing(TagCountRow::id);
+
+    private final int capacity;
+    private final Map<Long, TagCountRow> tracked = new HashMap<>();
+    private final TreeSet<TagCountRow> ordered = new TreeSet<>(ORDER);
+    // 순위 밖 태그의 읽을 당시 최대 횟수 (전부 읽었으면 0)
+    private long floor;
+    // 순위 밖 태그의 읽은 이후 증감 합
+    private final Map<Long, Long> pending = new HashMap<>();
+    private boolean loaded;
+
+    PopularTagTopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * DB에서 읽은 상위 capacity개로 교체 (사용 횟수 내림차순)
+     */
+    synchronized void load(List<TagCountRow> rows) {
+        tracked.clear();
+        ordered.clear();
+        pending.clear();
+        for (TagCountRow row : rows) {
+            tracked.put(row.id(), row);
+            ordered.add(row);
+        }
+        floor = rows.size() < capacity ? 0 : rows.get(rows.size() - 1).count();
+        loaded = true;
+    }
+
+    synchronized void invalidate() {
+        loaded = false;
+    }
+
+    synchronized void apply(Map<Long, Long> deltas) {
+        if (!loaded) {
+            return;
+        }
+        deltas.forEach((tagId, delta) -> {
+            TagCountRow current = tracked.remove(tagId);
+            if (current == null) {
+                pending.merge(tagId, delta, Long::sum);
+                return;
+            }
+            ordered.remove(current);
+            long count = current.count() + delta;
+            if (count > 0) {
+                TagCountRow updated = new TagCountRow(tagId, current.name(), count);
+                tracked.put(tagId, updated);
+                ordered.add(updated);
+            }
+        });
+        if (pending.size() > MAX_PENDING) {
+            loaded = false;
+        }
+    }
+
+    /**
+     * 상위 limit개 (limit은 capacity 이하)
+     * @return 순위 밖 태그가 끼어들었을 수 있으면 empty (호출 측에서 다시 읽은 뒤 재시도)
+     */
+    synchronized Optional<List<TagCountRow>> top(int limit) {
+        if (!loaded) {
+            return Optional.empty();
+        }
+        List<TagCountRow> result = new ArrayList<>(Math.min(limit, ordered.size()));
+        for (TagCountRow row : ordered) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(row);
+        }
+
+        long untrackedBound = floor;
+        for (long delta : pending.values()) {
+            untrackedBound = Math.max(untrackedBound, floor + delta);
+        }
+        long kth = result.size() == limit ? result.get(limit - 1).count() : 0;
+        if (untrackedBound > 0 && kth < untrackedBound) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.learnhubproject.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.entity.Tag;
+import org.example.learnhubproject.repository.TagRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 태그의 정규화 이름 채우기 (V6 마이그레이션 이후 한 번 실행되는 백그라운드 작업)
+ *
+ * 정규화 이름이 비어 있는 태그를 ID 순으로 배치 단위로 읽어, 같은 정규화 이름의 태그가 이미 있으면
+ * {@link TagService#mergeGlobally}로 그 태그에 병합하고 없으면 정규화 이름을 채웁니다.
+ * 배치마다 별도 트랜잭션이므로 실패하면 이미 처리한 배치는 유지하고 다음 주기에 남은 태그부터 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class TagCanonicalizer {
+
+    private final TagRepository tagRepository;
+    private final TagService tagService;
+    private final TransactionTemplate batchTransaction;
+
+    @Value("${learnhub.tags.canonical.batch-size:500}")
+    private int batchSize;
+
+    // 모든 태그를 채운 뒤에는 새 태그가 항상 정규화 이름을 가지므로 다시 확인할 필요 없음
+    private volatile boolean completed;
+
+    public TagCanonicalizer(TagRepository tagRepository, TagService tagService,
+                            PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.tagService = tagService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(initialDelayString = "${learnhub.tags.canonical.initial-delay-ms:30000}",
+            fixedDelayString = "${learnhub.tags.canonical.retry-interval-ms:600000}")
+    public void canonicalizeExistingTags() {
+        if (completed) {
+            return;
+        }
+        long afterId = 0;
+        int filled = 0;
+        int merged = 0;
+        try {
+            while (true) {
+                long cursor = afterId;
+                BatchResult result = batchTransaction.execute(status -> processBatch(cursor));
+                if (result == null || result.lastId() == null) {
+                    break;
+                }
+                afterId = result.lastId();
+                filled += result.filled();
+                merged += result.merged();
+            }
+        } catch (RuntimeException e) {
+            // 동시에 생성된 같은 정규화 이름의 태그와 충돌한 경우 등 (다음 주기에 다시 시도)
+            log.warn("태그 정규화 이름 채우기 중단 (채움 {}개, 병합 {}개): {}", filled, merged, e.getMessage());
+            return;
+        }
+        completed = true;
+        if (filled > 0 || merged > 0) {
+            log.info("태그 정규화 이름 채우기 완료 (채움 {}개, 병합 {}개)", filled, merged);
+        }
+    }
+
+    private BatchResult processBatch(long afterId) {
+        List<Tag> batch = tagRepository.findUncanonicalized(afterId, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+
+        Map<String, Long> owners = new HashMap<>();
+        for (Tag tag : batch) {
+            owners.put(Tag.canonicalize(tag.getName()), null);
+        }
+        for (Tag owner : tagRepository.findByCanonicalNameIn(owners.keySet())) {
+            owners.put(owner.getCanonicalName(), owner.getId());
+        }
+
+        int filled = 0;
+        int merged = 0;
+        for (Tag tag : batch) {
+            String canonical = Tag.canonicalize(tag.getName());
+            Long ownerId = owners.get(canonical);
+            if (ownerId != null) {
+                tagService.mergeGlobally(tag.getId(), ownerId);
+                merged++;
+            } else {
+                tagRepository.updateCanonicalName(tag.getId(), canonical);
+                owners.put(canonical, tag.getId());
+                filled++;
+            }
+        }
+        return new BatchResult(batch.get(batch.size() - 1).getId(), filled, merged);
+    }
+
+    private record BatchResult(Long lastId, int filled, int merged) {
+    }
+}
@@ -1,23 +1,47 @@
 package org.example.learnhubproject.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.dto.response.TagCountResponse;
+import org.example.learnhubproject.dto.response.TagResponse;
 import org.example.learnhubproject.entity.Tag;
+import org.example.learnhubproject.event.BookmarkChangedEvent;
+import org.example.learnhubproject.repository.BookmarkTagRepository;
 import org.example.learnhubproject.repository.TagRepository;
+import org.example.learnhubproject.repository.projection.UserBookmarkRow;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TagService {
 
+    // 태그명 최대 길이 (TagRequest, BulkTagRequest 검증과 동일)
+    private static final int MAX_NAME_LENGTH = 30;
+
     private final TagRepository tagRepository;
+    private final BookmarkTagRepository bookmarkTagRepository;
+    private final TagUsageService tagUsageService;
+    private final UserTagCountCache userTagCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Tag create(String name) {
-        if (tagRepository.existsByName(name)) {
+        if (lookup(name).isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 태그입니다: " + name);
         }
 
@@ -30,7 +54,7 @@ public class TagService {
 
     @Transactional
     public Tag findOrCreate(String name) {
-        return tagRepository.findByName(name)
+        return lookup(name)
                 .orElseGet(() -> {
                     Tag tag = Tag.builder()
                             .name(name)
@@ -39,37 +63,183 @@ public class TagService {
                 });
     }
 
+    /**
+     * 이름 목록의 태그를 한 번에 조회하고, 없는 태그만 생성 (정규화 이름이 같은 이름은 하나로 취급)
+     */
+    @Transactional
+    public List<Tag> findOrCreateAll(Collection<String> names) {
+        Map<String, String> byCanonical = canonicalNames(names);
+        List<Tag> tags = lookupAll(byCanonical);
+        Set<String> existing = tags.stream()
+                .map(tag -> Tag.canonicalize(tag.getName()))
+                .collect(Collectors.toSet());
+        byCanonical.forEach((canonical, name) -> {
+            if (!existing.contains(canonical)) {
+                tags.add(tagRepository.save(Tag.builder().name(name).build()));
+            }
+        });
+        return tags;
+    }
+
+    /**
+     * 이름 목록 중 존재하는 태그만 조회
+     */
+    public List<Tag> findAllByNames(Collection<String> names) {
+        return lookupAll(canonicalNames(names));
+    }
+
     public Tag findById(Long id) {
         return tagRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다: " + id));
     }
 
     public Tag findByName(String name) {
-        return tagRepository.findByName(name)
+        return lookup(name)
                 .orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다: " + name));
     }
 
+    /**
+     * 정규화 이름으로 조회하고, 없으면 아직 정규화 이름을 채우지 않은 기존 태그를 이름으로 조회
+     */
+    private Optional<Tag> lookup(String name) {
+        return tagRepository.findByCanonicalName(Tag.canonicalize(name))
+                .or(() -> tagRepository.findByName(name));
+    }
+
+    private List<Tag> lookupAll(Map<String, String> byCanonical) {
+        List<Tag> tags = new ArrayList<>(tagRepository.findByCanonicalNameIn(byCanonical.keySet()));
+        Set<String> found = tags.stream().map(Tag::getCanonicalName).collect(Collectors.toSet());
+        List<String> rest = byCanonical.entrySet().stream()
+                .filter(entry -> !found.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (!rest.isEmpty()) {
+            tags.addAll(tagRepository.findByNameIn(rest));
+        }
+        return tags;
+    }
+
+    /**
+     * 정규화 이름 → 처음 나온 원래 이름
+     */
+    private static Map<String, String> canonicalNames(Collection<String> names) {
+        Map<String, String> byCanonical = new LinkedHashMap<>();
+        for (String name : names) {
+            byCanonical.putIfAbsent(Tag.canonicalize(name), name);
+        }
+        return byCanonical;
+    }
+
     public List<Tag> findAll() {
         return tagRepository.findAll();
     }
 
     /**
-     * 인기 태그 조회 (사용 빈도수 기준 내림차순)
+     * 인기 태그 상위 N개 조회 (tag_usage 카운터 기반 인메모리 순위)
      */
-    public List<Tag> findPopularTags() {
-        return tagRepository.findPopularTags();
+    public List<TagResponse> findTopPopularTags(int limit) {
+        return tagUsageService.findTop(limit);
     }
 
     /**
-     * 인기 태그 상위 N개 조회
+     * 내 북마크의 태그별 사용 횟수 (사용자별 캐시, 북마크/태그 변경 시 무효화)
      */
-    public List<Tag> findTopPopularTags(int limit) {
-        return tagRepository.findTopPopularTags(limit);
+    public List<TagCountResponse> findMine(Long userId) {
+        return userTagCountCache.get(userId, () -> tagRepository.findCountsByUserId(userId).stream()
+                .map(TagCountResponse::from)
+                .toList());
     }
 
+    /**
+     * 내 북마크에 달린 태그 이름 변경
+     * 태그는 모든 사용자가 공유하므로 태그 행은 그대로 두고, 내 연결만 새 이름의 태그(없으면 생성)로 옮깁니다
+     */
     @Transactional
-    public void delete(Long id) {
+    public TagResponse rename(Long userId, Long id, String name) {
+        String newName = name == null ? "" : name.trim();
+        if (newName.isEmpty() || newName.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("태그명은 1자 이상 " + MAX_NAME_LENGTH + "자 이하여야 합니다");
+        }
         Tag tag = findById(id);
-        tagRepository.delete(tag);
+        Tag target = findOrCreate(newName);
+        if (target.getId().equals(tag.getId())) {
+            // 정규화 이름이 같으면 이미 같은 태그 (표기만 다른 이름은 전역 태그이므로 바꾸지 않음)
+            return TagResponse.from(tag);
+        }
+        return merge(userId, List.of(id), target.getId());
+    }
+
+    /**
+     * 내 북마크에 달린 여러 태그를 대상 태그 하나로 병합
+     * bookmark_tags.tag_id를 사용자 북마크로 한정한 집합 단위 SQL로 옮기고, 대상 태그가 이미 달린 북마크의 원본 연결은 삭제합니다
+     * 원본 태그는 다른 사용자가 쓰고 있을 수 있으므로 삭제하지 않습니다
+     * 연결 엔티티는 읽지 않지만, 변경 이벤트를 위해 영향받은 내 북마크 ID는 조회하므로 비용은 내 연결 수에 비례합니다
+     */
+    @Transactional
+    public TagResponse merge(Long userId, Collection<Long> sourceIds, Long targetId) {
+        Tag target = findById(targetId);
+        Set<Long> sources = new LinkedHashSet<>(sourceIds);
+        sources.remove(targetId);
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("병합할 태그를 지정해주세요");
+        }
+        List<Long> found = tagRepository.findAllById(sources).stream().map(Tag::getId).toList();
+        if (found.size() != sources.size()) {
+            Long missing = sources.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new IllegalArgumentException("태그를 찾을 수 없습니다: " + missing);
+        }
+
+        List<Long> affected = bookmarkTagRepository.findBookmarkIdsByUserIdAndTagIdIn(userId, sources);
+        Map<Long, Long> deltas = new HashMap<>();
+        long moved = 0;
+        for (Long sourceId : sources) {
+            int duplicates = bookmarkTagRepository.deleteDuplicateUserLinks(userId, sourceId, targetId);
+            int movedLinks = bookmarkTagRepository.moveUserLinks(userId, sourceId, targetId);
+            moved += movedLinks;
+            deltas.put(sourceId, -(long) (duplicates + movedLinks));
+        }
+        deltas.put(targetId, moved);
+        tagUsageService.adjust(deltas);
+        if (!affected.isEmpty()) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, affected));
+        }
+        log.info("태그 병합 (사용자 {}, {} → {}, 옮긴 연결 {}개)", userId, sources, target.getName(), moved);
+        return TagResponse.from(target);
+    }
+
+    /**
+     * 중복 태그를 대상 태그로 전역 병합 (TagCanonicalizer 전용, 모든 사용자의 연결을 옮기고 원본 태그는 삭제)
+     * 대상 태그가 이미 달린 북마크의 원본 연결은 지우고, 원본 태그의 사용 횟수는 대상 태그로 옮깁니다
+     */
+    @Transactional
+    void mergeGlobally(Long sourceId, Long targetId) {
+        List<UserBookmarkRow> affected = bookmarkTagRepository.findUserBookmarksByTagId(sourceId);
+        int duplicates = bookmarkTagRepository.deleteDuplicateLinks(sourceId, targetId);
+        int moved = bookmarkTagRepository.moveLinks(sourceId, targetId);
+        tagUsageService.remove(sourceId, duplicates + moved);
+        tagUsageService.adjust(Map.of(targetId, (long) moved));
+        tagRepository.deleteTagById(sourceId);
+        publishBookmarkChanges(affected);
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        findById(id);
+        List<UserBookmarkRow> affected = bookmarkTagRepository.findUserBookmarksByTagId(id);
+        int removed = bookmarkTagRepository.deleteByTagId(id);
+        tagUsageService.remove(id, removed);
+        tagRepository.deleteTagById(id);
+        publishBookmarkChanges(affected);
+    }
+
+    /**
+     * 태그가 달려 있던 북마크를 사용자별로 모아 변경 이벤트 발행
+     */
+    private void publishBookmarkChanges(List<UserBookmarkRow> rows) {
+        rows.stream()
+                .collect(Collectors.groupingBy(UserBookmarkRow::userId,
+                        Collectors.mapping(UserBookmarkRow::bookmarkId, Collectors.toSet())))
+                .forEach((userId, bookmarkIds) ->
+                        eventPublisher.publishEvent(BookmarkChangedEvent.of(userId, bookmarkIds)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package org.example.learnhubproject.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.learnhubproject.dto.response.TagResponse;
+import org.example.learnhubproject.event.TagUsageChangedEvent;
+import org.example.learnhubproject.repository.TagUsageRepository;
+import org.example.learnhubproject.repository.projection.TagCountRow;
+import org.example.learnhubproject.repository.projection.TagUsageRow;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 사용 횟수 카운터와 인기 태그 순위
+ *
+ * BookmarkTag 추가/삭제와 같은 트랜잭션에서 tag_usage를 증감하고, 커밋 후 같은 증감을 인메모리 상위 K 순위에 반영합니다.
+ * 인기 태그 조회는 메모리 순위에서 바로 응답하고, 순위 밖 태그가 끼어들었을 수 있을 때만 인덱스 순서로 상위 K개를 다시 읽습니다.
+ * 서비스 밖 경로(사용자 삭제의 cascade 등)로 어긋난 카운터는 주기적인 재집계가 보정합니다.
+ */
+@Slf4j
+@Service
+public class TagUsageService {
+
+    // 인기 태그 조회 최대 개수 (메모리 순위는 그 두 배를 유지해 증감으로 순위가 바뀌어도 다시 읽는 일을 줄임)
+    public static final int MAX_POPULAR_LIMIT = 100;
+
+    private final TagUsageRepository tagUsageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final PopularTagTopK topK = new PopularTagTopK(MAX_POPULAR_LIMIT * 2);
+
+    public TagUsageService(TagUsageRepository tagUsageRepository, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.tagUsageRepository = tagUsageRepository;
+        this.eventPublisher = eventPublisher;
+        // 재집계 비교는 실제 횟수와 카운터를 같은 스냅샷에서 읽어야 보정량이 정확함
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 태그가 붙은 만큼 증가 (호출 측 트랜잭션에서 실행)
+     */
+    @Transactional
+    public void increment(Collection<Long> tagIds) {
+        record(tagIds.stream().collect(Collectors.groupingBy(id -> id, Collectors.counting())));
+    }
+
+    /**
+     * 태그가 떨어진 만큼 감소 (호출 측 트랜잭션에서 실행)
+     */
+    @Transactional
+    public void decrement(Collection<Long> tagIds) {
+        record(tagIds.stream().collect(Collectors.groupingBy(id -> id, Collectors.reducing(0L, id -> -1L, Long::sum))));
+    }
+
+    /**
+     * 태그별 증감을 한 번에 반영 (일괄 태그 작업, 호출 측 트랜잭션에서 실행)
+     */
+    @Transactional
+    public void adjust(Map<Long, Long> deltas) {
+        Map<Long, Long> changed = new HashMap<>(deltas);
+        changed.values().removeIf(delta -> delta == 0);
+        record(changed);
+    }
+
+    /**
+     * 삭제되는 태그의 카운터 제거
+     * @param usageCount 삭제 시점의 사용 횟수 (메모리 순위에서 빼기 위함)
+     */
+    @Transactional
+    public void remove(Long tagId, long usageCount) {
+        tagUsageRepository.deleteByTagId(tagId);
+        eventPublisher.publishEvent(new TagUsageChangedEvent(Map.of(tagId, -usageCount)));
+    }
+
+    /**
+     * 인기 태그 상위 limit개 (메모리 순위, 필요할 때만 DB에서 다시 읽음)
+     */
+    @Transactional(readOnly = true)
+    public List<TagResponse> findTop(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_POPULAR_LIMIT));
+        Optional<List<TagCountRow>> top = topK.top(size);
+        if (top.isEmpty()) {
+            topK.load(tagUsageRepository.findTop(Limit.of(topK.capacity())));
+            top = topK.top(size);
+        }
+        // 다시 읽은 직후에는 항상 정확하지만, 그 사이 다른 요청의 증감으로 다시 무효가 되면 DB 결과를 그대로 사용
+        return top.orElseGet(() -> tagUsageRepository.findTop(Limit.of(size))).stream()
+                .map(row -> TagResponse.builder().id(row.id()).name(row.name()).build())
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagUsageChanged(TagUsageChangedEvent event) {
+        topK.apply(event.deltas());
+    }
+
+    /**
+     * bookmark_tags 실제 횟수와 카운터를 같은 스냅샷에서 비교해, 어긋난 태그만 차이만큼 보정
+     * 보정은 덮어쓰기가 아니라 증감이므로 비교 이후에 커밋된 증감은 그대로 유지됩니다
+     */
+    @Scheduled(initialDelayString = "${learnhub.tags.usage.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${learnhub.tags.usage.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        Map<Long, Long> corrections = snapshotTransaction.execute(status -> {
+            Map<Long, Long> diff = new HashMap<>();
+            for (TagUsageRow row : tagUsageRepository.countActualUsage()) {
+                diff.put(row.getTagId(), row.getCnt());
+            }
+            for (TagUsageRow row : tagUsageRepository.findAllCounts()) {
+                diff.merge(row.getTagId(), -row.getCnt(), Long::sum);
+            }
+            diff.values().removeIf(delta -> delta == 0);
+            return diff;
+        });
+
+        int orphans = writeTransaction.execute(status -> {
+            corrections.forEach(tagUsageRepository::addUsage);
+            return tagUsageRepository.deleteOrphans();
+        });
+        if (!corrections.isEmpty() || orphans > 0) {
+            log.info("태그 사용 횟수 재집계 (보정 {}개, 삭제된 태그 {}개)", corrections.size(), orphans);
+            topK.invalidate();
+        }
+    }
+
+    private void record(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.forEach(tagUsageRepository::addUsage);
+        eventPublisher.publishEvent(new TagUsageChangedEvent(deltas));
+    }
+}
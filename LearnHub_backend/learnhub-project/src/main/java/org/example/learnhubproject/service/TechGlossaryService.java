@@ -1,27 +1,55 @@
 package org.example.learnhubproject.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.learnhubproject.entity.TechTerm;
+import org.example.learnhubproject.event.GlossaryChangedEvent;
 import org.example.learnhubproject.repository.TechTermRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class TechGlossaryService {
 
     private final TechTermRepository techTermRepository;
     private final AIAnalysisService aiAnalysisService;
+    private final AsyncTaskExecutor blockingIoExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    // AI 응답을 받은 뒤 저장만 하는 짧은 트랜잭션
+    private final TransactionTemplate writeTransaction;
+
+    public TechGlossaryService(
+            TechTermRepository techTermRepository,
+            AIAnalysisService aiAnalysisService,
+            @Qualifier("blockingIoExecutor") AsyncTaskExecutor blockingIoExecutor,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.techTermRepository = techTermRepository;
+        this.aiAnalysisService = aiAnalysisService;
+        this.blockingIoExecutor = blockingIoExecutor;
+        this.eventPublisher = eventPublisher;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 기술 용어 정의 조회 (캐시 우선, 없으면 AI 생성)
+     * AI 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고, 저장만 짧은 트랜잭션으로 처리
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String getTermDefinition(String termName) {
         log.info("기술 용어 정의 조회: {}", termName);
 
@@ -37,32 +65,66 @@ public class TechGlossaryService {
         String definition = aiAnalysisService.generateTermDefinition(termName);
 
         // 3차: DB에 캐싱
+        writeTransaction.executeWithoutResult(status -> cacheDefinition(termName, definition));
+
+        log.info("기술 용어 정의 생성 및 캐싱 완료: {}", termName);
+        return definition;
+    }
+
+    private void cacheDefinition(String termName, String definition) {
         TechTerm techTerm = TechTerm.builder()
                 .name(termName)
                 .definition(definition)
                 .category(inferCategory(termName))
                 .build();
         techTermRepository.save(techTerm);
-
-        log.info("기술 용어 정의 생성 및 캐싱 완료: {}", termName);
-        return definition;
+        eventPublisher.publishEvent(new GlossaryChangedEvent());
     }
 
     /**
      * 텍스트에서 기술 용어 추출 및 정의 조회
+     * AI 호출(추출, 정의 생성)은 모두 트랜잭션 밖에서 마친 뒤, 새 정의만 짧은 트랜잭션 하나로 저장
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TechTermInfo> extractAndDefineTerms(String text) {
         log.info("텍스트에서 기술 용어 추출 시작");
 
         // AI로 기술 용어 추출
         List<String> terms = aiAnalysisService.extractTechTerms(text);
 
-        // 각 용어의 정의 조회
+        // 캐시된 정의는 바로 사용하고, 캐시에 없는 용어만 AI 정의 생성을 병렬로 요청
+        // (용어 수만큼 Gemini 호출이 직렬로 대기하지 않도록 blockingIoExecutor에서 실행)
+        Map<String, String> definitions = new HashMap<>();
+        Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
+        for (String term : terms) {
+            String key = term.toLowerCase();
+            if (definitions.containsKey(key) || pending.containsKey(key)) {
+                continue;
+            }
+            Optional<TechTerm> cached = techTermRepository.findByNameIgnoreCase(term);
+            if (cached.isPresent()) {
+                definitions.put(key, cached.get().getDefinition());
+            } else {
+                pending.put(key, CompletableFuture.supplyAsync(
+                        () -> aiAnalysisService.generateTermDefinition(term), blockingIoExecutor));
+            }
+        }
+
+        // 모든 AI 응답을 기다린 뒤 DB 커넥션을 잡고 한 번에 저장
+        Map<String, String> generated = new LinkedHashMap<>();
+        for (String term : terms) {
+            CompletableFuture<String> future = pending.remove(term.toLowerCase());
+            if (future != null) {
+                generated.put(term, future.join());
+            }
+        }
+        if (!generated.isEmpty()) {
+            writeTransaction.executeWithoutResult(status -> generated.forEach(this::cacheDefinition));
+            generated.forEach((term, definition) -> definitions.put(term.toLowerCase(), definition));
+        }
+
         List<TechTermInfo> termInfos = terms.stream()
-                .map(term -> {
-                    String definition = getTermDefinition(term);
-                    return new TechTermInfo(term, definition);
-                })
+                .map(term -> new TechTermInfo(term, definitions.get(term.toLowerCase())))
                 .toList();
 
         log.info("기술 용어 추출 및 정의 조회 완료: {} 개", termInfos.size());
@@ -101,7 +163,9 @@ public class TechGlossaryService {
                 .category(category)
                 .build();
 
-        return techTermRepository.save(techTerm);
+        TechTerm saved = techTermRepository.save(techTerm);
+        eventPublisher.publishEvent(new GlossaryChangedEvent());
+        return saved;
     }
 
     /**
@@ -119,6 +183,7 @@ public class TechGlossaryService {
      */
     public void deleteTerm(Long id) {
         techTermRepository.deleteById(id);
+        eventPublisher.publishEvent(new GlossaryChangedEvent());
     }
 
     /**
@@ -0,0 +1,26 @@
+package org.example.learnhubproject.service;
+
+import org.example.learnhubproject.dto.response.CategoryCountResponse;
+import org.example.learnhubproject.event.CategoryChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 사용자별 카테고리 목록(북마크 수, 최근 북마크 시각 포함) 캐시
+ * 북마크 생성/이동/삭제와 카테고리 생성/수정/삭제 시 무효화
+ */
+@Component
+public class UserCategoryCountCache extends PerUserCache<List<CategoryCountResponse>> {
+
+    public UserCategoryCountCache(@Value("${learnhub.categories.max-users:10000}") int maxUsers) {
+        super(maxUsers);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate(event.userId());
+    }
+}
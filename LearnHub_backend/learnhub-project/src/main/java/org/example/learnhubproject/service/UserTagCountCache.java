@@ -0,0 +1,18 @@
+package org.example.learnhubproject.service;
+
+import org.example.learnhubproject.dto.response.TagCountResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 태그 사용 횟수 캐시 (북마크/태그 변경 시 무효화)
+ */
+@Component
+public class UserTagCountCache extends PerUserCache<List<TagCountResponse>> {
+
+    public UserTagCountCache(@Value("${learnhub.tags.mine.max-users:10000}") int maxUsers) {
+        super(maxUsers);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.learnhubproject.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 태그/카테고리 이름 비교용 정규화 (NFKC + 소문자)
+ *
+ * 엔티티의 정규화 이름과 검색 색인/질의가 같은 규칙을 쓰도록 한 곳에 둡니다.
+ */
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    public static String normalize(String name) {
+        String trimmed = name.trim();
+        if (!Normalizer.isNormalized(trimmed, Normalizer.Form.NFKC)) {
+            trimmed = Normalizer.normalize(trimmed, Normalizer.Form.NFKC);
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,81 @@
+-- 초기 스키마 (기존 ddl-auto=update로 생성된 스키마와 동일)
+-- 기존 DB는 baseline-on-migrate로 V1을 건너뛰고 V2부터 적용됨
+
+CREATE TABLE users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE categories (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    is_default BOOLEAN      NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_categories_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE bookmarks (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT        NOT NULL,
+    category_id      BIGINT        NOT NULL,
+    url              VARCHAR(255)  NOT NULL,
+    title            VARCHAR(255),
+    description      VARCHAR(1000),
+    s3_thumbnail_url VARCHAR(255),
+    image_url        VARCHAR(2048),
+    meta_title       VARCHAR(500),
+    meta_description VARCHAR(1000),
+    created_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_bookmarks_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookmarks_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE tags (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tags_name UNIQUE (name)
+);
+
+CREATE TABLE bookmark_tags (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    bookmark_id BIGINT NOT NULL,
+    tag_id      BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_bookmark_tags_bookmark_tag UNIQUE (bookmark_id, tag_id),
+    CONSTRAINT fk_bookmark_tags_bookmark FOREIGN KEY (bookmark_id) REFERENCES bookmarks (id),
+    CONSTRAINT fk_bookmark_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+);
+
+CREATE TABLE review_logs (
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    bookmark_id      BIGINT NOT NULL,
+    user_id          BIGINT NOT NULL,
+    review_count     INT    NOT NULL,
+    last_reviewed_at DATETIME(6),
+    next_review_at   DATETIME(6),
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_review_logs_bookmark FOREIGN KEY (bookmark_id) REFERENCES bookmarks (id),
+    CONSTRAINT fk_review_logs_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE tech_terms (
+    id         BIGINT        NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(100)  NOT NULL,
+    definition VARCHAR(2000) NOT NULL,
+    category   VARCHAR(50),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tech_terms_name UNIQUE (name)
+);
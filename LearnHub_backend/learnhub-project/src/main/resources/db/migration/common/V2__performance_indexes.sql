@@ -0,0 +1,17 @@
+-- 목록 정렬/필터용 복합 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 ORDER BY created_at, id 도 인덱스 순서로 처리됨
+
+-- 최신순/오래된순 목록, keyset 페이지네이션
+CREATE INDEX idx_bookmarks_user_created ON bookmarks (user_id, created_at);
+
+-- 제목순 목록
+CREATE INDEX idx_bookmarks_user_title ON bookmarks (user_id, title);
+
+-- 카테고리별 목록, 카테고리 삭제 시 북마크 이동
+CREATE INDEX idx_bookmarks_category ON bookmarks (category_id);
+
+-- 오늘 복습할 항목 (next_review_at <= now)
+CREATE INDEX idx_review_logs_user_next_review ON review_logs (user_id, next_review_at);
+
+-- 기간별 복습 완료 수 (연속 복습 일수, 주간 통계)
+CREATE INDEX idx_review_logs_user_last_reviewed ON review_logs (user_id, last_reviewed_at);
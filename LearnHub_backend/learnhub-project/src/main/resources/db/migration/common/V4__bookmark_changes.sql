@@ -0,0 +1,15 @@
+-- 북마크 변경 로그 (검색 색인 스냅샷 복원 후 스냅샷 이후 변경분만 다시 읽기 위함)
+-- 삭제된 북마크도 기록하므로 FK 없음, 보존 기간이 지난 행은 스냅샷 작업에서 삭제
+CREATE TABLE bookmark_changes (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT      NOT NULL,
+    bookmark_id BIGINT      NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 사용자별 스냅샷 이후 변경 조회
+CREATE INDEX idx_bookmark_changes_user_changed ON bookmark_changes (user_id, changed_at);
+
+-- 보존 기간 지난 행 삭제
+CREATE INDEX idx_bookmark_changes_changed ON bookmark_changes (changed_at);
@@ -0,0 +1,14 @@
+-- 태그별 사용 횟수 카운터 (인기 태그 조회 시 bookmark_tags 전체 GROUP BY 대신 사용)
+-- BookmarkTag 추가/삭제와 같은 트랜잭션에서 증감하고, 주기적인 재집계로 어긋난 값을 보정
+-- 태그 삭제 시 서비스에서 함께 삭제하므로 FK 없음
+CREATE TABLE tag_usage (
+    tag_id      BIGINT NOT NULL,
+    usage_count BIGINT NOT NULL,
+    PRIMARY KEY (tag_id)
+);
+
+-- 인기순 상위 N개 (ORDER BY usage_count DESC LIMIT N)
+CREATE INDEX idx_tag_usage_count ON tag_usage (usage_count);
+
+INSERT INTO tag_usage (tag_id, usage_count)
+SELECT tag_id, COUNT(*) FROM bookmark_tags GROUP BY tag_id;
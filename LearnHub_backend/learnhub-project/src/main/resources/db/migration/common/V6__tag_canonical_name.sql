@@ -0,0 +1,6 @@
+-- 태그 정규화 이름 (NFKC + 소문자, SearchQuery.normalizeName과 동일): "Java", "java", "Ｊａｖａ"를 같은 태그로 취급
+-- 새 태그와 이름 변경은 엔티티에서 채우고, 기존 태그는 TagCanonicalizer가 배치 단위로 채우면서 중복 태그를 병합
+-- 아직 채우지 않은 행(NULL)끼리는 유니크 인덱스에서 충돌하지 않음
+ALTER TABLE tags ADD COLUMN canonical_name VARCHAR(255);
+
+CREATE UNIQUE INDEX uk_tags_canonical_name ON tags (canonical_name);
@@ -0,0 +1,3 @@
+-- H2는 FULLTEXT 인덱스를 지원하지 않으므로 MySQL V3에 대응하는 변경 없음
+-- (fulltext 백엔드는 H2에서 BookmarkRepository.findTextCandidateIds로 후보를 조회)
+SELECT 1;
@@ -0,0 +1,4 @@
+-- MySQL V7과 동일 (H2는 DROP INDEX에 테이블명을 쓰지 않음)
+CREATE INDEX idx_bookmarks_category_created ON bookmarks (category_id, created_at);
+
+DROP INDEX idx_bookmarks_category;
@@ -0,0 +1,7 @@
+-- 검색 백엔드 fulltext용 FULLTEXT 인덱스 (ngram 파서, 한글/영문 부분 문자열 검색)
+-- 기본 불용어(in, at, of 등)가 bigram과 겹쳐 검색이 누락되지 않도록 불용어 없이 생성
+-- (불용어 설정은 인덱스 생성 시점에 고정됨)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE bookmarks
+    ADD FULLTEXT INDEX ft_bookmarks_text (title, description, meta_title, meta_description, url) WITH PARSER ngram;
@@ -0,0 +1,5 @@
+-- 카테고리별 북마크 수/최근 북마크 시각(COUNT, MAX(created_at) GROUP BY category_id)을 인덱스만으로 계산
+-- (category_id, created_at)이 FK와 카테고리별 목록도 처리하므로 기존 단일 컬럼 인덱스는 삭제
+CREATE INDEX idx_bookmarks_category_created ON bookmarks (category_id, created_at);
+
+DROP INDEX idx_bookmarks_category ON bookmarks;
@@ -0,0 +1,67 @@
+package org.example.learnhubproject.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정렬/필터 쿼리가 Flyway로 생성한 복합 인덱스를 사용하는지 H2 EXPLAIN으로 검증
+ */
+@SpringBootTest
+@DisplayName("인덱스 사용 EXPLAIN 테스트")
+class BookmarkIndexExplainTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("최신순 keyset 조회는 (user_id, created_at) 인덱스 사용")
+    void latestKeyset_UsesUserCreatedIndex() {
+        String plan = explain("SELECT b.id FROM bookmarks b " +
+                "WHERE b.user_id = 1 " +
+                "AND (b.created_at < TIMESTAMP '2025-01-01 00:00:00' " +
+                "OR (b.created_at = TIMESTAMP '2025-01-01 00:00:00' AND b.id < 100)) " +
+                "ORDER BY b.created_at DESC, b.id DESC LIMIT 21");
+
+        assertThat(plan).containsIgnoringCase("idx_bookmarks_user_created");
+    }
+
+    @Test
+    @DisplayName("제목순 keyset 조회는 (user_id, title) 인덱스 사용")
+    void titleKeyset_UsesUserTitleIndex() {
+        String plan = explain("SELECT b.id FROM bookmarks b " +
+                "WHERE b.user_id = 1 AND b.title > 'Spring' " +
+                "ORDER BY b.title ASC, b.id ASC LIMIT 21");
+
+        assertThat(plan).containsIgnoringCase("idx_bookmarks_user_title");
+    }
+
+    @Test
+    @DisplayName("오늘 복습 조회는 (user_id, next_review_at) 인덱스 사용")
+    void dueReviews_UsesNextReviewIndex() {
+        String plan = explain("SELECT rl.id FROM review_logs rl " +
+                "WHERE rl.user_id = 1 AND rl.next_review_at <= TIMESTAMP '2025-01-01 00:00:00' " +
+                "ORDER BY rl.next_review_at ASC");
+
+        assertThat(plan).containsIgnoringCase("idx_review_logs_user_next_review");
+    }
+
+    @Test
+    @DisplayName("기간별 복습 완료 수 조회는 (user_id, last_reviewed_at) 인덱스 사용")
+    void reviewedBetween_UsesLastReviewedIndex() {
+        String plan = explain("SELECT COUNT(rl.id) FROM review_logs rl " +
+                "WHERE rl.user_id = 1 " +
+                "AND rl.last_reviewed_at >= TIMESTAMP '2025-01-01 00:00:00' " +
+                "AND rl.last_reviewed_at < TIMESTAMP '2025-01-02 00:00:00'");
+
+        assertThat(plan).containsIgnoringCase("idx_review_logs_user_last_reviewed");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.dto.response.BookmarkResponse;
+import org.example.learnhubproject.dto.response.FacetResponse;
+import org.example.learnhubproject.entity.Bookmark;
+import org.example.learnhubproject.entity.Category;
+import org.example.learnhubproject.entity.User;
+import org.example.learnhubproject.repository.BookmarkRepository;
+import org.example.learnhubproject.repository.CategoryRepository;
+import org.example.learnhubproject.repository.UserRepository;
+import org.example.learnhubproject.service.BookmarkService;
+import org.example.learnhubproject.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 역색인 테스트
+ * 커밋 이후 이벤트로 색인이 갱신되는지 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다
+ */
+@SpringBootTest
+@DisplayName("인메모리 검색 색인 테스트")
+class BookmarkSearchIndexTest {
+
+    @Autowired
+    private BookmarkSearchIndex bookmarkSearchIndex;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    private User testUser;
+    private Category testCategory;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("search-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .role("USER")
+                .build());
+        testCategory = categoryRepository.save(Category.builder()
+                .user(testUser)
+                .name("검색 테스트")
+                .isDefault(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookmarkSearchIndex.evict(testUser.getId());
+        userService.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("제목/태그/URL 경로 토큰을 접두어로 검색 (최신순)")
+    void search_MatchesFieldsByPrefix() {
+        // given
+        Bookmark spring = create("https://spring.io/guides/rest-service", "Spring REST Guide", List.of("Java"));
+        Bookmark k8s = create("https://example.com/k8s", "Kubernetes 입문", List.of("DevOps", "Spring"));
+        create("https://example.com/react", "React Hooks", List.of("Frontend"));
+
+        // when & then
+        assertThat(search("spring")).containsExactly(k8s.getId(), spring.getId());
+        assertThat(search("kube")).containsExactly(k8s.getId());
+        assertThat(search("rest service")).containsExactly(spring.getId());
+        assertThat(search("spring devops")).containsExactly(k8s.getId());
+        assertThat(search("angular")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("생성/수정/태그 변경/삭제가 커밋 후 색인에 반영")
+    void search_ReflectsCommittedChanges() {
+        // given - 색인 생성
+        Bookmark bookmark = create("https://example.com/a", "Hibernate 튜닝", List.of());
+        assertThat(search("hibernate")).containsExactly(bookmark.getId());
+
+        // when & then - 생성
+        Bookmark added = create("https://example.com/b", "Hibernate 캐시", List.of());
+        assertThat(search("hibernate")).containsExactly(added.getId(), bookmark.getId());
+
+        // 수정
+        bookmarkService.update(bookmark.getId(), testUser.getId(), null, "JPA 튜닝", null,
+                null, null, null, null, null, false);
+        assertThat(search("hibernate")).containsExactly(added.getId());
+        assertThat(search("jpa")).containsExactly(bookmark.getId());
+
+        // 태그 추가
+        bookmarkService.addTag(bookmark.getId(), testUser.getId(), "Performance");
+        assertThat(search("performance")).containsExactly(bookmark.getId());
+
+        // 삭제
+        bookmarkService.delete(added.getId(), testUser.getId());
+        assertThat(search("hibernate")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관련도순 검색: 태그/제목 일치가 설명 일치보다 앞서고 요청 구간만 반환")
+    void searchTop_RanksByFieldBoost() {
+        // given - 설명에만 등장하는 북마크를 가장 최근에 생성
+        Bookmark tagged = create("https://example.com/a", "Hooks 정리", List.of("GraphQL"));
+        Bookmark titled = create("https://example.com/b", "GraphQL 스키마 설계", List.of());
+        Bookmark described = bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example.com/c", "API 설계 메모", "REST와 GraphQL 비교", null, List.of());
+
+        // when
+        SearchPage all = bookmarkSearchIndex.searchTop(testUser.getId(), "graphql", 0, 10);
+        SearchPage second = bookmarkSearchIndex.searchTop(testUser.getId(), "graphql", 1, 1);
+
+        // then
+        assertThat(all.totalHits()).isEqualTo(3);
+        assertThat(all.hits()).extracting(SearchHit::bookmarkId)
+                .containsExactly(tagged.getId(), titled.getId(), described.getId());
+        assertThat(all.hits().get(0).score()).isGreaterThan(all.hits().get(2).score());
+        assertThat(second.totalHits()).isEqualTo(3);
+        assertThat(second.hits()).extracting(SearchHit::bookmarkId).containsExactly(titled.getId());
+    }
+
+    @Test
+    @DisplayName("정확 일치가 적으면 오타를 교정해 검색 (영문 철자, 한글 자모)")
+    void searchTop_CorrectsTypos() {
+        // given
+        Bookmark kubernetes = create("https://kubernetes.io/docs", "Kubernetes 문서", List.of("DevOps"));
+        Bookmark spring = create("https://example.com/spring", "스프링 입문", List.of("Spring"));
+
+        // when & then
+        assertThat(searchTop("kuberentes")).containsExactly(kubernetes.getId());
+        assertThat(searchTop("sprng")).containsExactly(spring.getId());
+        assertThat(searchTop("스푸링")).containsExactly(spring.getId());
+        assertThat(searchTop("kuberentes 문서")).containsExactly(kubernetes.getId());
+        assertThat(searchTop("zzzzzzzz")).isEmpty();
+        // 교정은 관련도순 검색에만 적용 (search는 백엔드 간 동일한 정확 일치 결과 유지)
+        assertThat(search("sprng")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("패싯 집계: 색인 BitSet 집계와 DB 집계 쿼리 결과가 같음")
+    void facets_MatchDatabaseAggregate() {
+        // given
+        Bookmark spring = create("https://example.com/a", "Spring 입문", List.of("Java", "Spring"));
+        create("https://example.com/b", "JPA 튜닝", List.of("Java"));
+        create("https://example.com/c", "React Hooks", List.of("Frontend"));
+        Map<Long, String> categoryNames = Map.of(testCategory.getId(), testCategory.getName());
+        bookmarkSearchIndex.search(testUser.getId(), "spring");
+
+        // when
+        FacetResponse fromIndex = FacetResponse.from(
+                bookmarkSearchIndex.facetsIfWarm(testUser.getId()).orElseThrow(), categoryNames);
+        FacetResponse fromDatabase = FacetResponse.from(bookmarkRepository.findFacetsByUserId(testUser.getId()));
+        FacetResponse searched = FacetResponse.from(
+                bookmarkSearchIndex.facets(testUser.getId(), List.of(spring.getId())), categoryNames);
+
+        // then
+        assertThat(fromIndex).isEqualTo(fromDatabase);
+        assertThat(fromIndex.getTags()).extracting(FacetResponse.FacetCount::getName)
+                .containsExactly("Java", "Frontend", "Spring");
+        assertThat(fromIndex.getCategories()).singleElement()
+                .extracting(FacetResponse.FacetCount::getCount).isEqualTo(3L);
+        assertThat(fromIndex.getMonths()).singleElement()
+                .extracting(FacetResponse.FacetCount::getCount).isEqualTo(3L);
+        assertThat(searched.getTags()).extracting(FacetResponse.FacetCount::getName)
+                .containsExactly("Java", "Spring");
+    }
+
+    @Test
+    @DisplayName("하이라이트: 저장된 토큰 위치로 제목/설명 구간과 스니펫 생성")
+    void highlights_UseStoredPositions() {
+        // given
+        String description = "배경 설명 ".repeat(30) + "스프링을 이용한 REST API 설계";
+        Bookmark bookmark = bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example.com/a", "Spring 스프링 입문", description, null, List.of());
+
+        // when
+        Highlight highlight = bookmarkSearchIndex.highlights(testUser.getId(), "스프링 rest", List.of(bookmark.getId()))
+                .get(bookmark.getId());
+        Highlighter.Snippet snippet = Highlighter.snippet(description, highlight.description());
+
+        // then - 한글 bigram 구간은 병합되고, 설명 뒷부분의 일치가 스니펫에 포함됨
+        assertThat(highlight.title()).containsExactly(new Highlight.Span(7, 10));
+        assertThat(highlight).isEqualTo(Highlighter.analyze("Spring 스프링 입문", description,
+                Highlighter.queryTokens("스프링 rest")));
+        assertThat(snippet.text()).startsWith("…").contains("스프링을 이용한 REST");
+        assertThat(snippet.highlights()).extracting(span -> snippet.text().substring(span.start(), span.end()))
+                .containsExactly("스프링", "REST");
+    }
+
+    @Test
+    @DisplayName("관련 북마크: 태그/제목이 많이 겹치는 순, 태그 변경 후 갱신")
+    void related_FollowsTagOverlap() {
+        // given
+        Bookmark base = create("https://example.com/a", "JPA 성능 튜닝", List.of("JPA", "Hibernate", "Performance"));
+        Bookmark close = create("https://example.com/b", "JPA 성능 튜닝 사례", List.of("JPA", "Hibernate", "Performance"));
+        Bookmark unrelated = create("https://example.com/c", "React Hooks", List.of("Frontend"));
+
+        // when & then
+        assertThat(related(base)).containsExactly(close.getId());
+        assertThat(related(unrelated)).isEmpty();
+
+        bookmarkService.addTag(unrelated.getId(), testUser.getId(), "JPA");
+        bookmarkService.update(unrelated.getId(), testUser.getId(), null, "JPA 성능 튜닝 정리", null,
+                null, null, null, null, null, false);
+        bookmarkService.addTag(unrelated.getId(), testUser.getId(), "Hibernate");
+        bookmarkService.addTag(unrelated.getId(), testUser.getId(), "Performance");
+        assertThat(related(base)).contains(close.getId(), unrelated.getId());
+    }
+
+    private List<Long> related(Bookmark bookmark) {
+        return bookmarkService.findRelated(bookmark.getId(), testUser.getId(), 5).stream()
+                .map(BookmarkResponse::getId)
+                .toList();
+    }
+
+    private List<Long> searchTop(String keyword) {
+        return bookmarkSearchIndex.searchTop(testUser.getId(), keyword, 0, 10).hits().stream()
+                .map(SearchHit::bookmarkId)
+                .toList();
+    }
+
+    private Bookmark create(String url, String title, List<String> tags) {
+        return bookmarkService.create(testUser.getId(), testCategory.getId(), url, title, null, null, tags);
+    }
+
+    private List<Long> search(String keyword) {
+        return bookmarkSearchIndex.search(testUser.getId(), keyword);
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.learnhubproject.search;
+
+import org.example.learnhubproject.entity.Bookmark;
+import org.example.learnhubproject.entity.Category;
+import org.example.learnhubproject.entity.User;
+import org.example.learnhubproject.repository.BookmarkRepository;
+import org.example.learnhubproject.repository.CategoryRepository;
+import org.example.learnhubproject.repository.UserRepository;
+import org.example.learnhubproject.service.BookmarkService;
+import org.example.learnhubproject.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 백엔드(memory, fulltext) 결과 일치 테스트
+ * H2에서는 fulltext 백엔드가 LIKE 후보 조회로 동작하며, 후보 검증 규칙은 MySQL과 동일합니다
+ */
+@SpringBootTest
+@DisplayName("검색 백엔드 결과 일치 테스트")
+class SearchBackendConsistencyTest {
+
+    @Autowired
+    private BookmarkSearchIndex memoryBackend;
+
+    @Autowired
+    private FulltextSearchBackend fulltextBackend;
+
+    @Autowired
+    private LikeSearchBackend likeBackend;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("consistency-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .role("USER")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .user(testUser)
+                .name("일치 테스트")
+                .isDefault(false)
+                .build());
+
+        create(category, "https://spring.io/guides/gs/rest-service", "Building a RESTful Web Service",
+                "Spring Boot로 REST API 만들기", List.of("Spring", "Java"));
+        create(category, "https://docs.spring.io/spring-data/jpa", "Spring Data JPA 레퍼런스",
+                "Repository 추상화와 쿼리 메서드", List.of("JPA"));
+        create(category, "https://kubernetes.io/docs/home", "Kubernetes 문서",
+                "컨테이너 오케스트레이션", List.of("DevOps", "k8s"));
+        create(category, "https://react.dev/learn", "React 배우기",
+                "Thinking in React", List.of("Frontend"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memoryBackend.evict(testUser.getId());
+        userService.delete(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("동일한 질의에 대해 memory/fulltext 백엔드가 같은 결과를 같은 순서로 반환")
+    void backends_ReturnSameResults() {
+        List<String> queries = List.of(
+                "spring", "Spring Boot", "jpa", "rest", "rest service", "gs", "kube", "k8s",
+                "devops", "컨테이너", "문서", "react", "in", "r", "docs spring", "#Java",
+                "restful web", "angular", "spring react", "레퍼런스 jpa",
+                "tag:spring", "tag:java spring", "tag:jpa tag:java", "category:\"일치 테스트\" jpa",
+                "category:없음", "after:2000 react", "before:2000", "\"rest api\"", "\"restful web\" tag:spring",
+                "\"api 만들기 spring\"");
+
+        for (String query : queries) {
+            List<Long> memory = memoryBackend.search(testUser.getId(), query);
+            List<Long> fulltext = fulltextBackend.search(testUser.getId(), query);
+            assertThat(fulltext).as(query).containsExactlyElementsOf(memory);
+        }
+
+        assertThat(memoryBackend.search(testUser.getId(), "spring")).hasSize(2);
+        assertThat(memoryBackend.search(testUser.getId(), "angular")).isEmpty();
+        assertThat(memoryBackend.search(testUser.getId(), "tag:spring")).hasSize(1);
+        assertThat(memoryBackend.search(testUser.getId(), "\"rest api\"")).hasSize(1);
+        assertThat(memoryBackend.search(testUser.getId(), "after:2000")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("커서 페이지(searchAfter)를 끝까지 넘기면 모든 백엔드가 최신순 전체 결과와 같은 목록을 반환")
+    void searchAfter_PagesThroughLatestResults() {
+        for (String query : List.of("spring", "docs", "tag:spring", "after:2000")) {
+            List<Long> expected = fulltextBackend.search(testUser.getId(), query);
+            for (BookmarkSearchBackend backend : List.of(memoryBackend, fulltextBackend, likeBackend)) {
+                assertThat(pageThrough(backend, query)).as(query).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    private List<Long> pageThrough(BookmarkSearchBackend backend, String query) {
+        List<Long> all = new ArrayList<>();
+        LocalDateTime createdAt = null;
+        Long id = null;
+        while (true) {
+            List<Long> page = backend.searchAfter(testUser.getId(), query, createdAt, id, 1);
+            if (page.isEmpty()) {
+                return all;
+            }
+            all.addAll(page);
+            Bookmark last = bookmarkRepository.findById(page.get(0)).orElseThrow();
+            createdAt = last.getCreatedAt();
+            id = last.getId();
+        }
+    }
+
+    private void create(Category category, String url, String title, String description, List<String> tags) {
+        bookmarkService.create(testUser.getId(), category.getId(), url, title, description, null, tags);
+    }
+}
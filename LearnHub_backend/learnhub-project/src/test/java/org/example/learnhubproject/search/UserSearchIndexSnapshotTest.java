@@ -0,0 +1,83 @@
+package org.example.learnhubproject.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 색인 스냅샷 테스트")
+class UserSearchIndexSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("매핑한 스냅샷으로 복원한 색인의 검색/랭킹/패싯/하이라이트가 원본과 같고, 이후 변경도 반영")
+    void restore_MatchesOriginalAndAcceptsChanges() throws IOException {
+        // given - 삭제 표시된 문서가 있는 색인
+        UserSearchIndex original = new UserSearchIndex(1L);
+        original.build(List.of(
+                document(1L, 10L, "Spring Boot 시작하기", "스프링 부트 설정 정리", List.of("Spring", "Java")),
+                document(2L, 10L, "JPA 성능 튜닝", "N+1 문제와 fetch join", List.of("JPA", "Spring")),
+                document(3L, 20L, "React Hooks", "useEffect 정리", List.of("React")),
+                document(4L, 20L, "삭제될 북마크", "spring", List.of("Spring"))));
+        original.apply(Set.of(4L), List.of());
+
+        // when
+        UserSearchIndex restored = restore(original);
+
+        // then
+        for (String keyword : List.of("spring", "정리", "jpa", "스프")) {
+            List<String> tokens = SearchTokenizer.tokenizeQuery(keyword);
+            assertThat(restored.search(tokens)).isEqualTo(original.search(tokens));
+            assertThat(restored.rankedSearch(tokens, 0, 10, NOW)).isEqualTo(original.rankedSearch(tokens, 0, 10, NOW));
+            assertThat(restored.highlights(Highlighter.queryTokens(keyword), List.of(1L, 2L, 3L)))
+                    .isEqualTo(original.highlights(Highlighter.queryTokens(keyword), List.of(1L, 2L, 3L)));
+        }
+        assertThat(restored.facets(null)).isEqualTo(original.facets(null));
+        assertThat(restored.search(SearchTokenizer.tokenizeQuery("삭제될"))).isEmpty();
+
+        // 복원된(매핑된) 포스팅에 문서 추가/삭제
+        restored.apply(Set.of(1L, 5L), List.of(
+                document(5L, 10L, "Spring Security", "인증 정리", List.of("Spring"))));
+        assertThat(restored.search(SearchTokenizer.tokenizeQuery("spring"))).containsExactly(2L, 5L);
+        assertThat(restored.hasUnsavedChanges()).isTrue();
+    }
+
+    private UserSearchIndex restore(UserSearchIndex index) throws IOException {
+        Path file = directory.resolve("user-1.snapshot");
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(stream)) {
+            index.snapshotSaved(index.writeSnapshot(out));
+        }
+        assertThat(index.hasUnsavedChanges()).isFalse();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            UserSearchIndex restored = new UserSearchIndex(1L);
+            restored.restore(buffer);
+            return restored;
+        }
+    }
+
+    private static SearchDocument document(Long id, Long categoryId, String title, String description,
+                                           List<String> tags) {
+        return new SearchDocument(id, NOW.minusDays(id), categoryId, title, description, null, null,
+                "https://example.com/" + id, tags);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.learnhubproject.search.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검색 분석기 테스트")
+class AnalyzerTest {
+
+    @Test
+    @DisplayName("한글은 bigram, 영문은 단어 단위로 분리하고 경계에서 나눔")
+    void korean_MixedScripts() {
+        assertThat(Analyzers.KOREAN.terms("Spring부트로 REST API 만들기"))
+                .containsExactly("spring", "부트", "트로", "rest", "api", "만들", "들기");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 명사도 질의 bigram을 모두 포함")
+    void korean_ParticleAttachedNoun() {
+        List<String> document = Analyzers.KOREAN.terms("스프링을 배우는 법");
+        List<String> query = Analyzers.KOREAN.terms("스프링");
+
+        assertThat(document).containsAll(query);
+    }
+
+    @Test
+    @DisplayName("NFKC 정규화와 소문자화, 불용어 제거")
+    void korean_NormalizationAndStopwords() {
+        assertThat(Analyzers.KOREAN.terms("Ｋｕｂｅｒｎｅｔｅｓ 입문")).containsExactly("kubernetes", "입문");
+        assertThat(Analyzers.KOREAN.terms("The art of Java 및 JPA")).containsExactly("art", "java", "jpa");
+        assertThat(Analyzers.KOREAN_KEEP_STOPWORDS.terms("the")).containsExactly("the");
+    }
+
+    @Test
+    @DisplayName("토큰 오프셋은 정규화된 원문 위치를 가리킴")
+    void korean_Offsets() {
+        String text = "JPA 성능 튜닝";
+        List<String> slices = new ArrayList<>();
+        Analyzers.KOREAN.analyze(text, token -> slices.add(text.substring(token.startOffset(), token.endOffset())));
+
+        assertThat(slices).containsExactly("JPA", "성능", "튜닝");
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.learnhubproject.search.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("검색 질의 파서 테스트")
+class QueryParserTest {
+
+    @Test
+    @DisplayName("필터, 구문, 자유 검색어를 분리")
+    void parse_FiltersPhrasesAndText() {
+        SearchQuery query = QueryParser.parse(
+                "tag:Spring category:\"Backend 자료\" after:2025-01 before:2025-07-15 \"exact phrase\" jpa 튜닝");
+
+        assertThat(query.tags()).containsExactly("spring");
+        assertThat(query.categories()).containsExactly("backend 자료");
+        assertThat(query.createdFrom()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(query.createdBefore()).isEqualTo(LocalDateTime.of(2025, 7, 15, 0, 0));
+        assertThat(query.phrases()).containsExactly("exact phrase");
+        assertThat(query.text()).isEqualTo("jpa 튜닝");
+        assertThat(query.isStructured()).isTrue();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 접두어와 빈 값은 일반 검색어로 취급")
+    void parse_UnknownKeysAreText() {
+        SearchQuery query = QueryParser.parse("https://spring.io tag: spring");
+
+        assertThat(query.text()).isEqualTo("https://spring.io spring");
+        assertThat(query.isStructured()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 날짜는 IllegalArgumentException")
+    void parse_InvalidDate() {
+        assertThatThrownBy(() -> QueryParser.parse("after:2025-13"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
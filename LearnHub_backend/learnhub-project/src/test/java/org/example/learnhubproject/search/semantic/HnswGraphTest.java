@@ -0,0 +1,120 @@
+package org.example.learnhubproject.search.semantic;
+
+import org.example.learnhubproject.search.SearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("의미 검색 (HNSW, 해싱 임베딩) 테스트")
+class HnswGraphTest {
+
+    private static final int DIMENSION = 32;
+    private static final int K = 10;
+
+    @Test
+    @DisplayName("HNSW 상위 10개가 전수 비교 결과와 95% 이상 일치")
+    void search_RecallAgainstBruteForce() {
+        // given - 군집이 있는 정규화 벡터 (실제 임베딩처럼 균일 분포가 아님)
+        Random random = new Random(42);
+        float[][] centers = new float[20][];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = randomUnit(random, null, 0);
+        }
+        VectorStore store = new VectorStore(DIMENSION, 16);
+        HnswGraph graph = new HnswGraph(store, HnswGraph.DEFAULT_M, HnswGraph.DEFAULT_EF_CONSTRUCTION, 7);
+        int count = 3000;
+        for (int i = 0; i < count; i++) {
+            graph.add(store.add(randomUnit(random, centers[i % centers.length], 0.5f)));
+        }
+
+        // when & then
+        int queries = 100;
+        int found = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnit(random, centers[q % centers.length], 0.5f);
+            int[] expected = bruteForce(store, query, K);
+            int[] actual = graph.search(query, K, UserVectorIndex.EF_SEARCH, node -> true).nodes();
+            found += (int) Arrays.stream(actual).filter(node -> IntStream.of(expected).anyMatch(e -> e == node)).count();
+        }
+        assertThat(found / (double) (queries * K)).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    @DisplayName("제외된 노드는 결과에 나오지 않고 유사도 내림차순으로 반환")
+    void search_FiltersRejectedNodes() {
+        // given
+        Random random = new Random(1);
+        VectorStore store = new VectorStore(DIMENSION, 16);
+        HnswGraph graph = new HnswGraph(store, HnswGraph.DEFAULT_M, HnswGraph.DEFAULT_EF_CONSTRUCTION, 1);
+        for (int i = 0; i < 500; i++) {
+            graph.add(store.add(randomUnit(random, null, 0)));
+        }
+
+        // when
+        HnswGraph.Result result = graph.search(store.get(0), K, UserVectorIndex.EF_SEARCH, node -> node % 2 == 1);
+
+        // then
+        assertThat(result.nodes()).hasSize(K).allMatch(node -> node % 2 == 1);
+        for (int i = 1; i < K; i++) {
+            assertThat(result.scores()[i]).isLessThanOrEqualTo(result.scores()[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 임베딩: 용어 사전으로 표현이 다른 같은 개념(ORM ↔ Hibernate)이 가까워짐")
+    void embedder_ConnectsConceptsThroughGlossary() {
+        // given
+        HashingEmbedder embedder = HashingEmbedder.withGlossary(HashingEmbedder.DEFAULT_DIMENSION, Map.of(
+                "Hibernate", "Java ORM 프레임워크로 객체와 관계형 데이터베이스를 매핑"));
+        float[] hibernate = embedder.embed(document("Hibernate 2차 캐시 설정", List.of("Java")));
+        float[] react = embedder.embed(document("React 상태 관리", List.of("Frontend")));
+        float[] query = embedder.embedQuery("ORM");
+
+        // when & then
+        assertThat(dot(query, hibernate)).isGreaterThan(dot(query, react) + 0.05f);
+        assertThat(dot(embedder.embedQuery("스프링"), embedder.embed(document("스프링을 배우자", List.of()))))
+                .isGreaterThan(0.15f);
+        assertThat(embedder.embedQuery("!!!")).isNull();
+    }
+
+    private static SearchDocument document(String title, List<String> tags) {
+        return new SearchDocument(1L, null, null, title, null, null, null, null, tags);
+    }
+
+    private static int[] bruteForce(VectorStore store, float[] query, int k) {
+        return IntStream.range(0, store.size())
+                .boxed()
+                .sorted((a, b) -> Float.compare(store.dot(b, query), store.dot(a, query)))
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static float[] randomUnit(Random random, float[] center, float noise) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (center == null ? 0 : center[i]) + (float) random.nextGaussian() * (center == null ? 1 : noise);
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.learnhubproject.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자동완성 트라이 테스트")
+class SuggestTrieTest {
+
+    private final SuggestTrie trie = SuggestTrie.build(List.of(
+            new Suggestion("Spring Data JPA 레퍼런스", Suggestion.Type.TITLE, 1),
+            new Suggestion("Spring", Suggestion.Type.TAG, 5),
+            new Suggestion("Spring Boot", Suggestion.Type.TERM, 1),
+            new Suggestion("JPA", Suggestion.Type.TAG, 2),
+            new Suggestion("스프링 부트 입문", Suggestion.Type.TITLE, 1)));
+
+    @Test
+    @DisplayName("접두어가 일치하는 후보를 인기도순(같으면 짧은 문자열 우선)으로 반환")
+    void lookup_OrdersByWeight() {
+        assertThat(trie.lookup("spr", 10)).extracting(Suggestion::text)
+                .containsExactly("Spring", "Spring Boot", "Spring Data JPA 레퍼런스");
+        assertThat(trie.lookup("spr", 1)).extracting(Suggestion::text).containsExactly("Spring");
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치부터도 일치하고, 질의는 정규화 후 조회")
+    void lookup_MatchesWordStartsAndNormalizes() {
+        assertThat(trie.lookup("jpa", 10)).extracting(Suggestion::text)
+                .containsExactly("JPA", "Spring Data JPA 레퍼런스");
+        assertThat(trie.lookup("부트", 10)).extracting(Suggestion::text).containsExactly("스프링 부트 입문");
+        assertThat(trie.lookup(SuggestTrie.normalize("  ＳＰＲＩＮＧ   d"), 10)).extracting(Suggestion::text)
+                .containsExactly("Spring Data JPA 레퍼런스");
+        assertThat(trie.lookup("angular", 10)).isEmpty();
+    }
+}
@@ -1,11 +1,20 @@
 package org.example.learnhubproject.service;
 
+import org.example.learnhubproject.dto.BulkBookmarkUpdateRequest;
+import org.example.learnhubproject.dto.response.BookmarkResponse;
+import org.example.learnhubproject.dto.response.BulkBookmarkResponse;
+import org.example.learnhubproject.dto.response.BulkTagResponse;
+import org.example.learnhubproject.dto.response.CategoryCountResponse;
+import org.example.learnhubproject.dto.response.TagCountResponse;
+import org.example.learnhubproject.dto.response.TagResponse;
 import org.example.learnhubproject.entity.Bookmark;
 import org.example.learnhubproject.entity.Category;
+import org.example.learnhubproject.entity.ReviewLog;
 import org.example.learnhubproject.entity.Tag;
 import org.example.learnhubproject.entity.User;
 import org.example.learnhubproject.repository.BookmarkRepository;
 import org.example.learnhubproject.repository.CategoryRepository;
+import org.example.learnhubproject.repository.ReviewLogRepository;
 import org.example.learnhubproject.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +48,15 @@ BookmarkServiceTest {
     @Autowired
     private BookmarkRepository bookmarkRepository;
 
+    @Autowired
+    private ReviewLogRepository reviewLogRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private CategoryService categoryService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -147,7 +165,11 @@ BookmarkServiceTest {
                         "Hacked Title",
                         "Hacked Description",
                         null,
-                        testCategory.getId()
+                        null,
+                        null,
+                        null,
+                        testCategory.getId(),
+                        false
                 )
         )
                 .isInstanceOf(AccessDeniedException.class)
@@ -225,7 +247,7 @@ BookmarkServiceTest {
         );
 
         // when
-        List<Bookmark> results = bookmarkService.searchByKeyword(testUser.getId(), "Spring");
+        List<BookmarkResponse> results = bookmarkService.searchByKeyword(testUser.getId(), "Spring");
 
         // then
         assertThat(results).hasSize(1);
@@ -240,7 +262,7 @@ BookmarkServiceTest {
 
         // when & then - 예외가 발생하지 않고 정상적으로 빈 결과 반환
         assertThatCode(() -> {
-            List<Bookmark> results = bookmarkService.searchByKeyword(testUser.getId(), maliciousKeyword);
+            List<BookmarkResponse> results = bookmarkService.searchByKeyword(testUser.getId(), maliciousKeyword);
             assertThat(results).isEmpty();
         }).doesNotThrowAnyException();
 
@@ -267,7 +289,7 @@ BookmarkServiceTest {
                 "https://example3.com", "Bookmark 3", "Description 3", null, List.of());
 
         // when
-        List<Bookmark> results = bookmarkService.findByUserIdAndCategoryId(
+        List<BookmarkResponse> results = bookmarkService.findByUserIdAndCategoryId(
                 testUser.getId(), testCategory.getId()
         );
 
@@ -345,7 +367,11 @@ BookmarkServiceTest {
                 "Updated Title",
                 null,
                 null,
-                newCategory.getId()
+                null,
+                null,
+                null,
+                newCategory.getId(),
+                false
         );
 
         // then
@@ -354,9 +380,351 @@ BookmarkServiceTest {
         assertThat(updated.getUrl()).isEqualTo("https://example.com"); // 변경 안 한 값은 유지
     }
 
+    @Test
+    @DisplayName("커서 페이지 조회 - 페이지를 이어 붙이면 전체 목록과 같은 순서")
+    void findPageByUserId_CursorPagination() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            bookmarkService.create(testUser.getId(), testCategory.getId(),
+                    "https://example" + i + ".com", "Bookmark " + i, null, null, List.of("Tag" + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        for (String sort : List.of("latest", "oldest", "title")) {
+            List<Long> expected = bookmarkService.findByUserIdSorted(testUser.getId(), sort).stream()
+                    .map(BookmarkResponse::getId)
+                    .toList();
+
+            // when
+            List<Long> paged = new java.util.ArrayList<>();
+            String cursor = null;
+            do {
+                var page = bookmarkService.findPageByUserId(testUser.getId(), sort, cursor, 2);
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+                page.getItems().forEach(b -> paged.add(b.getId()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertThat(paged).as(sort).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회 - 다른 정렬에서 발급된 커서는 거부")
+    void findPageByUserId_CursorFromOtherSort_ThrowsException() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            bookmarkService.create(testUser.getId(), testCategory.getId(),
+                    "https://example" + i + ".com", "Bookmark " + i, null, null, List.of());
+        }
+        String cursor = bookmarkService.findPageByUserId(testUser.getId(), "latest", null, 1).getNextCursor();
+        Long userId = testUser.getId();
+
+        // when & then
+        assertThatThrownBy(() -> bookmarkService.findPageByUserId(userId, "title", cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("유효하지 않은 커서");
+    }
+
+    @Test
+    @DisplayName("다중 태그 필터 조회 - AND/OR")
+    void findByTagNames_AllAndAny() {
+        // given
+        bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example1.com", "Spring + JPA", null, null, List.of("Spring", "JPA"));
+        bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example2.com", "Spring only", null, null, List.of("Spring"));
+        bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example3.com", "React only", null, null, List.of("React"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<BookmarkResponse> all = bookmarkService.findByTagNames(
+                testUser.getId(), List.of("Spring", "#JPA"), "all");
+        List<BookmarkResponse> any = bookmarkService.findByTagNames(
+                testUser.getId(), List.of("JPA", "React"), "any");
+
+        // then
+        assertThat(all).extracting(BookmarkResponse::getTitle).containsExactly("Spring + JPA");
+        assertThat(all.get(0).getTags()).hasSize(2);
+        assertThat(any).extracting(BookmarkResponse::getTitle)
+                .containsExactlyInAnyOrder("Spring + JPA", "React only");
+    }
+
+    @Test
+    @DisplayName("태그 ID로 조회 - 내 북마크만 최신순으로, 필터와 무관하게 모든 태그 포함")
+    void findByTagId_ReturnsOwnBookmarksWithAllTags() {
+        // given
+        Bookmark older = bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example1.com", "Spring + JPA", null, null, List.of("Spring", "JPA"));
+        Bookmark newer = bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example2.com", "Spring only", null, null, List.of("Spring"));
+        bookmarkService.create(testUser.getId(), testCategory.getId(),
+                "https://example3.com", "React only", null, null, List.of("React"));
+        User otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .role("USER")
+                .build());
+        Category otherCategory = categoryRepository.save(Category.builder()
+                .user(otherUser)
+                .name("남의 카테고리")
+                .isDefault(false)
+                .build());
+        bookmarkService.create(otherUser.getId(), otherCategory.getId(),
+                "https://example4.com", "Other Spring", null, null, List.of("Spring"));
+        entityManager.flush();
+        entityManager.clear();
+        Long springId = tagService.findByName("Spring").getId();
+
+        // when
+        List<BookmarkResponse> results = bookmarkService.findByTagId(testUser.getId(), springId);
+
+        // then
+        assertThat(results).extracting(BookmarkResponse::getId).containsExactly(newer.getId(), older.getId());
+        assertThat(results.get(1).getTags()).extracting(TagResponse::getName)
+                .containsExactlyInAnyOrder("Spring", "JPA");
+        assertThat(results.get(1).getCategory().getName()).isEqualTo(testCategory.getName());
+        assertThat(bookmarkService.findByTagId(testUser.getId(), -1L)).isEmpty();
+    }
+
     // TODO: 추가 테스트 케이스
     // - 존재하지 않는 북마크 조회 시 예외 발생
-    // - 태그별 북마크 조회
     // - 북마크 생성 시 태그 없이 생성
     // - 썸네일 URL 업데이트
+
+    @Test
+    @DisplayName("내 태그 통계 - 태그별 북마크 수를 많은 순으로 조회")
+    void findMyTags_CountsPerTag() {
+        // given
+        bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, List.of("Spring", "Java"));
+        bookmarkService.create(testUser.getId(), testCategory.getId(), "https://docs.spring.io", "Spring Docs",
+                null, null, List.of("Spring"));
+
+        // when
+        List<TagCountResponse> tags = tagService.findMine(testUser.getId());
+
+        // then
+        assertThat(tags).extracting(TagCountResponse::getName, TagCountResponse::getCount)
+                .containsExactly(tuple("Spring", 2L), tuple("Java", 1L));
+    }
+
+    @Test
+    @DisplayName("태그 일괄 추가/교체 - 이미 붙은 태그는 건너뛰고, 남의 북마크가 섞이면 거부")
+    void bulkTags_SkipsExistingLinksAndChecksOwnership() {
+        // given
+        Bookmark first = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, List.of("Spring"));
+        Bookmark second = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://react.dev", "React",
+                null, null, List.of("React"));
+        List<Long> ids = List.of(first.getId(), second.getId());
+
+        // when
+        BulkTagResponse added = bookmarkService.addTags(testUser.getId(), ids, null, List.of("Spring", "#Study"));
+        BulkTagResponse replaced = bookmarkService.replaceTags(testUser.getId(), null, testCategory.getId(),
+                List.of("Study"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(added.getAdded()).isEqualTo(3);
+        assertThat(replaced.getRemoved()).isEqualTo(3);
+        assertThat(replaced.getAdded()).isZero();
+        assertThat(tagService.findMine(testUser.getId())).extracting(TagCountResponse::getName, TagCountResponse::getCount)
+                .containsExactly(tuple("Study", 2L));
+
+        User otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .role("USER")
+                .build());
+        assertThatThrownBy(() -> bookmarkService.removeTags(otherUser.getId(), ids, null, List.of("Study")))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("태그 병합/이름 변경 - 내 북마크 연결만 옮기고, 같은 북마크의 중복 연결은 하나로 합침")
+    void mergeAndRenameTags() {
+        // given
+        Bookmark first = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, List.of("SpringBoot", "Spring"));
+        bookmarkService.create(testUser.getId(), testCategory.getId(), "https://docs.spring.io", "Spring Docs",
+                null, null, List.of("SpringBoot"));
+        User otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .role("USER")
+                .build());
+        Category otherCategory = categoryRepository.save(Category.builder()
+                .user(otherUser)
+                .name("남의 카테고리")
+                .isDefault(false)
+                .build());
+        bookmarkService.create(otherUser.getId(), otherCategory.getId(), "https://start.spring.io", "Initializr",
+                null, null, List.of("SpringBoot"));
+        Tag source = tagService.findByName("SpringBoot");
+        Tag target = tagService.findByName("Spring");
+
+        // when
+        tagService.merge(testUser.getId(), List.of(source.getId()), target.getId());
+        TagResponse renamed = tagService.rename(testUser.getId(), target.getId(), "Spring Framework");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(tagService.findMine(testUser.getId())).extracting(TagCountResponse::getName, TagCountResponse::getCount)
+                .containsExactly(tuple("Spring Framework", 2L));
+        assertThat(bookmarkService.findById(first.getId()).getTags()).extracting(Bookmark.TagInfo::getId)
+                .containsExactly(renamed.getId());
+        // 다른 사용자의 연결과 공유 태그는 그대로
+        assertThat(tagService.findMine(otherUser.getId())).extracting(TagCountResponse::getName, TagCountResponse::getCount)
+                .containsExactly(tuple("SpringBoot", 1L));
+        assertThat(tagService.findById(source.getId()).getName()).isEqualTo("SpringBoot");
+        assertThat(tagService.findById(target.getId()).getName()).isEqualTo("Spring");
+    }
+
+    @Test
+    @DisplayName("태그 정규화 이름 - 대소문자/전각 표기가 달라도 같은 태그로 저장하고 필터링")
+    void tagNames_AreCanonicalized() {
+        // given
+        Bookmark first = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://dev.java", "Java",
+                null, null, List.of("Java", "java"));
+        Bookmark second = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://openjdk.org", "JDK",
+                null, null, List.of("JAVA"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<BookmarkResponse> results = bookmarkService.findByTagNames(testUser.getId(), List.of("ｊａｖａ"), "all");
+
+        // then
+        assertThat(bookmarkService.findById(first.getId()).getTags()).hasSize(1);
+        assertThat(bookmarkService.findById(second.getId()).getTags()).extracting(Bookmark.TagInfo::getName)
+                .containsExactly("Java");
+        assertThat(results).extracting(BookmarkResponse::getTitle).containsExactlyInAnyOrder("Java", "JDK");
+    }
+
+    @Test
+    @DisplayName("카테고리 삭제 - 속한 북마크를 한 번에 기본 카테고리로 이동")
+    void deleteCategory_MovesBookmarksToDefault() {
+        // given
+        Bookmark first = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, null);
+        Bookmark second = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://react.dev", "React",
+                null, null, null);
+
+        // when
+        categoryService.delete(testCategory.getId(), testUser.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Category defaultCategory = categoryRepository.findByUserIdAndIsDefault(testUser.getId(), true).orElseThrow();
+        assertThat(categoryRepository.findById(testCategory.getId())).isEmpty();
+        assertThat(bookmarkRepository.findAllById(List.of(first.getId(), second.getId())))
+                .allMatch(bookmark -> bookmark.getCategory().getId().equals(defaultCategory.getId()));
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 - 카테고리별 북마크 수와 최근 북마크 시각 (북마크 없는 카테고리는 0)")
+    void findCategoriesWithCounts() {
+        // given
+        Category empty = categoryRepository.save(Category.builder()
+                .user(testUser)
+                .name("빈 카테고리")
+                .isDefault(false)
+                .build());
+        bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, null);
+        bookmarkService.create(testUser.getId(), testCategory.getId(), "https://react.dev", "React",
+                null, null, null);
+
+        // when
+        List<CategoryCountResponse> categories = categoryService.findWithCountsByUserId(testUser.getId());
+
+        // then
+        assertThat(categories).extracting(CategoryCountResponse::getId, CategoryCountResponse::getBookmarkCount)
+                .containsExactly(tuple(testCategory.getId(), 2L), tuple(empty.getId(), 0L));
+        assertThat(categories.get(0).getLatestBookmarkAt()).isNotNull();
+        assertThat(categories.get(1).getLatestBookmarkAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("북마크 일괄 이동/수정/삭제 - 남의 북마크는 NOT_FOUND, 태그 연결과 복습 기록도 함께 삭제")
+    void bulkBookmarks_ReportPerItemOutcomes() {
+        // given
+        Category target = categoryRepository.save(Category.builder()
+                .user(testUser)
+                .name("옮길 카테고리")
+                .isDefault(false)
+                .build());
+        Bookmark first = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, List.of("Spring", "Java"));
+        Bookmark second = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://react.dev", "React",
+                null, null, List.of("Spring"));
+        reviewLogRepository.save(ReviewLog.builder().bookmark(first).user(testUser).build());
+
+        User otherUser = userRepository.save(User.builder()
+                .email("other@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .role("USER")
+                .build());
+        Category otherCategory = categoryRepository.save(Category.builder()
+                .user(otherUser)
+                .name("남의 카테고리")
+                .isDefault(false)
+                .build());
+        Bookmark others = bookmarkService.create(otherUser.getId(), otherCategory.getId(), "https://vuejs.org", "Vue",
+                null, null, null);
+        List<Long> ids = List.of(first.getId(), second.getId(), others.getId());
+
+        // when
+        BulkBookmarkResponse moved = bookmarkService.moveBulk(testUser.getId(), ids, null, target.getId());
+        BulkBookmarkResponse updated = bookmarkService.updateBulk(testUser.getId(), List.of(
+                BulkBookmarkUpdateRequest.Item.builder().id(first.getId()).title("Spring 문서").build(),
+                BulkBookmarkUpdateRequest.Item.builder().id(second.getId()).description("프론트엔드").build(),
+                BulkBookmarkUpdateRequest.Item.builder().id(others.getId()).title("가로채기").build(),
+                BulkBookmarkUpdateRequest.Item.builder().id(first.getId()).title("Spring 공식 문서").build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(moved.getResults()).extracting(BulkBookmarkResponse.ItemResult::getId,
+                        BulkBookmarkResponse.ItemResult::getStatus)
+                .containsExactly(tuple(first.getId(), BulkBookmarkResponse.Status.MOVED),
+                        tuple(second.getId(), BulkBookmarkResponse.Status.MOVED),
+                        tuple(others.getId(), BulkBookmarkResponse.Status.NOT_FOUND));
+        // 중복 ID는 마지막 항목만 한 번 반영
+        assertThat(updated.getResults()).extracting(BulkBookmarkResponse.ItemResult::getId,
+                        BulkBookmarkResponse.ItemResult::getStatus)
+                .containsExactly(tuple(first.getId(), BulkBookmarkResponse.Status.UPDATED),
+                        tuple(second.getId(), BulkBookmarkResponse.Status.UPDATED),
+                        tuple(others.getId(), BulkBookmarkResponse.Status.NOT_FOUND));
+        assertThat(updated.getSucceeded()).isEqualTo(2);
+        assertThat(updated.getFailed()).isEqualTo(1);
+        Bookmark reloaded = bookmarkRepository.findById(first.getId()).orElseThrow();
+        assertThat(reloaded.getCategory().getId()).isEqualTo(target.getId());
+        assertThat(reloaded.getTitle()).isEqualTo("Spring 공식 문서");
+        Bookmark described = bookmarkRepository.findById(second.getId()).orElseThrow();
+        assertThat(described.getTitle()).isEqualTo("React");
+        assertThat(described.getDescription()).isEqualTo("프론트엔드");
+        Bookmark untouched = bookmarkRepository.findById(others.getId()).orElseThrow();
+        assertThat(untouched.getCategory().getId()).isEqualTo(otherCategory.getId());
+        assertThat(untouched.getTitle()).isEqualTo("Vue");
+
+        // when - 카테고리 기준 삭제
+        BulkBookmarkResponse deleted = bookmarkService.deleteBulk(testUser.getId(), null, target.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(deleted.getSucceeded()).isEqualTo(2);
+        assertThat(bookmarkRepository.findAllById(ids)).extracting(Bookmark::getId).containsExactly(others.getId());
+        assertThat(reviewLogRepository.count()).isZero();
+        assertThat(tagService.findMine(testUser.getId())).isEmpty();
+    }
 }
@@ -0,0 +1,45 @@
+package org.example.learnhubproject.service;
+
+import org.example.learnhubproject.repository.projection.TagCountRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인기 태그 인메모리 순위 테스트")
+class PopularTagTopKTest {
+
+    @Test
+    @DisplayName("추적 중인 태그 증감은 메모리에서 순위를 바꾸고, 순위 밖 태그가 끼어들 수 있으면 다시 읽기를 요구")
+    void top_AppliesDeltasAndDetectsUntrackedCandidates() {
+        // given - 상위 3개만 추적 (4번째 이하 태그는 최대 5회)
+        PopularTagTopK topK = new PopularTagTopK(3);
+        topK.load(List.of(row(1L, "Spring", 10), row(2L, "JPA", 8), row(3L, "React", 5)));
+
+        // when & then
+        topK.apply(Map.of(3L, 4L));
+        assertThat(ids(topK.top(2).orElseThrow())).containsExactly(1L, 3L);
+
+        // 순위 밖 태그가 늘어도 상한(5 + 1)이 2위보다 작으면 메모리 결과 유지
+        topK.apply(Map.of(9L, 1L));
+        assertThat(topK.top(2)).isPresent();
+
+        // 감소로 3위(JPA 4)가 순위 밖 상한(6)보다 작아지면 다시 읽기
+        topK.apply(Map.of(2L, -4L));
+        assertThat(topK.top(3)).isEmpty();
+
+        topK.invalidate();
+        assertThat(topK.top(1)).isEmpty();
+    }
+
+    private static TagCountRow row(Long id, String name, long count) {
+        return new TagCountRow(id, name, count);
+    }
+
+    private static List<Long> ids(List<TagCountRow> rows) {
+        return rows.stream().map(TagCountRow::id).toList();
+    }
+}
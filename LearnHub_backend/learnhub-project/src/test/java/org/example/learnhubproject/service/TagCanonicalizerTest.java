@@ -0,0 +1,180 @@
+package org.example.learnhubproject.service;
+
+import org.example.learnhubproject.entity.Bookmark;
+import org.example.learnhubproject.entity.BookmarkTag;
+import org.example.learnhubproject.entity.Category;
+import org.example.learnhubproject.entity.Tag;
+import org.example.learnhubproject.entity.TagUsage;
+import org.example.learnhubproject.entity.User;
+import org.example.learnhubproject.repository.BookmarkTagRepository;
+import org.example.learnhubproject.repository.CategoryRepository;
+import org.example.learnhubproject.repository.TagRepository;
+import org.example.learnhubproject.repository.TagUsageRepository;
+import org.example.learnhubproject.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 태그 정규화 이름 채우기 테스트
+ * 배치를 별도 트랜잭션(REQUIRES_NEW)에서 처리하므로 테스트 트랜잭션 없이 커밋된 데이터로 실행하고 직접 정리합니다
+ */
+@SpringBootTest
+@DisplayName("태그 정규화 이름 채우기 테스트")
+class TagCanonicalizerTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagUsageRepository tagUsageRepository;
+
+    @Autowired
+    private BookmarkTagRepository bookmarkTagRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private TagUsageService tagUsageService;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User testUser;
+    private Category testCategory;
+    private final List<Long> tagIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("canonical-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .role("USER")
+                .build());
+        testCategory = categoryRepository.save(Category.builder()
+                .user(testUser)
+                .name("정규화 테스트")
+                .isDefault(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.delete(testUser.getId());
+        tagIds.stream()
+                .filter(tagRepository::existsById)
+                .forEach(tagService::delete);
+    }
+
+    @Test
+    @DisplayName("정규화 이름이 없는 기존 태그 - 처음 나온 태그는 이름을 채우고, 같은 정규화 이름의 태그는 모든 연결과 함께 병합")
+    void canonicalize_FillsAndMergesLegacyTags() {
+        // given - V6 이전에 만들어진 "Java"/"java" 태그 (다른 테스트의 태그와 겹치지 않도록 접미어 사용)
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Tag upper = legacyTag("Java-" + suffix.toUpperCase());
+        Tag lower = legacyTag("java-" + suffix);
+        Tag single = legacyTag("Kotlin-" + suffix);
+
+        Bookmark both = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://dev.java", "Java",
+                null, null, List.of());
+        Bookmark lowerOnly = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://openjdk.org", "JDK",
+                null, null, List.of());
+        link(both, upper);
+        link(both, lower);
+        link(lowerOnly, lower);
+        link(lowerOnly, single);
+
+        // when - 배치 경계를 넘어 기존 태그를 찾는지도 확인하도록 한 번에 하나씩 처리
+        TagCanonicalizer canonicalizer = new TagCanonicalizer(tagRepository, tagService, transactionManager);
+        ReflectionTestUtils.setField(canonicalizer, "batchSize", 1);
+        canonicalizer.canonicalizeExistingTags();
+
+        // then - 먼저 만든 태그가 정규화 이름을 갖고, 뒤의 중복 태그는 삭제
+        Tag owner = tagRepository.findByCanonicalName(Tag.canonicalize(upper.getName())).orElseThrow();
+        assertThat(owner.getId()).isEqualTo(upper.getId());
+        assertThat(tagRepository.existsById(lower.getId())).isFalse();
+        assertThat(tagRepository.findById(single.getId()).orElseThrow().getCanonicalName())
+                .isEqualTo(Tag.canonicalize(single.getName()));
+
+        // 같은 북마크의 중복 연결은 하나로 합치고, 나머지 연결은 남은 태그로 이동
+        assertThat(tagIdsOf(both)).containsExactly(upper.getId());
+        assertThat(tagIdsOf(lowerOnly)).containsExactlyInAnyOrder(upper.getId(), single.getId());
+        assertThat(usage(upper)).isEqualTo(2L);
+        assertThat(tagUsageRepository.findById(lower.getId())).isEmpty();
+        assertThat(usage(single)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("정규화 이름이 없는 기존 태그 - 겹치는 태그가 없으면 병합 없이 NFKC + 소문자 이름만 채움")
+    void canonicalize_FillsLegacyTagWithoutDuplicates() {
+        // given - 전각 문자로 저장된 태그
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Tag fullWidth = legacyTag("ＳＰＲＩＮＧ-" + suffix);
+        Bookmark bookmark = bookmarkService.create(testUser.getId(), testCategory.getId(), "https://spring.io", "Spring",
+                null, null, List.of());
+        link(bookmark, fullWidth);
+
+        // when
+        TagCanonicalizer canonicalizer = new TagCanonicalizer(tagRepository, tagService, transactionManager);
+        ReflectionTestUtils.setField(canonicalizer, "batchSize", 500);
+        canonicalizer.canonicalizeExistingTags();
+
+        // then - 태그와 연결은 그대로 두고 정규화 이름만 채우므로 반각 표기로도 같은 태그를 찾음
+        assertThat(tagRepository.findById(fullWidth.getId()).orElseThrow().getCanonicalName())
+                .isEqualTo("spring-" + suffix);
+        assertThat(tagService.findByName("Spring-" + suffix).getId()).isEqualTo(fullWidth.getId());
+        assertThat(tagIdsOf(bookmark)).containsExactly(fullWidth.getId());
+        assertThat(usage(fullWidth)).isEqualTo(1L);
+    }
+
+    /**
+     * 정규화 이름이 비어 있는 태그 (엔티티 저장 시 채워지므로 저장 후 비움)
+     */
+    private Tag legacyTag(String name) {
+        Tag tag = tagRepository.save(Tag.builder().name(name).build());
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> tagRepository.updateCanonicalName(tag.getId(), null));
+        tagIds.add(tag.getId());
+        return tag;
+    }
+
+    private void link(Bookmark bookmark, Tag tag) {
+        bookmarkTagRepository.save(BookmarkTag.builder().bookmark(bookmark).tag(tag).build());
+        tagUsageService.increment(List.of(tag.getId()));
+    }
+
+    private List<Long> tagIdsOf(Bookmark bookmark) {
+        return bookmarkTagRepository.findByBookmarkId(bookmark.getId()).stream()
+                .map(bookmarkTag -> bookmarkTag.getTag().getId())
+                .toList();
+    }
+
+    private long usage(Tag tag) {
+        return tagUsageRepository.findById(tag.getId()).map(TagUsage::getUsageCount).orElse(0L);
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.learnhubproject.service;
+
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.learnhubproject.search.BookmarkSearchIndex;
+import org.example.learnhubproject.search.SearchDocument;
+import org.example.learnhubproject.search.SearchDocumentLoader;
+import org.example.learnhubproject.search.SearchIndexSnapshots;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * JFR jdk.VirtualThreadPinned 이벤트로 가상 스레드 pinning 여부를 검사
+ * (Java 21 이상 toolchain에서만 실행: ./gradlew test -PjavaVersion=21)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("가상 스레드 pinning 검사")
+class VirtualThreadPinningTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gemini", exchange -> {
+            byte[] body = "{\"candidates\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("검출기 자체 검증 - synchronized 내부 블로킹은 pinning으로 검출")
+    void detector_DetectsSynchronizedBlocking() throws Exception {
+        // Java 24부터(JEP 491) synchronized는 더 이상 pinning을 일으키지 않음
+        assumeTrue(Runtime.version().feature() < 24);
+        Object lock = new Object();
+
+        List<RecordedEvent> events = recordPinning(() -> {
+            synchronized (lock) {
+                Thread.sleep(20);
+            }
+            return null;
+        });
+
+        assertThat(events).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("AI 분석용 RestTemplate 호출은 캐리어 스레드를 고정하지 않음")
+    void restTemplate_DoesNotPin() throws Exception {
+        RestTemplate restTemplate = AIAnalysisService.createRestTemplate();
+
+        List<RecordedEvent> events = recordPinning(() -> {
+            for (int i = 0; i < 5; i++) {
+                restTemplate.getForObject(baseUrl + "/gemini", String.class);
+            }
+            return null;
+        });
+
+        assertThat(events)
+                .as("pinned stack traces: %s", events.stream().map(RecordedEvent::getStackTrace).toList())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 색인 첫 생성(DB 조회) 동안 대기하는 가상 스레드도 캐리어 스레드를 고정하지 않음")
+    void coldSearch_DoesNotPin() throws Exception {
+        // DB 조회 대신 잠깐 블로킹하는 로더 (같은 사용자를 동시에 검색하므로 나머지는 색인 락에서 대기)
+        SearchDocumentLoader loader = new SearchDocumentLoader(null, null) {
+            @Override
+            public List<SearchDocument> loadByUserId(Long userId) {
+                sleep();
+                return List.of(new SearchDocument(1L, LocalDateTime.now(), 1L, "Spring Boot 시작하기", null, null,
+                        null, "https://spring.io", List.of("Spring")));
+            }
+
+            @Override
+            public List<SearchDocument> loadByIds(Collection<Long> bookmarkIds) {
+                sleep();
+                return List.of();
+            }
+        };
+        PlatformTransactionManager transactionManager = new NoOpTransactionManager();
+        BookmarkSearchIndex index = new BookmarkSearchIndex(loader, null,
+                new SearchIndexSnapshots(null, transactionManager), transactionManager);
+
+        List<RecordedEvent> events = recordPinning(() -> index.search(1L, "spring"));
+
+        assertThat(events)
+                .as("pinned stack traces: %s", events.stream().map(RecordedEvent::getStackTrace).toList())
+                .isEmpty();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 작업을 가상 스레드 여러 개에서 실행하는 동안 발생한 pinning 이벤트를 수집
+     */
+    private List<RecordedEvent> recordPinning(PinningWorkload workload) throws Exception {
+        Path dump = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned")
+                    .withThreshold(Duration.ZERO)
+                    .withStackTrace();
+            recording.start();
+
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            try {
+                List<Future<Object>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    futures.add(executor.submit(workload::run));
+                }
+                for (Future<Object> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump).stream()
+                    .filter(e -> e.getEventType().getName().equals("jdk.VirtualThreadPinned"))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    /**
+     * Java 17 소스 레벨에서도 컴파일되도록 리플렉션으로 생성
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+
+    @FunctionalInterface
+    private interface PinningWorkload {
+        Object run() throws Exception;
+    }
+}
@@ -52,7 +52,7 @@ function BookmarkCard({ bookmark, onDelete, onEdit, onViewDetail, onCopyLink })
 
   const displayTitle = bookmark.metaTitle || bookmark.title || 'Untitled';
   const displayDescription = bookmark.metaDescription || bookmark.description;
-  const thumbnailUrl = bookmark.imageUrl || bookmark.s3ThumbnailUrl;
+  const thumbnailUrl = bookmark.imageUrl || bookmark.thumbnailUrl || bookmark.s3ThumbnailUrl;
 
   return (
     <div className="group relative bg-white rounded-2xl border border-neutral-200 hover:border-primary-300 hover:shadow-lg hover:scale-[1.02] transition-all duration-300 overflow-hidden cursor-pointer">
@@ -4,6 +4,8 @@ import TechTermTooltip from './TechTermTooltip';
 function BookmarkDetailModal({ isOpen, onClose, bookmark }) {
   if (!isOpen || !bookmark) return null;
 
+  const thumbnailUrl = bookmark.thumbnailUrl || bookmark.s3ThumbnailUrl;
+
   const getHostname = (url) => {
     try {
       return new URL(url).hostname.replace('www.', '');
@@ -71,10 +73,10 @@ function BookmarkDetailModal({ isOpen, onClose, bookmark }) {
         {/* Content */}
         <div className="p-6 overflow-y-auto max-h-[calc(90vh-180px)]">
           {/* Thumbnail */}
-          {bookmark.s3ThumbnailUrl && (
+          {thumbnailUrl && (
             <div className="mb-6 rounded-xl overflow-hidden border border-neutral-200">
               <img
-                src={bookmark.s3ThumbnailUrl}
+                src={thumbnailUrl}
                 alt={bookmark.title}
                 className="w-full h-56 object-cover"
               />
@@ -16,6 +16,7 @@ function Dashboard() {
   const [bookmarks, setBookmarks] = useState([]);
   const [categories, setCategories] = useState([]);
   const [popularTags, setPopularTags] = useState([]);
+  const [tagFacets, setTagFacets] = useState(null);
   const [selectedCategory, setSelectedCategory] = useState(null);
   const [selectedTags, setSelectedTags] = useState([]);
   const [searchQuery, setSearchQuery] = useState('');
@@ -49,6 +50,7 @@ function Dashboard() {
       ]);
       setBookmarks(Array.isArray(bookmarksRes.data) ? bookmarksRes.data : []);
       setCategories(Array.isArray(categoriesRes.data) ? categoriesRes.data : []);
+      fetchFacets();
 
       // 인기 태그 로드 시도
       try {
@@ -78,6 +80,22 @@ function Dashboard() {
     }
   };
 
+  // 태그 필터 개수는 서버 집계 사용 (실패 시 불러온 북마크에서 직접 계산)
+  // 검색어가 없으면 사용자별로 캐시되는 내 태그 통계를 사용
+  const fetchFacets = async (keyword) => {
+    try {
+      if (!keyword) {
+        const tagsRes = await tagAPI.getMine();
+        setTagFacets(Array.isArray(tagsRes.data) ? tagsRes.data : null);
+        return;
+      }
+      const facetsRes = await bookmarkAPI.getFacets(keyword);
+      setTagFacets(Array.isArray(facetsRes.data?.tags) ? facetsRes.data.tags : null);
+    } catch {
+      setTagFacets(null);
+    }
+  };
+
   const handleLogout = () => {
     localStorage.removeItem('token');
     navigate('/login');
@@ -90,6 +108,7 @@ function Dashboard() {
       try {
         const response = await bookmarkAPI.search(query);
         setBookmarks(response.data);
+        fetchFacets(query);
       } catch (error) {
         console.error('Search failed:', error);
       }
@@ -155,7 +174,10 @@ function Dashboard() {
     if (confirmModalType === 'bookmark') {
       try {
         await bookmarkAPI.delete(deletingBookmarkId);
+        const deletedCategoryId = bookmarks.find((b) => b.id === deletingBookmarkId)?.category?.id;
         setBookmarks(bookmarks.filter((b) => b.id !== deletingBookmarkId));
+        setCategories(categories.map((c) =>
+          c.id === deletedCategoryId ? { ...c, bookmarkCount: Math.max(0, (c.bookmarkCount ?? 1) - 1) } : c));
         setShowConfirmModal(false);
         setDeletingBookmarkId(null);
         setToast({ isVisible: true, message: '북마크가 삭제되었습니다.', type: 'success' });
@@ -167,6 +189,8 @@ function Dashboard() {
       try {
         await categoryAPI.delete(deletingCategoryId);
         setCategories(categories.filter((c) => c.id !== deletingCategoryId));
+        // 삭제한 카테고리의 북마크가 기본 카테고리로 옮겨졌으므로 목록과 개수를 다시 불러옴
+        fetchData();
         if (selectedCategory === deletingCategoryId) {
           setSelectedCategory(null);
         }
@@ -207,6 +231,9 @@ function Dashboard() {
 
   // 모든 태그 추출 (필터용)
   const allTags = useMemo(() => {
+    if (tagFacets) {
+      return tagFacets;
+    }
     const tagMap = new Map();
     bookmarks.forEach(b => {
       b.tags?.forEach(t => {
@@ -218,7 +245,7 @@ function Dashboard() {
       });
     });
     return Array.from(tagMap.values()).sort((a, b) => b.count - a.count);
-  }, [bookmarks]);
+  }, [bookmarks, tagFacets]);
 
   return (
     <div className="min-h-screen bg-neutral-50">
@@ -423,7 +450,7 @@ function Dashboard() {
                         <span className={`text-xs px-2 py-0.5 rounded-full ${
                           selectedCategory === category.id ? 'bg-primary-200 text-primary-800' : 'bg-neutral-200 text-neutral-600'
                         }`}>
-                          {bookmarks.filter((b) => b.category?.id === category.id).length}
+                          {category.bookmarkCount ?? bookmarks.filter((b) => b.category?.id === category.id).length}
                         </span>
                       </button>
                       {/* Edit/Delete buttons on hover */}
@@ -578,7 +605,7 @@ function Dashboard() {
                     selectedCategory === category.id ? 'bg-primary-50 text-primary-700' : 'text-neutral-600 hover:bg-neutral-50'
                   }`}
                 >
-                  {category.name} ({bookmarks.filter(b => b.category?.id === category.id).length})
+                  {category.name} ({category.bookmarkCount ?? bookmarks.filter(b => b.category?.id === category.id).length})
                 </button>
               ))}
               <button
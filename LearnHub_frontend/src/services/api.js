@@ -53,6 +53,23 @@ export const bookmarkAPI = {
   },
   delete: (id) => api.delete(`/bookmarks/${id}`),
   search: (keyword) => api.get(`/bookmarks/search?keyword=${encodeURIComponent(keyword)}`),
+  // 관련도순 검색 - highlight=true면 설명 전문 대신 하이라이트 위치와 스니펫을 받음
+  searchRanked: (keyword, { page = 0, size = 20, highlight = true } = {}) =>
+    api.get('/bookmarks/search/ranked', { params: { keyword, page, size, highlight } }),
+  // 태그/카테고리/생성 월별 개수 (검색어가 없으면 전체 북마크 기준)
+  getFacets: (keyword) => api.get('/bookmarks/facets', { params: keyword ? { keyword } : {} }),
+  // 태그/제목이 비슷한 관련 북마크 추천
+  getRelated: (id, limit = 5) => api.get(`/bookmarks/${id}/related`, { params: { limit } }),
+  // 여러 북마크 태그 일괄 추가/제거/교체 - target은 { bookmarkIds } 또는 { categoryId }
+  addTagsBulk: (target, tags) => api.post('/bookmarks/bulk/tags', { ...target, tags }),
+  removeTagsBulk: (target, tags) => api.post('/bookmarks/bulk/tags/remove', { ...target, tags }),
+  replaceTagsBulk: (target, tags) => api.put('/bookmarks/bulk/tags', { ...target, tags }),
+  // 여러 북마크 일괄 이동/삭제/수정 - 응답의 results에 북마크별 결과(MOVED/DELETED/UPDATED/NOT_FOUND)
+  moveBulk: (target, targetCategoryId) => api.post('/bookmarks/bulk/move', { ...target, targetCategoryId }),
+  deleteBulk: (target) => api.post('/bookmarks/bulk/delete', target),
+  updateBulk: (items) => api.patch('/bookmarks/bulk', { items }),
+  // 검색어 자동완성 - 입력 중에는 전체 검색 대신 이 API 사용
+  suggest: (q, limit = 10) => api.get(`/suggest?q=${encodeURIComponent(q)}&limit=${limit}`),
   // AI 분석 API - URL 콘텐츠를 AI로 분석하여 제목, 설명, 태그 추출
   analyzeUrl: (url) => api.post('/bookmarks/analyze', { url }),
 };
@@ -71,6 +88,11 @@ export const categoryAPI = {
 export const tagAPI = {
   getAll: () => api.get('/tags'),
   getPopular: () => api.get('/tags/popular'),
+  // 내 북마크의 태그별 개수 (많은 순)
+  getMine: () => api.get('/tags/mine'),
+  // 내 북마크의 연결만 새 이름의 태그로 옮김 (같은 이름의 태그가 있으면 그 태그로 합쳐짐)
+  rename: (id, tagName) => api.put(`/tags/${id}`, { tagName }),
+  merge: (targetId, sourceIds) => api.post(`/tags/${targetId}/merge`, { sourceIds }),
 };
 
 // Tech Glossary API